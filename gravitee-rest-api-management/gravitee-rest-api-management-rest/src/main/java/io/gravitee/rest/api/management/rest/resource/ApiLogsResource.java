@@ -34,6 +34,7 @@ import javax.inject.Inject;
 import javax.ws.rs.*;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static java.lang.String.format;
 
@@ -105,4 +106,28 @@ public class ApiLogsResource extends AbstractResource {
                 .header(HttpHeaders.CONTENT_DISPOSITION, format("attachment;filename=logs-%s-%s.csv", api, System.currentTimeMillis()))
                 .build();
     }
+
+    @GET
+    @Path("export/stream")
+    @Produces(MediaType.TEXT_PLAIN)
+    @ApiOperation(value = "Export all the API logs of the time range as CSV")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "API logs as CSV"),
+            @ApiResponse(code = 500, message = "Internal server error")})
+    @Permissions({@Permission(value = RolePermission.API_LOG, acls = RolePermissionAction.READ)})
+    public Response exportAPILogsAsCSVStream(
+            @PathParam("api") String api,
+            @BeanParam LogsParam param) {
+        param.validate();
+
+        LogQuery logQuery = new LogQuery();
+        logQuery.setQuery(param.getQuery());
+        logQuery.setFrom(param.getFrom());
+        logQuery.setTo(param.getTo());
+
+        return Response
+                .ok((StreamingOutput) output -> logsService.exportByApiAsCsv(api, logQuery, output))
+                .header(HttpHeaders.CONTENT_DISPOSITION, format("attachment;filename=logs-%s-%s.csv", api, System.currentTimeMillis()))
+                .build();
+    }
 }
@@ -24,6 +24,7 @@ import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.documentation.PageQuery;
 import io.gravitee.rest.api.model.permissions.RolePermission;
 import io.gravitee.rest.api.model.permissions.RolePermissionAction;
+import io.gravitee.rest.api.service.ApiDataAccessSnapshot;
 import io.gravitee.rest.api.service.ApiService;
 import io.gravitee.rest.api.service.GroupService;
 import io.gravitee.rest.api.service.PageService;
@@ -39,7 +40,9 @@ import javax.ws.rs.container.ResourceContext;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 import java.net.URI;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -85,6 +88,11 @@ public class ApiPagesResource extends AbstractResource {
         if (Visibility.PUBLIC.equals(apiEntity.getVisibility())
                 || hasPermission(RolePermission.API_DOCUMENTATION, api, RolePermissionAction.READ)) {
 
+            final boolean admin = isAuthenticated() && isAdmin();
+            final ApiDataAccessSnapshot accessSnapshot = groupService.getApiDataAccessSnapshot(apiEntity, getAuthenticatedUserOrNull());
+            // the documentation permissions of the user on the API only depend on the publication of the page
+            final Map<Boolean, Boolean> displayableByPublication = new HashMap<>();
+
             return pageService
                     .search(new PageQuery.Builder()
                             .api(api)
@@ -96,7 +104,10 @@ public class ApiPagesResource extends AbstractResource {
                             .build()
                             , translated?acceptedLocale:null)
                     .stream()
-                    .filter(page -> isDisplayable(apiEntity, page.isPublished(), page.getExcludedGroups()))
+                    .filter(page -> admin || (
+                            displayableByPublication.computeIfAbsent(page.isPublished(),
+                                    published -> pageService.isDisplayable(apiEntity, published, getAuthenticatedUserOrNull()))
+                            && groupService.isUserAuthorizedToAccessApiData(accessSnapshot, page.getExcludedGroups())))
                     .map(page -> {
                         // check if the page is used as GeneralCondition by an active Plan
                         // and update the PageEntity to transfer the information to the FrontEnd
@@ -200,12 +211,4 @@ public class ApiPagesResource extends AbstractResource {
         pageEntity.setLastContributor(getAuthenticatedUser());
         return pageService.importFiles(api, pageEntity);
     }
-
-    private boolean isDisplayable(ApiEntity api, boolean isPagePublished, List<String> excludedGroups) {
-        return (isAuthenticated() && isAdmin())
-                ||
-                ( pageService.isDisplayable(api, isPagePublished, getAuthenticatedUserOrNull()) &&
-                        groupService.isUserAuthorizedToAccessApiData(api, excludedGroups, getAuthenticatedUserOrNull()));
-
-    }
 }
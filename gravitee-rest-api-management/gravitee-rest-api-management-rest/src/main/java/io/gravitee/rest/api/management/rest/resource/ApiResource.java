@@ -447,9 +447,11 @@ public class ApiResource extends AbstractResource {
             @QueryParam("version") @DefaultValue("default") String version,
             @QueryParam("exclude") @DefaultValue("") String exclude) {
         final ApiEntity apiEntity = apiService.findById(api);
-        final String apiDefinition = apiService.exportAsJson(api, version, exclude.split(","));
+        // serialized before the response is committed, so that an error is not sent as a truncated 200
+        final ByteArrayOutputStream export = new ByteArrayOutputStream();
+        apiService.exportAsJson(api, version, export, exclude.split(","));
         return Response
-                .ok(apiDefinition)
+                .ok((StreamingOutput) export::writeTo)
                 .header(HttpHeaders.CONTENT_DISPOSITION, format("attachment;filename=%s", getExportFilename(apiEntity)))
                 .build();
     }
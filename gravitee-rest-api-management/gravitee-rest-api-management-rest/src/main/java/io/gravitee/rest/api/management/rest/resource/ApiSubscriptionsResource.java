@@ -39,9 +39,13 @@ import javax.ws.rs.container.ResourceContext;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import java.net.URI;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -97,8 +101,13 @@ public class ApiSubscriptionsResource extends AbstractResource {
             for (String e : expand) {
                 switch (e) {
                     case "keys":
+                        final Map<String, Set<ApiKeyEntity>> keysBySubscription = apiKeyService.findBySubscriptions(
+                                subscriptions.getContent()
+                                        .stream()
+                                        .map(SubscriptionEntity::getId)
+                                        .collect(Collectors.toList()));
                         subscriptions.getContent().forEach(subscriptionEntity -> {
-                            final List<String> keys = apiKeyService.findBySubscription(subscriptionEntity.getId())
+                            final List<String> keys = keysBySubscription.getOrDefault(subscriptionEntity.getId(), Collections.emptySet())
                                     .stream()
                                     .filter(apiKeyEntity -> !apiKeyEntity.isExpired() && !apiKeyEntity.isRevoked())
                                     .map(ApiKeyEntity::getKey)
@@ -167,6 +176,25 @@ public class ApiSubscriptionsResource extends AbstractResource {
                 .build();
     }
 
+    @GET
+    @Path("export/stream")
+    @Produces(MediaType.TEXT_PLAIN)
+    @ApiOperation(value = "Export all the API subscriptions as CSV")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "API subscriptions as CSV"),
+            @ApiResponse(code = 500, message = "Internal server error")})
+    @Permissions({@Permission(value = RolePermission.API_SUBSCRIPTION, acls = RolePermissionAction.READ)})
+    public Response exportAPISubscriptionsAsCSVStream(
+            @BeanParam SubscriptionParam subscriptionParam) {
+        SubscriptionQuery subscriptionQuery = subscriptionParam.toQuery();
+        subscriptionQuery.setApi(subscriptionParam.getApi());
+
+        return Response
+                .ok((StreamingOutput) output -> subscriptionService.exportAsCsv(subscriptionQuery, output))
+                .header(HttpHeaders.CONTENT_DISPOSITION, format("attachment;filename=subscriptions-%s-%s.csv", subscriptionParam.getApi(), System.currentTimeMillis()))
+                .build();
+    }
+
     @Path("{subscription}")
     public ApiSubscriptionResource getApiSubscriptionResource() {
         return resourceContext.getResource(ApiSubscriptionResource.class);
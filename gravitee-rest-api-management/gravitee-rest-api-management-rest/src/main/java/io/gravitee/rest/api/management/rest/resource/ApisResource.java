@@ -121,15 +121,13 @@ public class ApisResource extends AbstractResource {
 
         if (apisParam.isTop()) {
             final List<String> visibleApis = apis.stream().map(ApiEntity::getId).collect(toList());
-            return topApiService.findAll().stream()
+            return convert(topApiService.findAll().stream()
                     .filter(topApi -> visibleApis.contains(topApi.getApi()))
                     .map(topApiEntity -> apiService.findById(topApiEntity.getApi()))
-                    .map(this::convert)
-                    .collect(toList());
+                    .collect(toList()));
         }
 
-        return apis.stream()
-                .map(this::convert)
+        return convert(apis).stream()
                 .sorted((o1, o2) -> String.CASE_INSENSITIVE_ORDER.compare(o1.getName(), o2.getName()))
                 .collect(toList());
     }
@@ -242,10 +240,7 @@ public class ApisResource extends AbstractResource {
             Map<String, Object> filters = new HashMap<>();
             filters.put("api", apis.stream().map(ApiEntity::getId).collect(toSet()));
 
-            return Response.ok().entity(apiService.search(query, filters)
-                    .stream()
-                    .map(this::convert)
-                    .collect(toList())).build();
+            return Response.ok().entity(convert(apiService.search(query, filters))).build();
         } catch (TechnicalException te) {
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(te).build();
         }
@@ -261,7 +256,15 @@ public class ApisResource extends AbstractResource {
         return resourceContext.getResource(ApiMediaResource.class);
     }
 
-    private ApiListItem convert(ApiEntity api) {
+    private List<ApiListItem> convert(Collection<ApiEntity> apis) {
+        final Map<String, RatingSummaryEntity> ratingSummaries = ratingService.isEnabled() ?
+                ratingService.findSummariesByApis(apis.stream().map(ApiEntity::getId).collect(toList())) : null;
+        return apis.stream()
+                .map(api -> convert(api, ratingSummaries))
+                .collect(toList());
+    }
+
+    private ApiListItem convert(ApiEntity api, Map<String, RatingSummaryEntity> ratingSummaries) {
         final ApiListItem apiItem = new ApiListItem();
 
         apiItem.setId(api.getId());
@@ -296,8 +299,8 @@ public class ApisResource extends AbstractResource {
             apiItem.setVirtualHosts(api.getProxy().getVirtualHosts());
         }
 
-        if (ratingService.isEnabled()) {
-            final RatingSummaryEntity ratingSummary = ratingService.findSummaryByApi(api.getId());
+        if (ratingSummaries != null) {
+            final RatingSummaryEntity ratingSummary = ratingSummaries.get(api.getId());
             apiItem.setRate(ratingSummary.getAverageRate());
             apiItem.setNumberOfRatings(ratingSummary.getNumberOfRatings());
         }
@@ -34,6 +34,7 @@ import javax.inject.Inject;
 import javax.ws.rs.*;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static java.lang.String.format;
 
@@ -109,4 +110,28 @@ public class ApplicationLogsResource extends AbstractResource {
                 .header(HttpHeaders.CONTENT_DISPOSITION, format("attachment;filename=logs-%s-%s.csv", application, System.currentTimeMillis()))
                 .build();
     }
+
+    @GET
+    @Path("export/stream")
+    @Produces(MediaType.TEXT_PLAIN)
+    @ApiOperation(value = "Export all the application logs of the time range as CSV")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Application logs as CSV"),
+            @ApiResponse(code = 500, message = "Internal server error")})
+    @Permissions({@Permission(value = RolePermission.APPLICATION_LOG, acls = RolePermissionAction.READ)})
+    public Response exportApplicationLogsAsCSVStream(
+            @PathParam("application") String application,
+            @BeanParam LogsParam param) {
+        param.validate();
+
+        LogQuery logQuery = new LogQuery();
+        logQuery.setQuery(param.getQuery());
+        logQuery.setFrom(param.getFrom());
+        logQuery.setTo(param.getTo());
+
+        return Response
+                .ok((StreamingOutput) output -> logsService.exportByApplicationAsCsv(application, logQuery, output))
+                .header(HttpHeaders.CONTENT_DISPOSITION, format("attachment;filename=logs-%s-%s.csv", application, System.currentTimeMillis()))
+                .build();
+    }
 }
@@ -41,7 +41,9 @@ import javax.validation.constraints.NotNull;
 import javax.ws.rs.*;
 import javax.ws.rs.core.Response;
 import java.net.URI;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -133,8 +135,13 @@ public class ApplicationSubscriptionsResource {
             for (String e : expand) {
                 switch (e) {
                     case "keys":
+                        final Map<String, Set<ApiKeyEntity>> keysBySubscription = apiKeyService.findBySubscriptions(
+                                subscriptions.getContent()
+                                        .stream()
+                                        .map(SubscriptionEntity::getId)
+                                        .collect(Collectors.toList()));
                         subscriptions.getContent().forEach(subscriptionEntity -> {
-                            final List<String> keys = apiKeyService.findBySubscription(subscriptionEntity.getId())
+                            final List<String> keys = keysBySubscription.getOrDefault(subscriptionEntity.getId(), Collections.emptySet())
                                     .stream()
                                     .filter(apiKeyEntity -> !apiKeyEntity.isExpired() && !apiKeyEntity.isRevoked())
                                     .map(ApiKeyEntity::getKey)
@@ -34,6 +34,7 @@ import javax.inject.Inject;
 import javax.ws.rs.*;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static java.lang.String.format;
 
@@ -108,4 +109,28 @@ public class PlatformLogsResource extends AbstractResource {
                 .header(HttpHeaders.CONTENT_DISPOSITION, format("attachment;filename=logs-%s-%s.csv", "platform", System.currentTimeMillis()))
                 .build();
     }
+
+    @GET
+    @Path("export/stream")
+    @Produces(MediaType.TEXT_PLAIN)
+    @ApiOperation(value = "Export all the platform logs of the time range as CSV",
+            notes = "User must have the MANAGEMENT_PLATFORM[READ] permission to use this service")
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Platform logs as CSV"),
+            @ApiResponse(code = 500, message = "Internal server error")})
+    @Permissions({@Permission(value = RolePermission.ENVIRONMENT_PLATFORM, acls = RolePermissionAction.READ)})
+    public Response exportPlatformLogsAsCSVStream(
+            @BeanParam LogsParam param) {
+        param.validate();
+
+        LogQuery logQuery = new LogQuery();
+        logQuery.setQuery(param.getQuery());
+        logQuery.setFrom(param.getFrom());
+        logQuery.setTo(param.getTo());
+
+        return Response
+                .ok((StreamingOutput) output -> logsService.exportPlatformAsCsv(logQuery, output))
+                .header(HttpHeaders.CONTENT_DISPOSITION, format("attachment;filename=logs-%s-%s.csv", "platform", System.currentTimeMillis()))
+                .build();
+    }
 }
@@ -50,6 +50,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.List;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -282,6 +284,15 @@ public abstract class AbstractResource {
 
     protected DataResponse createDataResponse(List dataList, PaginationParam paginationParam,
             Map<String, Map<String, Object>> metadata, boolean withPagination) {
+        return createDataResponse(dataList, paginationParam, metadata, withPagination, null);
+    }
+
+    /**
+     * @param itemMapper applied to the items of the requested page only, or <code>null</code> to return the items as
+     *                   they are.
+     */
+    protected <T> DataResponse createDataResponse(List<T> dataList, PaginationParam paginationParam,
+            Map<String, Map<String, Object>> metadata, boolean withPagination, Function<T, ?> itemMapper) {
         Map<String, Object> dataMetadata = new HashMap<>();
         Map<String, Object> paginationMetadata = new HashMap<>();
 
@@ -308,6 +319,10 @@ public abstract class AbstractResource {
             paginatedList = new ArrayList();
         }
 
+        if (itemMapper != null) {
+            paginatedList = (List) paginatedList.stream().map(itemMapper).collect(Collectors.toList());
+        }
+
         return new DataResponse().data(paginatedList)
                 .metadata(this.computeMetadata(metadata, dataMetadata, paginationMetadata))
                 .links(this.computePaginatedLinks(paginationParam.getPage(), paginationParam.getSize(), totalItems));
@@ -343,6 +358,44 @@ public abstract class AbstractResource {
         return Response.ok(createDataResponse(dataList, paginationParam, metadata, withPagination)).build();
     }
 
+    protected <T> Response createListResponse(List<T> dataList, PaginationParam paginationParam,
+            Map<String, Map<String, Object>> metadata, Function<T, ?> itemMapper) {
+        return Response.ok(createDataResponse(dataList, paginationParam, metadata, true, itemMapper)).build();
+    }
+
+    /**
+     * Same as {@link #createListResponse(List, PaginationParam, Map, Function)} for a page which has already been read
+     * from the repository, its content being the items of the requested page.
+     */
+    protected <T> Response createListResponse(io.gravitee.common.data.domain.Page<T> page, PaginationParam paginationParam,
+            Function<T, ?> itemMapper) {
+        Map<String, Object> dataMetadata = new HashMap<>();
+        Map<String, Object> paginationMetadata = new HashMap<>();
+
+        int totalItems = (int) page.getTotalElements();
+        Integer pageNumber = paginationParam.getPage();
+        Integer size = paginationParam.getSize();
+
+        if (totalItems > 0) {
+            Integer startIndex = (pageNumber - 1) * size;
+            if (startIndex >= totalItems || pageNumber < 1) {
+                throw new PaginationInvalidException();
+            }
+            paginationMetadata.put(METADATA_PAGINATION_CURRENT_PAGE_KEY, pageNumber);
+            paginationMetadata.put(METADATA_PAGINATION_SIZE_KEY, size);
+            paginationMetadata.put(METADATA_PAGINATION_FIRST_ITEM_INDEX_KEY, startIndex + 1);
+            paginationMetadata.put(METADATA_PAGINATION_LAST_ITEM_INDEX_KEY, startIndex + page.getContent().size());
+            paginationMetadata.put(METADATA_PAGINATION_TOTAL_KEY, totalItems);
+            paginationMetadata.put(METADATA_PAGINATION_TOTAL_PAGE_KEY, (int) Math.ceil((double) totalItems / size));
+        }
+        dataMetadata.put(METADATA_DATA_TOTAL_KEY, page.getContent().size());
+
+        List<?> data = page.getContent().stream().map(itemMapper).collect(Collectors.toList());
+        return Response.ok(new DataResponse().data(data)
+                .metadata(this.computeMetadata(null, dataMetadata, paginationMetadata))
+                .links(this.computePaginatedLinks(pageNumber, size, totalItems))).build();
+    }
+
     protected Response createPictureResponse(Request request, InlinePictureEntity image) {
         if (image == null || image.getContent() == null) {
             return Response.ok().build();
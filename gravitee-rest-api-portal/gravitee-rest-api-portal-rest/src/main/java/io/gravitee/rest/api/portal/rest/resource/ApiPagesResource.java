@@ -24,6 +24,7 @@ import io.gravitee.rest.api.portal.rest.model.Page;
 import io.gravitee.rest.api.portal.rest.resource.param.PaginationParam;
 import io.gravitee.rest.api.portal.rest.utils.HttpHeadersUtil;
 import io.gravitee.rest.api.portal.rest.utils.PortalApiLinkHelper;
+import io.gravitee.rest.api.service.ApiDataAccessSnapshot;
 import io.gravitee.rest.api.service.GroupService;
 import io.gravitee.rest.api.service.PageService;
 import io.gravitee.rest.api.service.exceptions.ApiNotFoundException;
@@ -71,10 +72,11 @@ public class ApiPagesResource extends AbstractResource {
         if (userApis.stream().anyMatch(a -> a.getId().equals(apiId))) {
             final String acceptedLocale = HttpHeadersUtil.getFirstAcceptedLocaleName(acceptLang);
             final ApiEntity apiEntity = apiService.findById(apiId);
-            
+            final ApiDataAccessSnapshot accessSnapshot = groupService.getApiDataAccessSnapshot(apiEntity, getAuthenticatedUserOrNull());
+
             Stream<Page> pageStream = pageService.search(new PageQuery.Builder().api(apiId).homepage(homepage).published(true).build(), acceptedLocale)
                     .stream()
-                    .filter(pageEntity -> isDisplayable(apiEntity, pageEntity))
+                    .filter(pageEntity -> isDisplayable(accessSnapshot, pageEntity))
                     .map(pageMapper::convert)
                     .map(page -> this.addPageLink(apiId, page));
 
@@ -118,8 +120,8 @@ public class ApiPagesResource extends AbstractResource {
         return resourceContext.getResource(ApiPageResource.class);
     }
 
-    private boolean isDisplayable(ApiEntity api, PageEntity page) {
-        return groupService.isUserAuthorizedToAccessApiData(api, page.getExcludedGroups(), getAuthenticatedUserOrNull())
+    private boolean isDisplayable(ApiDataAccessSnapshot accessSnapshot, PageEntity page) {
+        return groupService.isUserAuthorizedToAccessApiData(accessSnapshot, page.getExcludedGroups())
                 && !"SYSTEM_FOLDER".equals(page.getType());
     }
     
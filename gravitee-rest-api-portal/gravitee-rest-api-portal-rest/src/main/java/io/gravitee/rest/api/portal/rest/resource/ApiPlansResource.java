@@ -22,6 +22,7 @@ import io.gravitee.rest.api.portal.rest.mapper.PlanMapper;
 import io.gravitee.rest.api.portal.rest.model.Plan;
 import io.gravitee.rest.api.portal.rest.resource.param.PaginationParam;
 import io.gravitee.rest.api.portal.rest.utils.HttpHeadersUtil;
+import io.gravitee.rest.api.service.ApiDataAccessSnapshot;
 import io.gravitee.rest.api.service.GroupService;
 import io.gravitee.rest.api.service.PageService;
 import io.gravitee.rest.api.service.PlanService;
@@ -69,9 +70,10 @@ public class ApiPlansResource extends AbstractResource {
             if (Visibility.PUBLIC.equals(apiEntity.getVisibility())
                     || hasPermission(API_PLAN, apiId, READ)) {
 
+                ApiDataAccessSnapshot accessSnapshot = groupService.getApiDataAccessSnapshot(apiEntity, username);
                 List<Plan> plans = planService.findByApi(apiId).stream()
                         .filter(plan -> PlanStatus.PUBLISHED.equals(plan.getStatus()))
-                        .filter(plan -> groupService.isUserAuthorizedToAccessApiData(apiEntity, plan.getExcludedGroups(), username))
+                        .filter(plan -> groupService.isUserAuthorizedToAccessApiData(accessSnapshot, plan.getExcludedGroups()))
                         .sorted(Comparator.comparingInt(PlanEntity::getOrder))
                         .map(p-> planMapper.convert(p))
                         .collect(Collectors.toList());
@@ -27,6 +27,7 @@ import io.gravitee.rest.api.portal.rest.model.*;
 import io.gravitee.rest.api.portal.rest.model.Link.ResourceTypeEnum;
 import io.gravitee.rest.api.portal.rest.utils.HttpHeadersUtil;
 import io.gravitee.rest.api.portal.rest.utils.PortalApiLinkHelper;
+import io.gravitee.rest.api.service.ApiDataAccessSnapshot;
 import io.gravitee.rest.api.service.GroupService;
 import io.gravitee.rest.api.service.PageService;
 import io.gravitee.rest.api.service.ParameterService;
@@ -81,11 +82,12 @@ public class ApiResource extends AbstractResource {
 
             ApiEntity apiEntity = apiService.findById(apiId);
             Api api = apiMapper.convert(apiEntity);
+            ApiDataAccessSnapshot accessSnapshot = groupService.getApiDataAccessSnapshot(apiEntity, username);
 
             if (include.contains(INCLUDE_PAGES)) {
                 List<Page> pages = pageService.search(new PageQuery.Builder().api(apiId).published(true).build()).stream()
                         .filter(page -> !"SYSTEM_FOLDER".equals(page.getType()))
-                        .filter(page -> groupService.isUserAuthorizedToAccessApiData(apiEntity, page.getExcludedGroups(), username))
+                        .filter(page -> groupService.isUserAuthorizedToAccessApiData(accessSnapshot, page.getExcludedGroups()))
                         .map(pageMapper::convert)
                         .collect(Collectors.toList());
                 api.setPages(pages);
@@ -93,7 +95,7 @@ public class ApiResource extends AbstractResource {
             if (include.contains(INCLUDE_PLANS)) {
                 List<Plan> plans = planService.findByApi(apiId).stream()
                         .filter(plan -> PlanStatus.PUBLISHED.equals(plan.getStatus()))
-                        .filter(plan -> groupService.isUserAuthorizedToAccessApiData(apiEntity, plan.getExcludedGroups(), username))
+                        .filter(plan -> groupService.isUserAuthorizedToAccessApiData(accessSnapshot, plan.getExcludedGroups()))
                         .sorted(Comparator.comparingInt(PlanEntity::getOrder))
                         .map(p -> planMapper.convert(p))
                         .collect(Collectors.toList());
@@ -19,6 +19,7 @@ import io.gravitee.common.http.MediaType;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.api.ApiQuery;
+import io.gravitee.rest.api.model.common.PageableImpl;
 import io.gravitee.rest.api.model.filtering.FilteredEntities;
 import io.gravitee.rest.api.portal.rest.mapper.ApiMapper;
 import io.gravitee.rest.api.portal.rest.model.Api;
@@ -60,7 +61,13 @@ public class ApisResource extends AbstractResource {
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     public Response getApis(@BeanParam PaginationParam paginationParam, @BeanParam ApisParam apisParam) {
-        Collection<ApiEntity> apis = apiService.findPublishedByUser(getAuthenticatedUserOrNull(), createQueryFromParam(apisParam));
+        if (isSortedByName(paginationParam, apisParam)) {
+            // only the requested page is read from the repository
+            return createListResponse(apiService.findPublishedLightByUser(getAuthenticatedUserOrNull(), createQueryFromParam(apisParam),
+                    new PageableImpl(paginationParam.getPage(), paginationParam.getSize())), paginationParam, this::convert);
+        }
+
+        Collection<ApiEntity> apis = apiService.findPublishedLightByUser(getAuthenticatedUserOrNull(), createQueryFromParam(apisParam));
 
         FilteringService.FilterType filter = apisParam.getFilter() != null ? FilteringService.FilterType.valueOf(apisParam.getFilter().name()) : null;
         FilteringService.FilterType excludeFilter = apisParam.getExcludedFilter() != null ? FilteringService.FilterType.valueOf(apisParam.getExcludedFilter().name()) : null;
@@ -95,12 +102,10 @@ public class ApisResource extends AbstractResource {
             }
         }
 
-        List<Api> apisList = resultStream
-                .map(apiMapper::convert)
-                .map(this::addApiLinks)
-                .collect(Collectors.toList());
+        List<ApiEntity> apisList = resultStream.collect(Collectors.toList());
 
-        return createListResponse(apisList, paginationParam, filteredApis.getMetadata());
+        // only the APIs of the requested page are converted
+        return createListResponse(apisList, paginationParam, filteredApis.getMetadata(), this::convert);
     }
 
     @POST
@@ -108,21 +113,32 @@ public class ApisResource extends AbstractResource {
     @Produces(MediaType.APPLICATION_JSON)
     public Response searchApis(@NotNull(message = "Input must not be null.") @QueryParam("q") String query,
                                @BeanParam PaginationParam paginationParam) {
-        Collection<ApiEntity> apis = apiService.findPublishedByUser(getAuthenticatedUserOrNull(),
+        Collection<ApiEntity> apis = apiService.findPublishedLightByUser(getAuthenticatedUserOrNull(),
                 createQueryFromParam(null));
 
         Map<String, Object> filters = new HashMap<>();
         filters.put("api", apis.stream().map(ApiEntity::getId).collect(Collectors.toSet()));
 
         try {
-            List<Api> apisList = apiService.search(query, filters).stream().map(apiMapper::convert)
-                    .map(this::addApiLinks).collect(Collectors.toList());
-            return createListResponse(apisList, paginationParam);
+            List<ApiEntity> apisList = new ArrayList<>(apiService.search(query, filters));
+            return createListResponse(apisList, paginationParam, null, this::convert);
         } catch (TechnicalException e) {
             return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(e).build();
         }
     }
 
+    /**
+     * The APIs are listed by name when no filter nor promotion is asked and the query does not read the definitions.
+     */
+    private boolean isSortedByName(PaginationParam paginationParam, ApisParam apisParam) {
+        return paginationParam.getSize() > 0
+                && apisParam.getFilter() == null
+                && apisParam.getExcludedFilter() == null
+                && apisParam.getPromoted() == null
+                && apisParam.getTag() == null
+                && apisParam.getContextPath() == null;
+    }
+
     private ApiQuery createQueryFromParam(ApisParam apisParam) {
         final ApiQuery apiQuery = new ApiQuery();
         if (apisParam != null) {
@@ -139,6 +155,10 @@ public class ApisResource extends AbstractResource {
     }
 
 
+    private Api convert(ApiEntity api) {
+        return addApiLinks(apiMapper.convert(api));
+    }
+
     private Api addApiLinks(Api api) {
         final OffsetDateTime updatedAt = api.getUpdatedAt();
         Date updateDate = null;
@@ -96,7 +96,7 @@ public class ApiPagesResourceTest extends AbstractResourceTest {
 
     @Test
     public void shouldGetApiPages() {
-        doReturn(true).when(groupService).isUserAuthorizedToAccessApiData(any(), any(), any());
+        doReturn(true).when(groupService).isUserAuthorizedToAccessApiData(any(), any());
         
         final Response response = target(API).path("pages").request().get();
         assertEquals(OK_200, response.getStatus());
@@ -114,7 +114,7 @@ public class ApiPagesResourceTest extends AbstractResourceTest {
         final Builder request = target(API).path("pages").request();
         
         // case 1
-        doReturn(false).when(groupService).isUserAuthorizedToAccessApiData(any(), any(), any());
+        doReturn(false).when(groupService).isUserAuthorizedToAccessApiData(any(), any());
         
         Response response = request.get();
         assertEquals(OK_200, response.getStatus());
@@ -125,7 +125,7 @@ public class ApiPagesResourceTest extends AbstractResourceTest {
         assertEquals(0, pages.size());
         
         // case 2
-        doReturn(false).when(groupService).isUserAuthorizedToAccessApiData(any(), any(), any());
+        doReturn(false).when(groupService).isUserAuthorizedToAccessApiData(any(), any());
         
         response = request.get();
         assertEquals(OK_200, response.getStatus());
@@ -116,7 +116,7 @@ public class ApiPlansResourceTest extends AbstractResourceTest {
 
     @Test
     public void shouldGetApiPlansWithPublicAPI() {
-        doReturn(true).when(groupService).isUserAuthorizedToAccessApiData(any(), any(), any());
+        doReturn(true).when(groupService).isUserAuthorizedToAccessApiData(any(), any());
 
         final Response response = target(API).path("plans").request().get();
         assertEquals(OK_200, response.getStatus());
@@ -141,7 +141,7 @@ public class ApiPlansResourceTest extends AbstractResourceTest {
         plan1.setGeneralConditions(PAGE_ID);
         plan2.setGeneralConditions(PAGE_ID);
 
-        doReturn(true).when(groupService).isUserAuthorizedToAccessApiData(any(), any(), any());
+        doReturn(true).when(groupService).isUserAuthorizedToAccessApiData(any(), any());
 
         final Response response = target(API).path("plans").request().get();
         assertEquals(OK_200, response.getStatus());
@@ -158,7 +158,7 @@ public class ApiPlansResourceTest extends AbstractResourceTest {
 
     @Test
     public void shouldGetApiPlansWithPrivateAPIAndReadPermission() {
-        doReturn(true).when(groupService).isUserAuthorizedToAccessApiData(any(), any(), any());
+        doReturn(true).when(groupService).isUserAuthorizedToAccessApiData(any(), any());
         doReturn(true).when(permissionService).hasPermission(any(), any(), any());
 
         final Response response = target(API).path("plans").request().get();
@@ -173,7 +173,7 @@ public class ApiPlansResourceTest extends AbstractResourceTest {
 
     @Test
     public void shouldGetNoApiPlan() {
-        doReturn(false).when(groupService).isUserAuthorizedToAccessApiData(any(), any(), any());
+        doReturn(false).when(groupService).isUserAuthorizedToAccessApiData(any(), any());
 
         final Response response = target(API).path("plans").request().get();
         assertEquals(OK_200, response.getStatus());
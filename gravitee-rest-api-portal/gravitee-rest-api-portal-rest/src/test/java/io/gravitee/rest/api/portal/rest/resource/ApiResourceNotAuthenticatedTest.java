@@ -124,13 +124,13 @@ public class ApiResourceNotAuthenticatedTest extends AbstractResourceTest {
     
     @Test
     public void shouldGetApiWithPagesAndPlansIncluded() {
-        doReturn(true).when(groupService).isUserAuthorizedToAccessApiData(any(), any(), any());
+        doReturn(true).when(groupService).isUserAuthorizedToAccessApiData(any(), any());
         callResourceAndCheckResult(1, 2);
     }
     
     @Test
     public void shouldGetApiWithNoElementsIncluded() {
-        doReturn(false).when(groupService).isUserAuthorizedToAccessApiData(any(), any(), any());
+        doReturn(false).when(groupService).isUserAuthorizedToAccessApiData(any(), any());
         callResourceAndCheckResult(0, 0);
     }
     
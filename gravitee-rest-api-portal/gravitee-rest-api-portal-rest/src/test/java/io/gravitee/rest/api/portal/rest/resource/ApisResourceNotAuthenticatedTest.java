@@ -15,10 +15,12 @@
  */
 package io.gravitee.rest.api.portal.rest.resource;
 
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.api.ApiLifecycleState;
 import io.gravitee.rest.api.model.api.ApiQuery;
+import io.gravitee.rest.api.model.common.Pageable;
 import io.gravitee.rest.api.model.filtering.FilteredEntities;
 import io.gravitee.rest.api.portal.rest.model.Api;
 import io.gravitee.rest.api.portal.rest.model.ApisResponse;
@@ -108,7 +110,9 @@ public class ApisResourceNotAuthenticatedTest extends AbstractResourceTest {
 
 
         Set<ApiEntity> mockApis = new HashSet<>(Arrays.asList(publishedApi, anotherPublishedApi));
-        doReturn(mockApis).when(apiService).findPublishedByUser(isNull(), any(ApiQuery.class));
+        doReturn(mockApis).when(apiService).findPublishedLightByUser(isNull(), any(ApiQuery.class));
+        doReturn(new Page<>(Arrays.asList(publishedApi, anotherPublishedApi), 1, 2, 2))
+                .when(apiService).findPublishedLightByUser(isNull(), any(ApiQuery.class), any(Pageable.class));
 
         doReturn(new FilteredEntities<ApiEntity>(new ArrayList<>(mockApis), null)).when(filteringService).filterApis(any(), any(), any());
 
@@ -126,7 +130,7 @@ public class ApisResourceNotAuthenticatedTest extends AbstractResourceTest {
         final Response response = target().request().get();
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
-        Mockito.verify(apiService).findPublishedByUser(isNull(), any(ApiQuery.class));
+        Mockito.verify(apiService).findPublishedLightByUser(isNull(), any(ApiQuery.class), any(Pageable.class));
 
         ApisResponse apiResponse = response.readEntity(ApisResponse.class);
         assertEquals(2, apiResponse.getData().size());
@@ -15,12 +15,14 @@
  */
 package io.gravitee.rest.api.portal.rest.resource;
 
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.rest.api.model.CategoryEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.api.ApiLifecycleState;
 import io.gravitee.rest.api.model.api.ApiQuery;
+import io.gravitee.rest.api.model.common.Pageable;
 import io.gravitee.rest.api.model.filtering.FilteredEntities;
 import io.gravitee.rest.api.portal.rest.model.Error;
 import io.gravitee.rest.api.portal.rest.model.*;
@@ -36,7 +38,9 @@ import java.util.stream.Collectors;
 
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 
 /**
@@ -86,7 +90,16 @@ public class ApisResourceTest extends AbstractResourceTest {
 
         Set<ApiEntity> mockApis = new HashSet<>(
                 Arrays.asList(publishedApi5, publishedApi2, publishedApi1, publishedApi3, publishedApi4));
-        doReturn(mockApis).when(apiService).findPublishedByUser(any(), any());
+        doReturn(mockApis).when(apiService).findPublishedLightByUser(any(), any());
+        doAnswer(invocation -> {
+            final Pageable pageable = invocation.getArgument(2);
+            final List<ApiEntity> sortedApis = mockApis.stream().sorted(Comparator.comparing(ApiEntity::getName)).collect(Collectors.toList());
+            final List<ApiEntity> content = sortedApis.stream()
+                    .skip((long) (pageable.getPageNumber() - 1) * pageable.getPageSize())
+                    .limit(pageable.getPageSize())
+                    .collect(Collectors.toList());
+            return new Page<>(content, pageable.getPageNumber(), content.size(), sortedApis.size());
+        }).when(apiService).findPublishedLightByUser(any(), any(), any());
 
         doReturn(false).when(ratingService).isEnabled();
 
@@ -108,7 +121,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiQuery> queryCaptor = ArgumentCaptor.forClass(ApiQuery.class);
-        Mockito.verify(apiService).findPublishedByUser(eq(USER_NAME), queryCaptor.capture());
+        Mockito.verify(apiService).findPublishedLightByUser(eq(USER_NAME), queryCaptor.capture());
         final ApiQuery query = queryCaptor.getValue();
         assertEquals("context-path", query.getContextPath());
         assertEquals("label", query.getLabel());
@@ -146,14 +159,23 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(5)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(1)).convert(apiEntityCaptor.capture());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName())
                 .collect(Collectors.toList());
-        assertEquals(5, allNameValues.size());
-        assertTrue(allNameValues.containsAll(Arrays.asList("1", "3", "4", "5", "6")));
+        assertEquals(1, allNameValues.size());
+        assertTrue(Arrays.asList("1", "3", "4", "5", "6").containsAll(allNameValues));
+
+        assertEquals("4", allNameValues.get(0));
+
+        // only the requested page is read
+        Mockito.verify(apiService).findPublishedLightByUser(eq(USER_NAME), any(),
+                argThat(pageable -> pageable.getPageNumber() == 3 && pageable.getPageSize() == 1));
+        Mockito.verify(apiService, Mockito.never()).findPublishedLightByUser(any(), any());
+        Mockito.verify(filteringService, Mockito.never()).filterApis(any(), any(), any());
 
         ApisResponse apiResponse = response.readEntity(ApisResponse.class);
         assertEquals(1, apiResponse.getData().size());
+        assertEquals(5, apiResponse.getMetadata().get(AbstractResource.METADATA_PAGINATION_KEY).get(AbstractResource.METADATA_PAGINATION_TOTAL_KEY));
 
         Links links = apiResponse.getLinks();
         assertNotNull(links);
@@ -180,12 +202,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         final Response response = target().queryParam("size", 0).request().get();
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
-        ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(5)).convert(apiEntityCaptor.capture());
-        final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName())
-                .collect(Collectors.toList());
-        assertEquals(5, allNameValues.size());
-        assertTrue(allNameValues.containsAll(Arrays.asList("1", "3", "4", "5", "6")));
+        Mockito.verify(apiMapper, Mockito.never()).convert(any());
 
         ApisResponse apiResponse = response.readEntity(ApisResponse.class);
         assertEquals(0, apiResponse.getData().size());
@@ -212,7 +229,8 @@ public class ApisResourceTest extends AbstractResourceTest {
     @Test
     public void shouldGetNoPublishedApiAndNoLink() {
 
-        doReturn(Collections.emptySet()).when(apiService).findPublishedByUser(any(), any());
+        doReturn(Collections.emptySet()).when(apiService).findPublishedLightByUser(any(), any());
+        doReturn(new Page<>(Collections.emptyList(), 1, 0, 0)).when(apiService).findPublishedLightByUser(any(), any(), any());
         doReturn(new FilteredEntities<ApiEntity>(Collections.emptyList(), null)).when(filteringService).filterApis(any(), any(), any());
 
         // Test with default limit
@@ -249,7 +267,7 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiQuery> queryCaptor = ArgumentCaptor.forClass(ApiQuery.class);
-        Mockito.verify(apiService).findPublishedByUser(eq(USER_NAME), queryCaptor.capture());
+        Mockito.verify(apiService).findPublishedLightByUser(eq(USER_NAME), queryCaptor.capture());
         final ApiQuery query = queryCaptor.getValue();
         assertNull(query.getContextPath());
         assertNull(query.getLabel());
@@ -278,11 +296,11 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(4)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(2)).convert(apiEntityCaptor.capture());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName())
                 .collect(Collectors.toList());
-        assertEquals(4, allNameValues.size());
-        assertTrue(allNameValues.containsAll(Arrays.asList("3", "4", "5", "6")));
+        assertEquals(2, allNameValues.size());
+        assertTrue(Arrays.asList("3", "4", "5", "6").containsAll(allNameValues));
 
         ApisResponse apiResponse = response.readEntity(ApisResponse.class);
         assertEquals(2, apiResponse.getData().size());
@@ -296,11 +314,11 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(4)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(3)).convert(apiEntityCaptor.capture());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName())
                 .collect(Collectors.toList());
-        assertEquals(4, allNameValues.size());
-        assertTrue(allNameValues.containsAll(Arrays.asList("3", "4", "5", "6")));
+        assertEquals(3, allNameValues.size());
+        assertTrue(Arrays.asList("3", "4", "5", "6").containsAll(allNameValues));
 
         ApisResponse apiResponse = response.readEntity(ApisResponse.class);
         assertEquals(3, apiResponse.getData().size());
@@ -316,11 +334,11 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(4)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(3)).convert(apiEntityCaptor.capture());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName())
                 .collect(Collectors.toList());
-        assertEquals(4, allNameValues.size());
-        assertTrue(allNameValues.containsAll(Arrays.asList("1", "3", "5", "6")));
+        assertEquals(3, allNameValues.size());
+        assertTrue(Arrays.asList("1", "3", "5", "6").containsAll(allNameValues));
 
         ApisResponse apiResponse = response.readEntity(ApisResponse.class);
         assertEquals(3, apiResponse.getData().size());
@@ -336,11 +354,11 @@ public class ApisResourceTest extends AbstractResourceTest {
         assertEquals(HttpStatusCode.OK_200, response.getStatus());
 
         ArgumentCaptor<ApiEntity> apiEntityCaptor = ArgumentCaptor.forClass(ApiEntity.class);
-        Mockito.verify(apiMapper, Mockito.times(4)).convert(apiEntityCaptor.capture());
+        Mockito.verify(apiMapper, Mockito.times(3)).convert(apiEntityCaptor.capture());
         final List<String> allNameValues = apiEntityCaptor.getAllValues().stream().map(a -> a.getName())
                 .collect(Collectors.toList());
-        assertEquals(4, allNameValues.size());
-        assertTrue(allNameValues.containsAll(Arrays.asList("3", "4", "5", "6")));
+        assertEquals(3, allNameValues.size());
+        assertTrue(Arrays.asList("3", "4", "5", "6").containsAll(allNameValues));
 
         ApisResponse apiResponse = response.readEntity(ApisResponse.class);
         assertEquals(3, apiResponse.getData().size());
@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import io.gravitee.rest.api.model.api.ApiEntity;
+
+import java.util.Set;
+
+/**
+ * The memberships of a user needed to check which data (pages, plans) of an API the user can access, read at most once
+ * so that the data of a whole list can be checked against them.
+ *
+ * @author GraviteeSource Team
+ * @see GroupService#getApiDataAccessSnapshot(ApiEntity, String)
+ */
+public class ApiDataAccessSnapshot {
+
+    private final ApiEntity api;
+    private final String username;
+    private final Supplier<Boolean> apiMember;
+    private final Supplier<Set<String>> apiRoleGroups;
+
+    public ApiDataAccessSnapshot(ApiEntity api, String username, Supplier<Boolean> apiMember, Supplier<Set<String>> apiRoleGroups) {
+        this.api = api;
+        this.username = username;
+        this.apiMember = Suppliers.memoize(apiMember);
+        this.apiRoleGroups = Suppliers.memoize(apiRoleGroups);
+    }
+
+    public ApiEntity getApi() {
+        return api;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * @return <code>true</code> if the user is a direct member of the API.
+     */
+    public boolean isApiMember() {
+        return apiMember.get();
+    }
+
+    /**
+     * @return the groups in which the user has an API role.
+     */
+    public Set<String> getApiRoleGroups() {
+        return apiRoleGroups.get();
+    }
+}
@@ -15,6 +15,8 @@
  */
 package io.gravitee.rest.api.service;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 import io.gravitee.rest.api.model.ApiKeyEntity;
@@ -35,6 +37,8 @@ public interface ApiKeyService {
 
     Set<ApiKeyEntity> findBySubscription(String subscription);
 
+    Map<String, Set<ApiKeyEntity>> findBySubscriptions(Collection<String> subscriptions);
+
     ApiKeyEntity findByKey(String apiKey);
 
     void delete(String apiKey);
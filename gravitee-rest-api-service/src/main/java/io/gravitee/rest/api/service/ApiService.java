@@ -15,11 +15,14 @@
  */
 package io.gravitee.rest.api.service;
 
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.*;
 import io.gravitee.rest.api.model.api.header.ApiHeaderEntity;
+import io.gravitee.rest.api.model.common.Pageable;
 import io.gravitee.repository.exceptions.TechnicalException;
 
+import java.io.OutputStream;
 import java.util.*;
 
 /**
@@ -40,6 +43,18 @@ public interface ApiService {
     Set<ApiEntity> findPublishedByUser(String userId);
     Set<ApiEntity> findPublishedByUser(String userId, ApiQuery apiQuery);
 
+    /**
+     * Same as {@link #findPublishedByUser(String, ApiQuery)} but without the fields which are heavy to read and
+     * convert (definition, picture...), unless the query filters on them.
+     */
+    Set<ApiEntity> findPublishedLightByUser(String userId, ApiQuery apiQuery);
+
+    /**
+     * Same as {@link #findPublishedLightByUser(String, ApiQuery)} but only the requested page of the APIs, sorted by
+     * name, is read from the repository. The query must not filter on the fields of the definition (tag, context path).
+     */
+    Page<ApiEntity> findPublishedLightByUser(String userId, ApiQuery apiQuery, Pageable pageable);
+
     Set<ApiEntity> findByVisibility(Visibility visibility);
 
     ApiEntity create(NewApiEntity api, String userId);
@@ -71,6 +86,11 @@ public interface ApiService {
 
     String exportAsJson(String apiId, String exportVersion, String... filteredFields);
 
+    /**
+     * Write the export of the API to the given stream, without building it as a String.
+     */
+    void exportAsJson(String apiId, String exportVersion, OutputStream outputStream, String... filteredFields);
+
     ApiEntity createWithImportedDefinition(ApiEntity apiEntity, String apiDefinitionOrURL, String userId);
 
     ApiEntity updateWithImportedDefinition(ApiEntity apiEntity, String apiDefinitionOrURL, String userId);
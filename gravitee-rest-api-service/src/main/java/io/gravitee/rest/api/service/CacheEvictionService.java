@@ -0,0 +1,37 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.rest.api.model.command.CommandCacheEvictionEntity;
+
+/**
+ * Keeps the caches of the management nodes consistent: an entry evicted by a node is sent to the other nodes through
+ * the commands, and evicted from their own cache when they consume it.
+ *
+ * @author GraviteeSource Team
+ */
+public interface CacheEvictionService {
+
+    /**
+     * Send the eviction of a key to the other nodes, or of the whole cache when the key is <code>null</code>.
+     */
+    void propagate(String cache, String key);
+
+    /**
+     * Evict from the local cache a key evicted by another node.
+     */
+    void process(CommandCacheEvictionEntity content);
+}
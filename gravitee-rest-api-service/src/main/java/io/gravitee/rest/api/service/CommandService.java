@@ -29,6 +29,17 @@ public interface CommandService {
 
     void send(NewCommandEntity message);
     List<CommandEntity> search(CommandQuery query);
+
+    /**
+     * Get the commands sent by the other nodes which are not expired and not yet acknowledged by the current node,
+     * oldest first, and acknowledge them.
+     */
+    List<CommandEntity> consume(CommandQuery query);
+
+    /**
+     * Delete the expired commands.
+     */
+    void purgeExpired(CommandQuery query);
     void ack(String messageId);
     void delete(String commandId);
 }
@@ -19,7 +19,9 @@ import io.gravitee.repository.management.model.GroupEvent;
 import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -39,11 +41,14 @@ public interface GroupService {
     void                    associate(String groupId, String associationType);
     Set<GroupEntity>        findByEvent                         (GroupEvent event);
     List<GroupEntity>       findByName                          (String name);
+    Map<String, List<GroupEntity>> findByNames                  (Collection<String> names);
     Set<GroupEntity>        findByUser                          (String username);
     List<ApiEntity>         getApis                             (String groupId);
     List<ApplicationEntity> getApplications                     (String groupId);
     int                     getNumberOfMembers                  (String groupId);
     boolean                 isUserAuthorizedToAccessApiData     (ApiEntity api, List<String> excludedGroups, String username);
+    boolean                 isUserAuthorizedToAccessApiData     (ApiDataAccessSnapshot snapshot, List<String> excludedGroups);
+    ApiDataAccessSnapshot   getApiDataAccessSnapshot            (ApiEntity api, String username);
     boolean                 isUserAuthorizedToAccessPortalData  (List<String> excludedGroups, String username);
     GroupEntity             update                              (String groupId, UpdateGroupEntity group);
 }
\ No newline at end of file
@@ -16,6 +16,7 @@
 package io.gravitee.rest.api.service;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import io.gravitee.common.http.HttpMethod;
 import io.vertx.core.buffer.Buffer;
@@ -27,4 +28,10 @@ import io.vertx.core.buffer.Buffer;
 public interface HttpClientService {
 
     Buffer request(HttpMethod method, final String uri, final Map<String, String> headers, String body, Boolean useSystemProxy);
+
+    /**
+     * Send the request without waiting for the response, the returned future being completed with the body of the
+     * response, or exceptionally if the call failed or the status code is not a 2xx.
+     */
+    CompletableFuture<Buffer> requestAsync(HttpMethod method, final String uri, final Map<String, String> headers, String body, Boolean useSystemProxy);
 }
@@ -20,6 +20,8 @@ import io.gravitee.rest.api.model.log.ApiRequest;
 import io.gravitee.rest.api.model.log.ApplicationRequest;
 import io.gravitee.rest.api.model.log.SearchLogResponse;
 
+import java.io.OutputStream;
+
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
@@ -32,4 +34,12 @@ public interface LogsService {
     ApiRequest findApiLog(String id, Long timestamp);
     ApplicationRequest findApplicationLog(String id, Long timestamp);
     String exportAsCsv(SearchLogResponse searchLogResponse);
+
+    /**
+     * Write as CSV all the logs matching the query, from the most recent, reading them page by page.
+     * The page and the sort of the query are ignored.
+     */
+    void exportByApiAsCsv(String api, LogQuery query, OutputStream output);
+    void exportByApplicationAsCsv(String application, LogQuery query, OutputStream output);
+    void exportPlatformAsCsv(LogQuery query, OutputStream output);
 }
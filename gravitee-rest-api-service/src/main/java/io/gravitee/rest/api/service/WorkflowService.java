@@ -20,7 +20,9 @@ import io.gravitee.rest.api.model.WorkflowReferenceType;
 import io.gravitee.rest.api.model.WorkflowState;
 import io.gravitee.rest.api.model.WorkflowType;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Azize ELAMRANI (azize at graviteesource.com)
@@ -30,4 +32,5 @@ public interface WorkflowService {
     Workflow create(WorkflowReferenceType referenceType, String referenceId, WorkflowType type, String user,
                     WorkflowState state, String comment);
     List<Workflow> findByReferenceAndType(WorkflowReferenceType referenceType, String referenceId, WorkflowType type);
+    Map<String, List<Workflow>> findByReferencesAndType(WorkflowReferenceType referenceType, Collection<String> referenceIds, WorkflowType type);
 }
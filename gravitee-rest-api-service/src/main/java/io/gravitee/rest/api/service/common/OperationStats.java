@@ -0,0 +1,76 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the succeeded and failed operations of a component, and the latency (in milliseconds) of those which
+ * reported one. They are written in the logs when the component stops.
+ *
+ * @author GraviteeSource Team
+ */
+public class OperationStats {
+
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong measured = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    public void succeeded(long latency) {
+        succeeded.incrementAndGet();
+        record(latency);
+    }
+
+    public void failed(long latency) {
+        failed.incrementAndGet();
+        record(latency);
+    }
+
+    public void failed() {
+        failed.incrementAndGet();
+    }
+
+    private void record(long latency) {
+        measured.incrementAndGet();
+        totalLatency.addAndGet(latency);
+        maxLatency.accumulateAndGet(latency, Math::max);
+    }
+
+    public long getSucceeded() {
+        return succeeded.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    public long getAverageLatency() {
+        long count = measured.get();
+        return count == 0 ? 0 : totalLatency.get() / count;
+    }
+
+    public long getMaxLatency() {
+        return maxLatency.get();
+    }
+
+    @Override
+    public String toString() {
+        return getSucceeded() + " succeeded, " + getFailed() + " failed, " + getAverageLatency() +
+                " ms of average latency, " + getMaxLatency() + " ms of max latency";
+    }
+}
@@ -0,0 +1,301 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.gravitee.repository.analytics.AnalyticsException;
+import io.gravitee.rest.api.model.analytics.Bucket;
+import io.gravitee.rest.api.model.analytics.HistogramAnalytics;
+import io.gravitee.rest.api.model.analytics.Timestamp;
+import io.gravitee.rest.api.model.analytics.query.AbstractQuery;
+import io.gravitee.rest.api.model.analytics.query.DateHistogramQuery;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Results of the analytics queries, so that a dashboard displayed by many users at the same time is computed once.
+ *
+ * Queries are always sent for their exact time range. The range is only aligned on whole time slots (the interval
+ * for histograms, at most <code>analytics.cache.alignment</code> otherwise) to build the cache key, so that queries
+ * sent a few seconds apart share the same result. Results whose range is over are kept for
+ * <code>analytics.cache.closed.ttl</code> seconds, results still including the current time slot only for
+ * <code>analytics.cache.open.ttl</code> seconds.
+ *
+ * Besides, the buckets of a date histogram are kept one by one once they are over, so that a histogram whose range
+ * moves with the current time only queries the buckets it does not know yet and merges them with the known ones.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class AnalyticsQueryCache implements InitializingBean {
+
+    /**
+     * Time (in milliseconds) left to the gateways to report the requests of a time slot before it is considered as over.
+     */
+    private static final long CLOSED_DELAY = 60_000;
+
+    @Value("${analytics.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analytics.cache.max_size:1000}")
+    private long maxSize;
+
+    @Value("${analytics.cache.buckets.max_size:100000}")
+    private long maxBuckets;
+
+    @Value("${analytics.cache.open.ttl:10}")
+    private long openTtl;
+
+    @Value("${analytics.cache.closed.ttl:600}")
+    private long closedTtl;
+
+    @Value("${analytics.cache.alignment:60000}")
+    private long alignment;
+
+    private Cache<String, Object> openResults;
+
+    private Cache<String, Object> closedResults;
+
+    private Cache<String, HistogramAnalytics> closedBuckets;
+
+    @Override
+    public void afterPropertiesSet() {
+        openResults = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(openTtl, TimeUnit.SECONDS)
+                .build();
+        closedResults = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(closedTtl, TimeUnit.SECONDS)
+                .build();
+        closedBuckets = CacheBuilder.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfterWrite(closedTtl, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Get the result of the query, computing it with the loader if it is not known yet.
+     *
+     * @param query the analytics query
+     * @param discriminator the criteria specific to the type of query, part of the key along with the common ones
+     * @param loader computes the result for the given time range
+     */
+    public <T> T get(AbstractQuery query, String discriminator, Loader<T> loader) throws AnalyticsException {
+        if (!enabled) {
+            return loader.load(query.getFrom(), query.getTo());
+        }
+        return cached(query, discriminator, () -> loader.load(query.getFrom(), query.getTo()));
+    }
+
+    /**
+     * Same as {@link #get(AbstractQuery, String, Loader)} for a date histogram, whose buckets already over are merged
+     * with the ones the loader computes.
+     */
+    public HistogramAnalytics getHistogram(DateHistogramQuery query, String discriminator,
+                                           Loader<HistogramAnalytics> loader) throws AnalyticsException {
+        if (!enabled || query.getInterval() <= 0) {
+            return get(query, discriminator, loader);
+        }
+        return cached(query, discriminator, () -> mergeHistogram(query, discriminator, loader));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cached(AbstractQuery query, String discriminator, Callable<T> loader) throws AnalyticsException {
+        long slot = Math.max(1, slot(query));
+        long from = (query.getFrom() / slot) * slot;
+        long to = ((query.getTo() + slot - 1) / slot) * slot;
+
+        String key = query.getClass().getSimpleName() + ':' + from + ':' + to + ':' + signature(query, discriminator);
+        Cache<String, Object> results = to + CLOSED_DELAY <= System.currentTimeMillis() ? closedResults : openResults;
+
+        try {
+            return (T) results.get(key, loader);
+        } catch (ExecutionException | UncheckedExecutionException ex) {
+            Throwables.throwIfInstanceOf(ex.getCause(), AnalyticsException.class);
+            Throwables.throwIfUnchecked(ex.getCause());
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private HistogramAnalytics mergeHistogram(DateHistogramQuery query, String discriminator,
+                                              Loader<HistogramAnalytics> loader) throws AnalyticsException {
+        final long interval = query.getInterval();
+        final String signature = query.getClass().getSimpleName() + ':' + signature(query, discriminator) + ':';
+
+        // only the buckets entirely inside the range and over can be kept
+        final long firstBucket = ((query.getFrom() + interval - 1) / interval) * interval;
+        final long lastBucket = (Math.min(query.getTo(), System.currentTimeMillis() - CLOSED_DELAY) / interval) * interval;
+
+        final List<HistogramAnalytics> slices = new ArrayList<>();
+        long missing = firstBucket;
+        while (missing < lastBucket) {
+            HistogramAnalytics slice = closedBuckets.getIfPresent(signature + missing);
+            if (slice == null) {
+                break;
+            }
+            slices.add(slice);
+            missing += interval;
+        }
+
+        final Map<Long, HistogramAnalytics> loaded = new TreeMap<>();
+        if (slices.isEmpty()) {
+            loaded.putAll(split(loader.load(query.getFrom(), query.getTo())));
+        } else {
+            if (query.getFrom() < firstBucket) {
+                loaded.putAll(split(loader.load(query.getFrom(), firstBucket)).headMap(firstBucket));
+            }
+            if (missing < query.getTo()) {
+                loaded.putAll(split(loader.load(missing, query.getTo())).tailMap(missing));
+            }
+        }
+
+        loaded.forEach((bucket, slice) -> {
+            if (bucket >= firstBucket && bucket < lastBucket) {
+                closedBuckets.put(signature + bucket, slice);
+            }
+        });
+        slices.addAll(loaded.values());
+        slices.sort(Comparator.comparing(slice -> slice.getTimestamp().getFrom()));
+
+        return merge(slices, interval);
+    }
+
+    private String signature(AbstractQuery query, String discriminator) {
+        return query.getInterval() + ":" + query.getRootField() + ':' + query.getRootIdentifier() + ':' +
+                query.getQuery() + ':' + discriminator;
+    }
+
+    private long slot(AbstractQuery query) {
+        if (query.getInterval() <= 0) {
+            return alignment;
+        }
+        // histogram buckets are already aligned on the interval
+        return query instanceof DateHistogramQuery ? query.getInterval() : Math.min(query.getInterval(), alignment);
+    }
+
+    /**
+     * Split a histogram into one histogram per bucket timestamp.
+     */
+    private static SortedMap<Long, HistogramAnalytics> split(HistogramAnalytics histogram) {
+        final SortedMap<Long, HistogramAnalytics> slices = new TreeMap<>();
+        final Timestamp timestamp = histogram.getTimestamp();
+        if (timestamp == null) {
+            return slices;
+        }
+        int index = 0;
+        for (long bucket = timestamp.getFrom(); bucket <= timestamp.getTo(); bucket += timestamp.getInterval()) {
+            HistogramAnalytics slice = new HistogramAnalytics();
+            slice.setTimestamp(new Timestamp(bucket, bucket, timestamp.getInterval()));
+            slice.setValues(slice(histogram.getValues(), index++));
+            slices.put(bucket, slice);
+        }
+        return slices;
+    }
+
+    private static List<Bucket> slice(List<Bucket> buckets, int index) {
+        if (buckets == null) {
+            return null;
+        }
+        final List<Bucket> slices = new ArrayList<>(buckets.size());
+        for (Bucket bucket : buckets) {
+            Bucket slice = new Bucket();
+            slice.setName(bucket.getName());
+            slice.setField(bucket.getField());
+            slice.setMetadata(bucket.getMetadata());
+            slice.setBuckets(slice(bucket.getBuckets(), index));
+            if (bucket.getData() != null) {
+                slice.setData(new Number[]{bucket.getData()[index]});
+            }
+            slices.add(slice);
+        }
+        return slices;
+    }
+
+    /**
+     * Merge histograms of one bucket each, sorted by timestamp, into a single histogram.
+     */
+    private static HistogramAnalytics merge(List<HistogramAnalytics> slices, long interval) {
+        final HistogramAnalytics histogram = new HistogramAnalytics();
+        if (slices.isEmpty()) {
+            return histogram;
+        }
+        final long from = slices.get(0).getTimestamp().getFrom();
+        final long to = slices.get(slices.size() - 1).getTimestamp().getFrom();
+        final int size = (int) ((to - from) / interval) + 1;
+
+        final List<Bucket> values = new ArrayList<>();
+        for (HistogramAnalytics slice : slices) {
+            merge(values, slice.getValues(), (int) ((slice.getTimestamp().getFrom() - from) / interval), size);
+        }
+        histogram.setTimestamp(new Timestamp(from, to, interval));
+        histogram.setValues(values);
+        return histogram;
+    }
+
+    private static void merge(List<Bucket> merged, List<Bucket> slice, int index, int size) {
+        if (slice == null) {
+            return;
+        }
+        for (Bucket bucket : slice) {
+            Bucket target = merged.stream()
+                    .filter(candidate -> Objects.equals(candidate.getName(), bucket.getName())
+                            && Objects.equals(candidate.getField(), bucket.getField()))
+                    .findFirst()
+                    .orElse(null);
+            if (target == null) {
+                target = new Bucket();
+                target.setName(bucket.getName());
+                target.setField(bucket.getField());
+                if (bucket.getBuckets() != null) {
+                    target.setBuckets(new ArrayList<>());
+                }
+                if (bucket.getData() != null) {
+                    Number[] data = new Number[size];
+                    Arrays.fill(data, 0);
+                    target.setData(data);
+                }
+                merged.add(target);
+            }
+            if (bucket.getMetadata() != null) {
+                if (target.getMetadata() == null) {
+                    target.setMetadata(new HashMap<>());
+                }
+                target.getMetadata().putAll(bucket.getMetadata());
+            }
+            if (target.getBuckets() != null) {
+                merge(target.getBuckets(), bucket.getBuckets(), index, size);
+            }
+            if (target.getData() != null && bucket.getData() != null) {
+                target.getData()[index] = bucket.getData()[0];
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Loader<T> {
+        T load(long from, long to) throws AnalyticsException;
+    }
+}
@@ -25,15 +25,9 @@ import io.gravitee.repository.analytics.query.groupby.GroupByResponse;
 import io.gravitee.repository.analytics.query.response.histogram.Data;
 import io.gravitee.repository.analytics.query.response.histogram.DateHistogramResponse;
 import io.gravitee.repository.analytics.query.stats.StatsResponse;
-import io.gravitee.repository.management.model.ApplicationStatus;
-import io.gravitee.rest.api.model.ApplicationEntity;
-import io.gravitee.rest.api.model.PlanEntity;
-import io.gravitee.rest.api.model.TenantEntity;
 import io.gravitee.rest.api.model.analytics.*;
 import io.gravitee.rest.api.model.analytics.query.*;
 import io.gravitee.rest.api.model.analytics.query.DateHistogramQuery;
-import io.gravitee.rest.api.model.api.ApiEntity;
-import io.gravitee.rest.api.model.api.ApiLifecycleState;
 import io.gravitee.rest.api.service.*;
 import io.gravitee.rest.api.service.exceptions.*;
 
@@ -63,16 +57,6 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     private static final String UNKNOWN_SERVICE_MAPPED = "?";
 
     private static final String METADATA_NAME = "name";
-    private static final String METADATA_DELETED = "deleted";
-    private static final String METADATA_UNKNOWN = "unknown";
-    private static final String METADATA_VERSION = "version";
-    private static final String METADATA_UNKNOWN_API_NAME = "Unknown API (not found)";
-    private static final String METADATA_UNKNOWN_APPLICATION_NAME = "Unknown application (keyless)";
-    private static final String METADATA_UNKNOWN_PLAN_NAME = "Unknown plan (keyless)";
-    private static final String METADATA_DELETED_API_NAME = "Deleted API";
-    private static final String METADATA_DELETED_APPLICATION_NAME = "Deleted application";
-    private static final String METADATA_DELETED_TENANT_NAME = "Deleted tenant";
-    private static final String METADATA_DELETED_PLAN_NAME = "Deleted plan";
 
     private static final String FIELD_API = "api";
     private static final String FIELD_APPLICATION = "application";
@@ -84,32 +68,28 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     private AnalyticsRepository analyticsRepository;
 
     @Autowired
-    private ApiService apiService;
+    private ReferenceMetadataResolver referenceMetadataResolver;
 
     @Autowired
-    private ApplicationService applicationService;
-
-    @Autowired
-    private PlanService planService;
-
-    @Autowired
-    private TenantService tenantService;
+    private AnalyticsQueryCache analyticsQueryCache;
 
     @Override
     public StatsAnalytics execute(final StatsQuery query) {
         try {
-            final StatsResponse response = analyticsRepository.query(
-                    QueryBuilders.stats()
-                            .query(query.getQuery())
-                            .timeRange(
-                                    DateRangeBuilder.between(query.getFrom(), query.getTo()),
-                                    IntervalBuilder.interval(query.getInterval())
-                            )
-                            .root(query.getRootField(), query.getRootIdentifier())
-                            .field(query.getField())
-                            .build());
-
-            return convert(response, query);
+            return analyticsQueryCache.get(query, query.getField(), (from, to) -> {
+                final StatsResponse response = analyticsRepository.query(
+                        QueryBuilders.stats()
+                                .query(query.getQuery())
+                                .timeRange(
+                                        DateRangeBuilder.between(from, to),
+                                        IntervalBuilder.interval(query.getInterval())
+                                )
+                                .root(query.getRootField(), query.getRootIdentifier())
+                                .field(query.getField())
+                                .build());
+
+                return convert(response, from, to);
+            });
         } catch (AnalyticsException ae) {
             logger.error("Unable to calculate analytics: ", ae);
             throw new AnalyticsCalculateException("Unable to calculate analytics");
@@ -119,17 +99,19 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     @Override
     public HitsAnalytics execute(CountQuery query) {
         try {
-            CountResponse response = analyticsRepository.query(
-                    QueryBuilders.count()
-                            .query(query.getQuery())
-                            .timeRange(
-                                    DateRangeBuilder.between(query.getFrom(), query.getTo()),
-                                    IntervalBuilder.interval(query.getInterval())
-                            )
-                            .root(query.getRootField(), query.getRootIdentifier())
-                            .build());
-
-            return convert(response);
+            return analyticsQueryCache.get(query, "", (from, to) -> {
+                CountResponse response = analyticsRepository.query(
+                        QueryBuilders.count()
+                                .query(query.getQuery())
+                                .timeRange(
+                                        DateRangeBuilder.between(from, to),
+                                        IntervalBuilder.interval(query.getInterval())
+                                )
+                                .root(query.getRootField(), query.getRootIdentifier())
+                                .build());
+
+                return convert(response);
+            });
         } catch (AnalyticsException ae) {
             logger.error("Unable to calculate analytics: ", ae);
             throw new AnalyticsCalculateException("Unable to calculate analytics");
@@ -139,23 +121,29 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     @Override
     public HistogramAnalytics execute(DateHistogramQuery query) {
         try {
-            DateHistogramQueryBuilder queryBuilder = QueryBuilders.dateHistogram()
-                    .query(query.getQuery())
-                    .timeRange(
-                            DateRangeBuilder.between(query.getFrom(), query.getTo()),
-                            IntervalBuilder.interval(query.getInterval())
-                    )
-                    .root(query.getRootField(), query.getRootIdentifier());
-
-            if (query.getAggregations() != null) {
-                query.getAggregations().stream()
-                        .forEach(aggregation ->
-                                queryBuilder.aggregation(
-                                        AggregationType.valueOf(aggregation.type().name()), aggregation.field()));
-            }
+            String aggregations = query.getAggregations() == null ? "" : query.getAggregations().stream()
+                    .map(aggregation -> aggregation.type() + "(" + aggregation.field() + ")")
+                    .collect(Collectors.joining(","));
+
+            return analyticsQueryCache.getHistogram(query, aggregations, (from, to) -> {
+                DateHistogramQueryBuilder queryBuilder = QueryBuilders.dateHistogram()
+                        .query(query.getQuery())
+                        .timeRange(
+                                DateRangeBuilder.between(from, to),
+                                IntervalBuilder.interval(query.getInterval())
+                        )
+                        .root(query.getRootField(), query.getRootIdentifier());
+
+                if (query.getAggregations() != null) {
+                    query.getAggregations().stream()
+                            .forEach(aggregation ->
+                                    queryBuilder.aggregation(
+                                            AggregationType.valueOf(aggregation.type().name()), aggregation.field()));
+                }
 
-            DateHistogramResponse response = analyticsRepository.query(queryBuilder.build());
-            return convert(response);
+                DateHistogramResponse response = analyticsRepository.query(queryBuilder.build());
+                return convert(response, query.getInterval());
+            });
         } catch (AnalyticsException ae) {
             logger.error("Unable to calculate analytics: ", ae);
             throw new AnalyticsCalculateException("Unable to calculate analytics");
@@ -165,41 +153,48 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     @Override
     public TopHitsAnalytics execute(GroupByQuery query) {
         try {
-            GroupByQueryBuilder queryBuilder = QueryBuilders.groupBy()
-                    .query(query.getQuery())
-                    .timeRange(
-                            DateRangeBuilder.between(query.getFrom(), query.getTo()),
-                            IntervalBuilder.interval(query.getInterval())
-                    )
-                    .root(query.getRootField(), query.getRootIdentifier())
-                    .field(query.getField());
-
-            if (query.getGroups() != null) {
-                query.getGroups().forEach(queryBuilder::range);
-            }
+            final GroupByQuery.Order order = query.getOrder();
+            String criteria = query.getField() + ':' +
+                    (query.getGroups() == null ? "" : new TreeMap<>(query.getGroups()).toString()) + ':' +
+                    (order == null ? "" : order.getField() + ',' + order.isOrder() + ',' + order.getType());
+
+            return analyticsQueryCache.get(query, criteria, (from, to) -> {
+                GroupByQueryBuilder queryBuilder = QueryBuilders.groupBy()
+                        .query(query.getQuery())
+                        .timeRange(
+                                DateRangeBuilder.between(from, to),
+                                IntervalBuilder.interval(query.getInterval())
+                        )
+                        .root(query.getRootField(), query.getRootIdentifier())
+                        .field(query.getField());
+
+                if (query.getGroups() != null) {
+                    query.getGroups().forEach(queryBuilder::range);
+                }
 
-            if (query.getOrder() != null) {
-                final GroupByQuery.Order order = query.getOrder();
-                queryBuilder.sort(SortBuilder.on(
-                        order.getField(),
-                        order.isOrder() ? Order.ASC : Order.DESC,
-                        (order.getType() == null) ? SortType.AVG : SortType.valueOf(order.getType().toUpperCase())));
-            }
+                if (order != null) {
+                    queryBuilder.sort(SortBuilder.on(
+                            order.getField(),
+                            order.isOrder() ? Order.ASC : Order.DESC,
+                            (order.getType() == null) ? SortType.AVG : SortType.valueOf(order.getType().toUpperCase())));
+                }
 
-            GroupByResponse response = analyticsRepository.query(queryBuilder.build());
-            return convert(response);
+                GroupByResponse response = analyticsRepository.query(queryBuilder.build());
+                return convert(response);
+            });
         } catch (AnalyticsException ae) {
             logger.error("Unable to calculate analytics: ", ae);
             throw new AnalyticsCalculateException("Unable to calculate analytics");
         }
     }
 
-    private HistogramAnalytics convert(DateHistogramResponse histogramResponse) {
+    private HistogramAnalytics convert(DateHistogramResponse histogramResponse, long queryInterval) {
         final HistogramAnalytics analytics = new HistogramAnalytics();
         final List<Long> timestamps = histogramResponse.timestamps();
-        if (timestamps != null && timestamps.size() > 1) {
+        // a short range, such as the last buckets merged by the cache, may only have one bucket
+        if (timestamps != null && !timestamps.isEmpty() && (timestamps.size() > 1 || queryInterval > 0)) {
             final long from = timestamps.get(0);
-            final long interval = timestamps.get(1) - from;
+            final long interval = timestamps.size() > 1 ? timestamps.get(1) - from : queryInterval;
             final long to = timestamps.get(timestamps.size() - 1);
 
             analytics.setTimestamp(new Timestamp(from, to, interval));
@@ -227,23 +222,11 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         }
 
         if (FIELD_APPLICATION.equals(analyticsBucket.getField())) {
-            // Prepare metadata
-            Map<String, Map<String, String>> metadata = new HashMap<>();
-            bucket.data().keySet().forEach(app -> metadata.put(app, getApplicationMetadata(app)));
-
-            analyticsBucket.setMetadata(metadata);
+            analyticsBucket.setMetadata(referenceMetadataResolver.getApplicationsMetadata(bucket.data().keySet()));
         } else if (FIELD_API.equals(analyticsBucket.getField())) {
-            // Prepare metadata
-            Map<String, Map<String, String>> metadata = new HashMap<>();
-            bucket.data().keySet().forEach(api -> metadata.put(api, getAPIMetadata(api)));
-
-            analyticsBucket.setMetadata(metadata);
+            analyticsBucket.setMetadata(referenceMetadataResolver.getApisMetadata(bucket.data().keySet()));
         } else if (FIELD_TENANT.equals(analyticsBucket.getField())) {
-            // Prepare metadata
-            Map<String, Map<String, String>> metadata = new HashMap<>();
-            bucket.data().keySet().forEach(tenant -> metadata.put(tenant, getTenantMetadata(tenant)));
-
-            analyticsBucket.setMetadata(metadata);
+            analyticsBucket.setMetadata(referenceMetadataResolver.getTenantsMetadata(bucket.data().keySet()));
         }
 
         for (Map.Entry<String, List<Data>> dataBucket : bucket.data().entrySet()) {
@@ -266,7 +249,7 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         return analyticsBucket;
     }
 
-    private StatsAnalytics convert(final StatsResponse statsResponse, final StatsQuery query) {
+    private StatsAnalytics convert(final StatsResponse statsResponse, final long from, final long to) {
         final StatsAnalytics statsAnalytics = new StatsAnalytics();
         statsAnalytics.setAvg(statsResponse.getAvg());
         statsAnalytics.setCount(statsResponse.getCount());
@@ -274,7 +257,7 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         statsAnalytics.setMin(statsResponse.getMin());
         statsAnalytics.setSum(statsResponse.getSum());
         if (statsResponse.getCount() != null) {
-            final long numberOfSeconds = (query.getTo() - query.getFrom()) / 1000;
+            final long numberOfSeconds = (to - from) / 1000;
             statsAnalytics.setRps(statsResponse.getCount() / numberOfSeconds);
             statsAnalytics.setRpm(statsResponse.getCount() / numberOfSeconds * 60);
             statsAnalytics.setRph(statsResponse.getCount() / numberOfSeconds * 3600);
@@ -310,18 +293,25 @@ public class AnalyticsServiceImpl implements AnalyticsService {
             // Prepare metadata
             Map<String, Map<String, String>> metadata = new HashMap<>();
             if (topHitsAnalytics.getValues() != null) {
+                // resolve all the keys at once rather than one by one
+                Set<String> keys = topHitsAnalytics.getValues().keySet();
+                Map<String, Map<String, String>> references;
+                switch (fieldName) {
+                    case FIELD_API: references = referenceMetadataResolver.getApisMetadata(keys); break;
+                    case FIELD_APPLICATION: references = referenceMetadataResolver.getApplicationsMetadata(keys); break;
+                    case FIELD_PLAN: references = referenceMetadataResolver.getPlansMetadata(keys); break;
+                    case FIELD_TENANT: references = referenceMetadataResolver.getTenantsMetadata(keys); break;
+                    default: references = Collections.emptyMap(); break;
+                }
+
                 int i = 0;
-                for (String key : topHitsAnalytics.getValues().keySet()) {
-                    switch(fieldName) {
-                        case FIELD_API: metadata.put(key, getAPIMetadata(key)); break;
-                        case FIELD_APPLICATION: metadata.put(key, getApplicationMetadata(key)); break;
-                        case FIELD_PLAN: metadata.put(key, getPlanMetadata(key)); break;
-                        case FIELD_TENANT: metadata.put(key, getTenantMetadata(key)); break;
-                        case FIELD_GEOIP_COUNTRY_ISO_CODE: metadata.put(key, getCountryName(key)); break;
-                        default:
-                            metadata.put(key, getGenericMetadata(key)); break;
+                for (String key : keys) {
+                    Map<String, String> keyMetadata = references.get(key);
+                    if (keyMetadata == null) {
+                        keyMetadata = FIELD_GEOIP_COUNTRY_ISO_CODE.equals(fieldName) ? getCountryName(key) : getGenericMetadata(key);
                     }
-                    metadata.get(key).put("order", String.valueOf(i));
+                    keyMetadata.put("order", String.valueOf(i));
+                    metadata.put(key, keyMetadata);
                     i++;
                 }
             }
@@ -332,83 +322,6 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         return topHitsAnalytics;
     }
 
-    private Map<String, String> getAPIMetadata(String api) {
-        Map<String, String> metadata = new HashMap<>();
-
-        try {
-            if (api.equals(UNKNOWN_SERVICE) || api.equals(UNKNOWN_SERVICE_MAPPED)) {
-                metadata.put(METADATA_NAME, METADATA_UNKNOWN_API_NAME);
-                metadata.put(METADATA_UNKNOWN, Boolean.TRUE.toString());
-            } else {
-                ApiEntity apiEntity = apiService.findById(api);
-                metadata.put(METADATA_NAME, apiEntity.getName());
-                metadata.put(METADATA_VERSION, apiEntity.getVersion());
-                if (ApiLifecycleState.ARCHIVED.equals(apiEntity.getLifecycleState())) {
-                    metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
-                }
-            }
-        } catch (ApiNotFoundException anfe) {
-            metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
-            metadata.put(METADATA_NAME, METADATA_DELETED_API_NAME);
-        }
-
-        return metadata;
-    }
-
-    private Map<String, String> getApplicationMetadata(String application) {
-        Map<String, String> metadata = new HashMap<>();
-
-        try {
-            if (application.equals(UNKNOWN_SERVICE) || application.equals(UNKNOWN_SERVICE_MAPPED)) {
-                metadata.put(METADATA_NAME, METADATA_UNKNOWN_APPLICATION_NAME);
-                metadata.put(METADATA_UNKNOWN, Boolean.TRUE.toString());
-            } else {
-                ApplicationEntity applicationEntity = applicationService.findById(application);
-                metadata.put(METADATA_NAME, applicationEntity.getName());
-                if (ApplicationStatus.ARCHIVED.toString().equals(applicationEntity.getStatus())) {
-                    metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
-                }
-            }
-        } catch (ApplicationNotFoundException anfe) {
-            metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
-            metadata.put(METADATA_NAME, METADATA_DELETED_APPLICATION_NAME);
-        }
-
-        return metadata;
-    }
-
-    private Map<String, String> getPlanMetadata(String plan) {
-        Map<String, String> metadata = new HashMap<>();
-        try {
-            if (plan.equals(UNKNOWN_SERVICE) || plan.equals(UNKNOWN_SERVICE_MAPPED)) {
-                metadata.put(METADATA_NAME, METADATA_UNKNOWN_PLAN_NAME);
-                metadata.put(METADATA_UNKNOWN, Boolean.TRUE.toString());
-            } else {
-                PlanEntity planEntity = planService.findById(plan);
-                metadata.put(METADATA_NAME, planEntity.getName());
-            }
-        } catch (PlanNotFoundException anfe) {
-            metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
-            metadata.put(METADATA_NAME, METADATA_DELETED_PLAN_NAME);
-        }
-
-        return metadata;
-    }
-
-    private Map<String, String> getTenantMetadata(String tenant) {
-        Map<String, String> metadata = new HashMap<>();
-
-        try {
-            TenantEntity tenantEntity = tenantService.findById(tenant);
-            metadata.put(METADATA_NAME, tenantEntity.getName());
-        } catch (TenantNotFoundException tnfe) {
-            metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
-            metadata.put(METADATA_NAME, METADATA_DELETED_TENANT_NAME);
-        }
-
-        return metadata;
-    }
-
     private Map<String, String> getCountryName(String country_iso) {
         Map<String, String> metadata = new HashMap<>();
 
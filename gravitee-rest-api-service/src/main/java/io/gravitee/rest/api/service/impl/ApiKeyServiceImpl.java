@@ -317,6 +317,26 @@ public class ApiKeyServiceImpl extends TransactionalService implements ApiKeySer
         }
     }
 
+    @Override
+    public Map<String, Set<ApiKeyEntity>> findBySubscriptions(Collection<String> subscriptions) {
+        try {
+            LOGGER.debug("Find API Keys for subscriptions {}", subscriptions);
+
+            Map<String, Set<ApiKeyEntity>> keysBySubscription = new HashMap<>(subscriptions.size());
+            for (String subscription : subscriptions) {
+                keysBySubscription.put(subscription, apiKeyRepository.findBySubscription(subscription)
+                        .stream()
+                        .map(ApiKeyServiceImpl::convert)
+                        .collect(Collectors.toSet()));
+            }
+            return keysBySubscription;
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while finding API keys for subscriptions {}", subscriptions, ex);
+            throw new TechnicalManagementException(
+                    String.format("An error occurs while finding API keys for subscriptions %s", subscriptions), ex);
+        }
+    }
+
     @Override
     public ApiKeyEntity findByKey(String apiKey) {
         try {
@@ -15,10 +15,15 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
@@ -33,6 +38,7 @@ import io.gravitee.repository.management.api.ApiQualityRuleRepository;
 import io.gravitee.repository.management.api.ApiRepository;
 import io.gravitee.repository.management.api.search.ApiCriteria;
 import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
+import io.gravitee.repository.management.api.search.builder.PageableBuilder;
 import io.gravitee.repository.management.model.Api;
 import io.gravitee.repository.management.model.ApiLifecycleState;
 import io.gravitee.repository.management.model.Visibility;
@@ -47,6 +53,7 @@ import io.gravitee.rest.api.model.alert.AlertTriggerEntity;
 import io.gravitee.rest.api.model.api.*;
 import io.gravitee.rest.api.model.api.header.ApiHeaderEntity;
 import io.gravitee.rest.api.model.application.ApplicationListItem;
+import io.gravitee.rest.api.model.common.Pageable;
 import io.gravitee.rest.api.model.documentation.PageQuery;
 import io.gravitee.rest.api.model.notification.GenericNotificationConfigEntity;
 import io.gravitee.rest.api.model.parameters.Key;
@@ -79,6 +86,7 @@ import org.springframework.ui.freemarker.FreeMarkerTemplateUtils;
 
 import javax.xml.bind.DatatypeConverter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.StringReader;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -167,6 +175,10 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
     @Autowired
     private WorkflowService workflowService;
     @Autowired
+    private ApiVisibilityIndex apiVisibilityIndex;
+    @Autowired
+    private MemberPermissionsCache memberPermissionsCache;
+    @Autowired
     private HttpClientService httpClientService;
     @Autowired
     private VirtualHostService virtualHostService;
@@ -189,6 +201,7 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
     private static final String LOGGING_MAX_DURATION_CONDITION = "#request.timestamp <= %dl";
     private static final String LOGGING_DELIMITER_BASE = "\\s+(\\|\\||\\&\\&)\\s+";
     private static final String ENDPOINTS_DELIMITER = "\n";
+    private static final String API_MEDIA_FIELD = "apiMedia";
 
     @Override
     public ApiEntity create(final NewApiEntity newApiEntity, final String userId) throws ApiAlreadyExistsException {
@@ -398,6 +411,7 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
                 }
 
                 Api createdApi = apiRepository.create(repoApi);
+                apiVisibilityIndex.invalidateGroups(repoApi.getGroups());
 
                 if (createSystemFolder) {
                     createSystemFolder(createdApi.getId());
@@ -720,56 +734,36 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
 
     @Override
     public Set<ApiEntity> findByUser(String userId, ApiQuery apiQuery, boolean portal) {
+        return findByUser(userId, apiQuery, portal, null);
+    }
+
+    private Set<ApiEntity> findByUser(String userId, ApiQuery apiQuery, boolean portal, ApiFieldExclusionFilter exclusionFilter) {
         try {
             LOGGER.debug("Find APIs by user {}", userId);
 
             //get all public apis
             List<Api> publicApis;
             if (portal) {
-                publicApis = apiRepository.search(queryToCriteria(apiQuery).visibility(PUBLIC).build());
+                publicApis = search(queryToCriteria(apiQuery).visibility(PUBLIC).build(), exclusionFilter);
             } else {
                 publicApis = emptyList();
             }
 
             List<Api> userApis = emptyList();
-            List<Api> groupApis = emptyList();
-            List<Api> subscribedApis = emptyList();
 
             // for others API, user must be authenticated
             if (userId != null) {
-                // get user apis
-                final String[] userApiIds = membershipService
-                    .getMembershipsByMemberAndReference(MembershipMemberType.USER, userId, MembershipReferenceType.API).stream()
-                    .map(MembershipEntity::getReferenceId)
-                    .toArray(String[]::new);
-                if (userApiIds.length > 0) {
-                    userApis = apiRepository.search(queryToCriteria(apiQuery).ids(userApiIds).build());
+                final ApiVisibilityIndex.VisibleApis visibleApis = apiVisibilityIndex.get(userId, () -> findVisibleApis(userId));
+                final Set<String> userApiIds = new HashSet<>(visibleApis.getMemberApis());
+                // subscribed apis are useful when an API becomes private and an app owner is not anymore in members
+                if (portal) {
+                    userApiIds.addAll(visibleApis.getSubscribedApis());
                 }
-
-                // get user groups apis
-                final String[] groupIds = membershipService
-                    .getMembershipsByMemberAndReference(MembershipMemberType.USER, userId, MembershipReferenceType.GROUP).stream()
-                    .filter(m -> m.getRoleId() != null && roleService.findById(m.getRoleId()).getScope().equals(RoleScope.API))
-                    .map(MembershipEntity::getReferenceId)
-                    .toArray(String[]::new);
-                if (groupIds.length > 0 && groupIds[0] != null) {
-                    groupApis = apiRepository.search(queryToCriteria(apiQuery).groups(groupIds).build());
+                if (!publicApis.isEmpty()) {
+                    userApiIds.removeAll(publicApis.stream().map(Api::getId).collect(toSet()));
                 }
-
-                // get user subscribed apis, useful when an API becomes private and an app owner is not anymore in members
-                if (portal) {
-                    final Set<String> applications =
-                        applicationService.findByUser(userId).stream().map(ApplicationListItem::getId).collect(toSet());
-                    if (!applications.isEmpty()) {
-                        final SubscriptionQuery query = new SubscriptionQuery();
-                        query.setApplications(applications);
-                        final Collection<SubscriptionEntity> subscriptions = subscriptionService.search(query);
-                        if (subscriptions != null && !subscriptions.isEmpty()) {
-                            subscribedApis = apiRepository
-                                .search(queryToCriteria(apiQuery).ids(subscriptions.stream()
-                                    .map(SubscriptionEntity::getApi).distinct().toArray(String[]::new)).build());
-                        }
-                    }
+                if (!userApiIds.isEmpty()) {
+                    userApis = search(queryToCriteria(apiQuery).ids(userApiIds.toArray(new String[0])).build(), exclusionFilter);
                 }
             }
 
@@ -777,8 +771,6 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
             final Set<ApiEntity> apis = new HashSet<>();
             apis.addAll(convert(publicApis));
             apis.addAll(convert(userApis));
-            apis.addAll(convert(groupApis));
-            apis.addAll(convert(subscribedApis));
             return filterApiByQuery(apis.stream(), apiQuery).collect(toSet());
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to find APIs for user {}", userId, ex);
@@ -786,6 +778,44 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
         }
     }
 
+    private ApiVisibilityIndex.VisibleApis findVisibleApis(String userId) throws TechnicalException {
+        // get user apis
+        final Set<String> memberApis = membershipService
+            .getMembershipsByMemberAndReference(MembershipMemberType.USER, userId, MembershipReferenceType.API).stream()
+            .map(MembershipEntity::getReferenceId)
+            .collect(toSet());
+
+        // get user groups apis
+        final Map<String, RoleScope> roleScopes = new HashMap<>();
+        final Set<MembershipEntity> groupMemberships =
+            membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, userId, MembershipReferenceType.GROUP);
+        final Set<String> groups = groupMemberships.stream().map(MembershipEntity::getReferenceId).collect(toSet());
+        final String[] groupIds = groupMemberships.stream()
+            .filter(m -> m.getRoleId() != null &&
+                roleScopes.computeIfAbsent(m.getRoleId(), roleId -> roleService.findById(roleId).getScope()).equals(RoleScope.API))
+            .map(MembershipEntity::getReferenceId)
+            .toArray(String[]::new);
+        if (groupIds.length > 0 && groupIds[0] != null) {
+            apiRepository.search(new ApiCriteria.Builder().environmentId(GraviteeContext.getCurrentEnvironment()).groups(groupIds).build())
+                .forEach(api -> memberApis.add(api.getId()));
+        }
+
+        // get user subscribed apis
+        final Set<String> subscribedApis = new HashSet<>();
+        final Set<String> applications =
+            applicationService.findByUser(userId).stream().map(ApplicationListItem::getId).collect(toSet());
+        if (!applications.isEmpty()) {
+            final SubscriptionQuery query = new SubscriptionQuery();
+            query.setApplications(applications);
+            final Collection<SubscriptionEntity> subscriptions = subscriptionService.search(query);
+            if (subscriptions != null) {
+                subscriptions.forEach(subscription -> subscribedApis.add(subscription.getApi()));
+            }
+        }
+
+        return new ApiVisibilityIndex.VisibleApis(memberApis, subscribedApis, groups, applications);
+    }
+
     @Override
     public Set<ApiEntity> findPublishedByUser(String userId, ApiQuery apiQuery) {
         if (apiQuery == null) {
@@ -800,6 +830,80 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
         return findPublishedByUser(userId, null);
     }
 
+    @Override
+    public Set<ApiEntity> findPublishedLightByUser(String userId, ApiQuery apiQuery) {
+        if (apiQuery == null) {
+            apiQuery = new ApiQuery();
+        }
+        apiQuery.setLifecycleStates(Arrays.asList(io.gravitee.rest.api.model.api.ApiLifecycleState.PUBLISHED));
+        // tag and context path are read from the definition
+        if (apiQuery.getTag() != null || apiQuery.getContextPath() != null) {
+            return findByUser(userId, apiQuery, true);
+        }
+        return findByUser(userId, apiQuery, true, new ApiFieldExclusionFilter.Builder().excludeDefinition().excludePicture().build());
+    }
+
+    @Override
+    public io.gravitee.common.data.domain.Page<ApiEntity> findPublishedLightByUser(String userId, ApiQuery apiQuery, Pageable pageable) {
+        if (apiQuery == null) {
+            apiQuery = new ApiQuery();
+        }
+        apiQuery.setLifecycleStates(Arrays.asList(io.gravitee.rest.api.model.api.ApiLifecycleState.PUBLISHED));
+        try {
+            LOGGER.debug("Find page {} of published APIs by user {}", pageable.getPageNumber(), userId);
+
+            // The public APIs and the private APIs visible by the user are two disjoint sets, both read sorted by name.
+            // Only their first rows, up to the end of the requested page, are needed to merge them.
+            final int pageStart = (pageable.getPageNumber() - 1) * pageable.getPageSize();
+            final io.gravitee.repository.management.api.search.Pageable firstRows = new PageableBuilder()
+                    .pageNumber(0)
+                    .pageSize(pageStart + pageable.getPageSize())
+                    .build();
+
+            final io.gravitee.common.data.domain.Page<Api> publicApis =
+                    apiRepository.search(queryToCriteria(apiQuery).visibility(PUBLIC).build(), firstRows);
+            final List<Api> apis = new ArrayList<>(publicApis.getContent());
+            long totalElements = publicApis.getTotalElements();
+
+            if (userId != null) {
+                final ApiVisibilityIndex.VisibleApis visibleApis = apiVisibilityIndex.get(userId, () -> findVisibleApis(userId));
+                final Set<String> userApiIds = new HashSet<>(visibleApis.getMemberApis());
+                userApiIds.addAll(visibleApis.getSubscribedApis());
+                if (!userApiIds.isEmpty()) {
+                    final io.gravitee.common.data.domain.Page<Api> privateApis = apiRepository.search(queryToCriteria(apiQuery)
+                            .ids(userApiIds.toArray(new String[0]))
+                            .visibility(Visibility.PRIVATE)
+                            .build(), firstRows);
+                    apis.addAll(privateApis.getContent());
+                    totalElements += privateApis.getTotalElements();
+                }
+            }
+
+            final List<Api> pageApis = apis.stream()
+                    .sorted(comparing(Api::getName, Comparator.nullsFirst(Comparator.naturalOrder())))
+                    .skip(pageStart)
+                    .limit(pageable.getPageSize())
+                    .collect(toList());
+            final Map<String, Integer> positions = new HashMap<>(pageApis.size());
+            pageApis.forEach(api -> positions.put(api.getId(), positions.size()));
+            final List<ApiEntity> content = convert(pageApis).stream()
+                    .sorted(comparing(api -> positions.get(api.getId())))
+                    .collect(toList());
+
+            return new io.gravitee.common.data.domain.Page<>(content, pageable.getPageNumber(), content.size(), totalElements);
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to find published APIs for user {}", userId, ex);
+            throw new TechnicalManagementException("An error occurs while trying to find published APIs for user " + userId, ex);
+        }
+    }
+
+    private List<Api> search(ApiCriteria criteria, ApiFieldExclusionFilter exclusionFilter) throws TechnicalException {
+        if (exclusionFilter == null) {
+            return apiRepository.search(criteria);
+        }
+        return apiRepository.search(criteria, exclusionFilter);
+    }
+
     private Stream<ApiEntity> filterApiByQuery(Stream<ApiEntity> apiEntityStream, ApiQuery query) {
         if (query == null) {
             return apiEntityStream;
@@ -936,6 +1040,11 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
                 }
 
                 Api updatedApi = apiRepository.update(api);
+                if (!Objects.equals(apiToUpdate.getGroups(), api.getGroups())) {
+                    apiVisibilityIndex.invalidateGroups(apiToUpdate.getGroups());
+                    apiVisibilityIndex.invalidateGroups(api.getGroups());
+                    memberPermissionsCache.invalidateReference(MembershipReferenceType.API, apiId);
+                }
 
                 // Audit
                 auditService.createApiAuditLog(
@@ -1341,12 +1450,7 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
 
     @Override
     public String exportAsJson(final String apiId, String exportVersion, String... filteredFields) {
-        ApiEntity apiEntity = findById(apiId);
-        // set metadata for serialize process
-        Map<String, Object> metadata = new HashMap<>();
-        metadata.put(ApiSerializer.METADATA_EXPORT_VERSION, exportVersion);
-        metadata.put(ApiSerializer.METADATA_FILTERED_FIELDS_LIST, Arrays.asList(filteredFields));
-        apiEntity.setMetadata(metadata);
+        ApiEntity apiEntity = findExportedById(apiId, exportVersion, filteredFields);
 
         try {
             return objectMapper.writeValueAsString(apiEntity);
@@ -1356,31 +1460,87 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
         return "";
     }
 
+    @Override
+    public void exportAsJson(final String apiId, String exportVersion, OutputStream outputStream, String... filteredFields) {
+        ApiEntity apiEntity = findExportedById(apiId, exportVersion, filteredFields);
+
+        // the stream belongs to the caller, only flush what has been written
+        try (JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            objectMapper.writeValue(jsonGenerator, apiEntity);
+        } catch (final IOException e) {
+            LOGGER.error("An error occurs while trying to JSON serialize the API {}", apiEntity, e);
+            throw new TechnicalManagementException("An error occurs while trying to JSON serialize the API " + apiId, e);
+        }
+    }
+
+    private ApiEntity findExportedById(final String apiId, String exportVersion, String... filteredFields) {
+        ApiEntity apiEntity = findById(apiId);
+        // set metadata for serialize process
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put(ApiSerializer.METADATA_EXPORT_VERSION, exportVersion);
+        metadata.put(ApiSerializer.METADATA_FILTERED_FIELDS_LIST, Arrays.asList(filteredFields));
+        apiEntity.setMetadata(metadata);
+        return apiEntity;
+    }
+
     @Override
     public ApiEntity createWithImportedDefinition(ApiEntity apiEntity, String apiDefinitionOrURL, String userId) {
         String apiDefinition = fetchApiDefinitionContentFromURL(apiDefinitionOrURL);
         try {
-            // Read the whole definition
-            final JsonNode jsonNode = objectMapper.readTree(apiDefinition);
+            final JsonNode jsonNode = readDefinition(apiDefinition);
             String apiId = jsonNode.has("id") ? jsonNode.get("id").asText() : null;
-            UpdateApiEntity importedApi = this.convertToEntity(apiDefinition, jsonNode, apiId);
+            UpdateApiEntity importedApi = this.convertToEntity(jsonNode, apiId);
             ApiEntity createdApiEntity = create0(importedApi, userId, false, apiId);
-            createPageAndMedia(createdApiEntity, jsonNode);
+            createPageAndMedia(createdApiEntity, apiDefinition, jsonNode);
             updateApiReferences(createdApiEntity, jsonNode);
             return createdApiEntity;
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             LOGGER.error("An error occurs while trying to JSON deserialize the API {}", apiDefinition, e);
             throw new TechnicalManagementException("An error occurs while trying to JSON deserialize the API definition.");
         }
     }
 
-    private void createPageAndMedia(ApiEntity createdApiEntity, JsonNode jsonNode) {
-        final JsonNode apiMedia = jsonNode.path("apiMedia");
-        if (apiMedia != null && apiMedia.isArray()) {
-            for (JsonNode media : apiMedia) {
-                mediaService.createWithDefinition(createdApiEntity.getId(), media.toString());
+    /**
+     * Read the definition without its media, they are read one by one when they are created.
+     */
+    private JsonNode readDefinition(String apiDefinition) throws IOException {
+        final ObjectNode definition = objectMapper.createObjectNode();
+        try (JsonParser parser = objectMapper.getFactory().createParser(apiDefinition)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "The API definition must be a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.getCurrentName();
+                parser.nextToken();
+                if (API_MEDIA_FIELD.equals(field)) {
+                    parser.skipChildren();
+                } else {
+                    definition.set(field, objectMapper.readTree(parser));
+                }
             }
         }
+        return definition;
+    }
+
+    private void createMedia(String apiId, String apiDefinition) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(apiDefinition)) {
+            parser.nextToken();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.getCurrentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && API_MEDIA_FIELD.equals(field)) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        mediaService.createWithDefinition(apiId, objectMapper.readTree(parser).toString());
+                    }
+                    return;
+                }
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void createPageAndMedia(ApiEntity createdApiEntity, String apiDefinition, JsonNode jsonNode) throws IOException {
+        createMedia(createdApiEntity.getId(), apiDefinition);
 
         final JsonNode pages = jsonNode.path("pages");
         if (pages != null && pages.isArray()) {
@@ -1402,27 +1562,26 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
     public ApiEntity updateWithImportedDefinition(ApiEntity apiEntity, String apiDefinitionOrURL, String userId) {
         String apiDefinition = fetchApiDefinitionContentFromURL(apiDefinitionOrURL);
         try {
-            // Read the whole definition
-            final JsonNode jsonNode = objectMapper.readTree(apiDefinition);
-            UpdateApiEntity importedApi = this.convertToEntity(apiDefinition, jsonNode);
+            final JsonNode jsonNode = readDefinition(apiDefinition);
+            UpdateApiEntity importedApi = this.convertToEntity(jsonNode);
             ApiEntity updatedApiEntity = update(apiEntity.getId(), importedApi);
             updateApiReferences(updatedApiEntity, jsonNode);
             return updatedApiEntity;
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             LOGGER.error("An error occurs while trying to JSON deserialize the API {}", apiDefinition, e);
             throw new TechnicalManagementException("An error occurs while trying to JSON deserialize the API definition.");
         }
     }
 
-    private UpdateApiEntity convertToEntity(String apiDefinition, JsonNode jsonNode) throws JsonProcessingException {
-        return convertToEntity(apiDefinition, jsonNode, null);
+    private UpdateApiEntity convertToEntity(JsonNode jsonNode) throws JsonProcessingException {
+        return convertToEntity(jsonNode, null);
     }
 
-    private UpdateApiEntity convertToEntity(String apiDefinition, JsonNode jsonNode, String apiId) throws JsonProcessingException {
+    private UpdateApiEntity convertToEntity(JsonNode jsonNode, String apiId) throws JsonProcessingException {
         final UpdateApiEntity importedApi = objectMapper
             // because definition could contains other values than the api itself (pages, members)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-            .readValue(apiDefinition, UpdateApiEntity.class);
+            .treeToValue(jsonNode, UpdateApiEntity.class);
 
         // Initialize with a default path
         if (importedApi.getPaths() == null || importedApi.getPaths().isEmpty()) {
@@ -1435,8 +1594,9 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
         if (importedApi.getGroups() != null) {
             Set<String> groupNames = new HashSet<>(importedApi.getGroups());
             importedApi.getGroups().clear();
+            Map<String, List<GroupEntity>> groupsByName = groupService.findByNames(groupNames);
             for (String name : groupNames) {
-                List<GroupEntity> groupEntities = groupService.findByName(name);
+                List<GroupEntity> groupEntities = groupsByName.getOrDefault(name, emptyList());
                 GroupEntity group;
                 if (groupEntities.isEmpty()) {
                     NewGroupEntity newGroupEntity = new NewGroupEntity();
@@ -1469,11 +1629,19 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
         final JsonNode membersToImport = jsonNode.path("members");
         if (membersToImport != null && membersToImport.isArray()) {
             // get current members of the api
-            Set<MemberToImport> membersAlreadyPresent = membershipService
-                .getMembersByReference(MembershipReferenceType.API, createdOrUpdatedApiEntity.getId())
+            Set<MemberEntity> members = membershipService
+                .getMembersByReference(MembershipReferenceType.API, createdOrUpdatedApiEntity.getId());
+            Map<String, UserEntity> users = members.isEmpty() ? emptyMap() : userService
+                .findByIds(members.stream().map(MemberEntity::getId).collect(toList()), false)
+                .stream()
+                .collect(toMap(UserEntity::getId, userEntity -> userEntity, (u1, u2) -> u1));
+            Set<MemberToImport> membersAlreadyPresent = members
                 .stream()
                 .map(member -> {
-                    UserEntity userEntity = userService.findById(member.getId());
+                    UserEntity userEntity = users.get(member.getId());
+                    if (userEntity == null) {
+                        throw new UserNotFoundException(member.getId());
+                    }
                     return new MemberToImport(userEntity.getSource(), userEntity.getSourceId(), member.getRoles().stream().map(RoleEntity::getId).collect(Collectors.toList()), null);
                 }).collect(toSet());
             // get the current PO
@@ -1491,7 +1659,7 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
 
                 // upsert members
                 for (final JsonNode memberNode : membersToImport) {
-                    MemberToImport memberToImport = objectMapper.readValue(memberNode.toString(), MemberToImport.class);
+                    MemberToImport memberToImport = objectMapper.treeToValue(memberNode, MemberToImport.class);
                     String roleToAdd = memberToImport.getRole();
                     List<String> rolesToImport = memberToImport.getRoles();
                     if (roleToAdd != null && !roleToAdd.isEmpty()) {
@@ -1579,7 +1747,7 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
         //Pages
         final JsonNode pagesDefinition = jsonNode.path("pages");
         if (pagesDefinition != null && pagesDefinition.isArray()) {
-            List<PageEntity> pagesList = objectMapper.readValue(pagesDefinition.toString(),
+            List<PageEntity> pagesList = objectMapper.convertValue(pagesDefinition,
                 objectMapper.getTypeFactory().constructCollectionType(List.class, PageEntity.class));
             PageEntityTreeNode documentationTree = new PageEntityTreeNode(new PageEntity());
             documentationTree.appendListToTree(pagesList);
@@ -1599,11 +1767,11 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
                     .filter(planEntity -> !PlanStatus.CLOSED.equals(planEntity.getStatus()))
                     .collect(toList());
                 if (planEntities.isEmpty()) {
-                    NewPlanEntity newPlanEntity = objectMapper.readValue(planNode.toString(), NewPlanEntity.class);
+                    NewPlanEntity newPlanEntity = objectMapper.treeToValue(planNode, NewPlanEntity.class);
                     newPlanEntity.setApi(createdOrUpdatedApiEntity.getId());
                     planService.create(newPlanEntity);
                 } else if (planEntities.size() == 1) {
-                    UpdatePlanEntity updatePlanEntity = objectMapper.readValue(planNode.toString(), UpdatePlanEntity.class);
+                    UpdatePlanEntity updatePlanEntity = objectMapper.treeToValue(planNode, UpdatePlanEntity.class);
                     updatePlanEntity.setId(planEntities.iterator().next().getId());
                     planService.update(updatePlanEntity);
                 } else {
@@ -1617,7 +1785,7 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
         if (metadataDefinition != null && metadataDefinition.isArray()) {
             try {
                 for (JsonNode metadataNode : metadataDefinition) {
-                    UpdateApiMetadataEntity updateApiMetadataEntity = objectMapper.readValue(metadataNode.toString(), UpdateApiMetadataEntity.class);
+                    UpdateApiMetadataEntity updateApiMetadataEntity = objectMapper.treeToValue(metadataNode, UpdateApiMetadataEntity.class);
                     updateApiMetadataEntity.setApiId(createdOrUpdatedApiEntity.getId());
                     apiMetadataService.update(updateApiMetadataEntity);
                 }
@@ -2182,8 +2350,11 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
             .forEach(userEntity -> userIdToUserEntity.put(userEntity.getId(), userEntity));
 
         final List<CategoryEntity> categories = categoryService.findAll();
+        final Map<String, List<Workflow>> workflows = parameterService.findAsBoolean(Key.API_REVIEW_ENABLED) ?
+            workflowService.findByReferencesAndType(API, apis.stream().map(Api::getId).collect(toList()), REVIEW) :
+            emptyMap();
         return streamApis
-            .map(publicApi -> this.convert(publicApi, userIdToUserEntity.get(apiToUser.get(publicApi.getId())), categories))
+            .map(publicApi -> this.convert(publicApi, userIdToUserEntity.get(apiToUser.get(publicApi.getId())), categories, workflows))
             .collect(toSet());
     }
 
@@ -2192,6 +2363,14 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
     }
 
     private ApiEntity convert(Api api, UserEntity primaryOwner, List<CategoryEntity> categories) {
+        return convert(api, primaryOwner, categories, null);
+    }
+
+    /**
+     * @param workflows the review workflows already loaded for a batch of APIs, or <code>null</code> to load them for
+     *                  this API only.
+     */
+    private ApiEntity convert(Api api, UserEntity primaryOwner, List<CategoryEntity> categories, Map<String, List<Workflow>> workflows) {
         ApiEntity apiEntity = new ApiEntity();
 
         apiEntity.setId(api.getId());
@@ -2262,11 +2441,16 @@ public class ApiServiceImpl extends AbstractService implements ApiService {
             apiEntity.setLifecycleState(io.gravitee.rest.api.model.api.ApiLifecycleState.valueOf(lifecycleState.name()));
         }
 
-        if (parameterService.findAsBoolean(Key.API_REVIEW_ENABLED)) {
-            final List<Workflow> workflows = workflowService.findByReferenceAndType(API, api.getId(), REVIEW);
-            if (workflows != null && !workflows.isEmpty()) {
-                apiEntity.setWorkflowState(WorkflowState.valueOf(workflows.get(0).getState()));
-            }
+        final List<Workflow> apiWorkflows;
+        if (workflows != null) {
+            apiWorkflows = workflows.get(api.getId());
+        } else if (parameterService.findAsBoolean(Key.API_REVIEW_ENABLED)) {
+            apiWorkflows = workflowService.findByReferenceAndType(API, api.getId(), REVIEW);
+        } else {
+            apiWorkflows = null;
+        }
+        if (apiWorkflows != null && !apiWorkflows.isEmpty()) {
+            apiEntity.setWorkflowState(WorkflowState.valueOf(apiWorkflows.get(0).getState()));
         }
 
         return apiEntity;
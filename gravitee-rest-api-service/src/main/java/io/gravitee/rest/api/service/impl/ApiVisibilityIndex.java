@@ -0,0 +1,160 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.gravitee.rest.api.service.CacheEvictionService;
+import io.gravitee.rest.api.service.common.GraviteeContext;
+import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ids of the APIs a user can see besides the public ones: the APIs they are member of, directly or through a group,
+ * and the APIs their applications are subscribed to.
+ *
+ * Each entry also keeps the groups and the applications of the user, so that a write only evicts the users it
+ * concerns: a membership change evicts its member, a subscription or an application change evicts the users of the
+ * application and a group change evicts the members of the group. Evictions are sent to the other nodes through the
+ * {@link CacheEvictionService}, and entries expire after a few minutes in case an eviction has been missed.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class ApiVisibilityIndex implements EvictableCache {
+
+    static final String NAME = "api-visibility";
+
+    private static final String USER_KEY_PREFIX = "user:";
+    private static final String APPLICATION_KEY_PREFIX = "application:";
+    private static final String GROUP_KEY_PREFIX = "group:";
+
+    @Autowired
+    private CacheEvictionService cacheEvictionService;
+
+    private final Cache<String, VisibleApis> visibleApis = CacheBuilder
+            .newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(5, TimeUnit.MINUTES)
+            .build();
+
+    public VisibleApis get(String userId, Callable<VisibleApis> loader) {
+        try {
+            return visibleApis.get(key(userId), loader);
+        } catch (ExecutionException ex) {
+            throw new TechnicalManagementException("An error occurs while trying to find visible APIs for user " + userId, ex.getCause());
+        } catch (UncheckedExecutionException ex) {
+            // keep the not found and technical exceptions raised while loading the visible APIs
+            Throwables.throwIfUnchecked(ex.getCause());
+            throw ex;
+        }
+    }
+
+    public void invalidate(String userId) {
+        evict(USER_KEY_PREFIX + userId);
+    }
+
+    public void invalidateApplication(String applicationId) {
+        evict(APPLICATION_KEY_PREFIX + applicationId);
+    }
+
+    public void invalidateGroups(Collection<String> groupIds) {
+        if (groupIds != null) {
+            groupIds.forEach(groupId -> evict(GROUP_KEY_PREFIX + groupId));
+        }
+    }
+
+    public void invalidateAll() {
+        evict(null);
+    }
+
+    private void evict(String key) {
+        evictLocally(key);
+        cacheEvictionService.propagate(NAME, key);
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void evictLocally(String key) {
+        if (key == null) {
+            visibleApis.invalidateAll();
+        } else if (key.startsWith(USER_KEY_PREFIX)) {
+            final String userSuffix = ':' + key.substring(USER_KEY_PREFIX.length());
+            visibleApis.asMap().keySet().removeIf(cached -> cached.endsWith(userSuffix));
+        } else if (key.startsWith(APPLICATION_KEY_PREFIX)) {
+            final String applicationId = key.substring(APPLICATION_KEY_PREFIX.length());
+            visibleApis.asMap().values().removeIf(cached -> cached.getApplications().contains(applicationId));
+        } else if (key.startsWith(GROUP_KEY_PREFIX)) {
+            final String groupId = key.substring(GROUP_KEY_PREFIX.length());
+            visibleApis.asMap().values().removeIf(cached -> cached.getGroups().contains(groupId));
+        }
+    }
+
+    private String key(String userId) {
+        return GraviteeContext.getCurrentEnvironment() + ':' + userId;
+    }
+
+    public static class VisibleApis {
+
+        private final Set<String> memberApis;
+        private final Set<String> subscribedApis;
+        private final Set<String> groups;
+        private final Set<String> applications;
+
+        public VisibleApis(Set<String> memberApis, Set<String> subscribedApis, Set<String> groups, Set<String> applications) {
+            this.memberApis = Collections.unmodifiableSet(memberApis);
+            this.subscribedApis = Collections.unmodifiableSet(subscribedApis);
+            this.groups = Collections.unmodifiableSet(groups);
+            this.applications = Collections.unmodifiableSet(applications);
+        }
+
+        public Set<String> getMemberApis() {
+            return memberApis;
+        }
+
+        public Set<String> getSubscribedApis() {
+            return subscribedApis;
+        }
+
+        /**
+         * Groups the user is member of, whatever their role.
+         */
+        public Set<String> getGroups() {
+            return groups;
+        }
+
+        /**
+         * Applications of the user, directly or through a group.
+         */
+        public Set<String> getApplications() {
+            return applications;
+        }
+    }
+}
@@ -109,6 +109,10 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
 
     @Autowired
     private ApplicationTypeService applicationTypeService;
+    @Autowired
+    private MemberPermissionsCache memberPermissionsCache;
+    @Autowired
+    private ApiVisibilityIndex apiVisibilityIndex;
 
     private final ObjectMapper mapper = new ObjectMapper();
 
@@ -460,6 +464,12 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
             metadata.forEach((key, value) -> application.getMetadata().put(key, value));
 
             Application updatedApplication = applicationRepository.update(application);
+            if (!Objects.equals(optApplicationToUpdate.get().getGroups(), application.getGroups())) {
+                memberPermissionsCache.invalidateReference(MembershipReferenceType.APPLICATION, applicationId);
+                // the members of the groups see the APIs the application is subscribed to
+                apiVisibilityIndex.invalidateApplication(applicationId);
+                apiVisibilityIndex.invalidateGroups(application.getGroups());
+            }
 
             // Audit
             auditService.createApplicationAuditLog(
@@ -612,6 +622,7 @@ public class ApplicationServiceImpl extends AbstractService implements Applicati
             genericNotificationConfigService.deleteReference(NotificationReferenceType.APPLICATION, applicationId);
             // delete memberships
             membershipService.deleteReference(MembershipReferenceType.APPLICATION, applicationId);
+            apiVisibilityIndex.invalidateApplication(applicationId);
             // Audit
             auditService.createApplicationAuditLog(
                 application.getId(),
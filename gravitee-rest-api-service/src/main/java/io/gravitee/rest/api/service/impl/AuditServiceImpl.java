@@ -17,7 +17,6 @@ package io.gravitee.rest.api.service.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.github.fge.jsonpatch.diff.JsonDiff;
 import io.gravitee.common.data.domain.MetadataPage;
 import io.gravitee.common.data.domain.Page;
 import io.gravitee.common.utils.UUID;
@@ -38,10 +37,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static io.gravitee.rest.api.service.impl.MetadataServiceImpl.getDefaultReferenceId;
@@ -83,6 +82,9 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
     @Autowired
     private ObjectMapper mapper;
 
+    @Autowired
+    private AuditWriter auditWriter;
+
     @Override
     public MetadataPage<AuditEntity> search(AuditQuery query) {
 
@@ -299,7 +301,6 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
                 newValue);
     }
 
-    @Async
     protected void create(Audit.AuditReferenceType referenceType, String referenceId, Map<Audit.AuditProperties,String> properties,
                           Audit.AuditEvent event, Date createdAt,
                           Object oldValue, Object newValue) {
@@ -309,14 +310,16 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
         audit.setCreatedAt(createdAt);
 
         final UserDetails authenticatedUser = getAuthenticatedUser();
-        final String user;
+        final Supplier<String> user;
         if (authenticatedUser != null && "token".equals(authenticatedUser.getSource())) {
-            user = userService.findById(authenticatedUser.getUsername()).getDisplayName() +
-                    " - (using token \"" + authenticatedUser.getSourceId() + "\")";
+            // the display name of the token user is read by the audit writer
+            final String userId = authenticatedUser.getUsername();
+            final String tokenId = authenticatedUser.getSourceId();
+            user = () -> findDisplayName(userId) + " - (using token \"" + tokenId + "\")";
         } else {
-            user = getAuthenticatedUsernameOrSystem();
+            final String username = getAuthenticatedUsernameOrSystem();
+            user = () -> username;
         }
-        audit.setUser(user);
 
         if (properties != null) {
             Map<String, String> stringStringMap = new HashMap<>(properties.size());
@@ -328,6 +331,7 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
         audit.setReferenceId(referenceId);
         audit.setEvent(event.name());
 
+        // values may change once the caller returns, the patch is computed from their current state
         ObjectNode oldNode = oldValue == null
                 ? mapper.createObjectNode()
                 : mapper.convertValue(oldValue, ObjectNode.class).remove(Arrays.asList("updatedAt", "createdAt"));
@@ -335,12 +339,16 @@ public class AuditServiceImpl extends AbstractService implements AuditService {
                 ? mapper.createObjectNode()
                 : mapper.convertValue(newValue, ObjectNode.class).remove(Arrays.asList("updatedAt", "createdAt"));
 
-        audit.setPatch(JsonDiff.asJson(oldNode, newNode).toString());
+        auditWriter.write(audit, user, oldNode, newNode);
+    }
 
+    private String findDisplayName(String userId) {
         try {
-            auditRepository.create(audit);
-        } catch (TechnicalException e) {
-            LOGGER.error("Error occurs during the creation of an Audit Log {}.", e);
+            return userService.findById(userId).getDisplayName();
+        } catch (Exception ex) {
+            // the audit is kept even if the user can not be read anymore
+            LOGGER.warn("Unable to find the display name of user {}, its ID is audited instead", userId, ex);
+            return userId;
         }
     }
 
@@ -0,0 +1,191 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jsonpatch.diff.JsonDiff;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.AuditRepository;
+import io.gravitee.repository.management.model.Audit;
+import io.gravitee.rest.api.service.common.OperationStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Writes the audits out of the request threads: the old and new values are captured as JSON trees by the caller,
+ * then workers compute the patches and store the audits by batches.
+ *
+ * The queue is bounded. When it is full, the audit is written by the caller or dropped, depending on
+ * <code>audit.queue.overflow</code>. Pending audits are written on shutdown.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class AuditWriter implements InitializingBean, DisposableBean {
+
+    private final Logger logger = LoggerFactory.getLogger(AuditWriter.class);
+
+    private static final String OVERFLOW_DROP = "drop";
+
+    @Autowired
+    private AuditRepository auditRepository;
+
+    @Value("${audit.queue.capacity:10000}")
+    private int queueCapacity;
+
+    /**
+     * What to do when the queue is full: <code>caller</code> to write the audit on the calling thread,
+     * <code>drop</code> to drop it.
+     */
+    @Value("${audit.queue.overflow:caller}")
+    private String queueOverflow;
+
+    @Value("${audit.workers:2}")
+    private int workers;
+
+    @Value("${audit.batch.size:100}")
+    private int batchSize;
+
+    /**
+     * Time (in milliseconds) given to the workers to write the pending audits on shutdown.
+     */
+    @Value("${audit.shutdown.timeout:10000}")
+    private long shutdownTimeout;
+
+    private BlockingQueue<PendingAudit> queue;
+
+    private ExecutorService executor;
+
+    private volatile boolean running;
+
+    private final OperationStats stats = new OperationStats();
+    private final AtomicLong dropped = new AtomicLong();
+
+    @Override
+    public void afterPropertiesSet() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread thread = new Thread(r, "gio.audit-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            executor.execute(this::consume);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        running = false;
+        if (executor != null) {
+            executor.shutdown();
+            if (!executor.awaitTermination(shutdownTimeout, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+        // write what the workers did not have time to
+        List<PendingAudit> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(this::write);
+        logger.info("Audit writer stopped: {} audits dropped, writes {}", dropped.get(), stats);
+    }
+
+    public void write(Audit audit, Supplier<String> user, ObjectNode oldValue, ObjectNode newValue) {
+        PendingAudit pendingAudit = new PendingAudit(audit, user, oldValue, newValue);
+        if (running && queue.offer(pendingAudit)) {
+            return;
+        }
+        if (running && OVERFLOW_DROP.equalsIgnoreCase(queueOverflow)) {
+            long droppedAudits = dropped.incrementAndGet();
+            logger.warn("Audit queue is full, audit {} on {} {} dropped ({} audits dropped so far)",
+                    audit.getEvent(), audit.getReferenceType(), audit.getReferenceId(), droppedAudits);
+            return;
+        }
+        write(pendingAudit);
+    }
+
+    private void consume() {
+        List<PendingAudit> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingAudit pendingAudit = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (pendingAudit == null) {
+                    continue;
+                }
+                batch.add(pendingAudit);
+                queue.drainTo(batch, batchSize - 1);
+                batch.forEach(this::write);
+                logger.debug("{} audits written, {} pending", batch.size(), queue.size());
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(PendingAudit pendingAudit) {
+        Audit audit = pendingAudit.audit;
+        try {
+            audit.setUser(pendingAudit.user.get());
+            audit.setPatch(JsonDiff.asJson(pendingAudit.oldValue, pendingAudit.newValue).toString());
+            auditRepository.create(audit);
+
+            stats.succeeded(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pendingAudit.queuedAt));
+        } catch (TechnicalException e) {
+            stats.failed();
+            logger.error("Error occurs during the creation of an Audit Log {}.", e);
+        } catch (Exception e) {
+            stats.failed();
+            logger.error("Unexpected error while writing the audit {} on {} {}", audit.getEvent(), audit.getReferenceType(), audit.getReferenceId(), e);
+        }
+    }
+
+    private static final class PendingAudit {
+
+        private final Audit audit;
+        private final Supplier<String> user;
+        private final ObjectNode oldValue;
+        private final ObjectNode newValue;
+        private final long queuedAt = System.nanoTime();
+
+        private PendingAudit(Audit audit, Supplier<String> user, ObjectNode oldValue, ObjectNode newValue) {
+            this.audit = audit;
+            this.user = user;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.repository.management.model.MessageRecipient;
+import io.gravitee.rest.api.model.command.CommandCacheEvictionEntity;
+import io.gravitee.rest.api.model.command.CommandTags;
+import io.gravitee.rest.api.model.command.NewCommandEntity;
+import io.gravitee.rest.api.service.CacheEvictionService;
+import io.gravitee.rest.api.service.CommandService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+
+/**
+ * @author GraviteeSource Team
+ */
+@Component
+public class CacheEvictionServiceImpl implements CacheEvictionService {
+
+    private final Logger logger = LoggerFactory.getLogger(CacheEvictionServiceImpl.class);
+
+    /**
+     * Lifetime of the eviction commands, as long as the cached entries themselves: a node which has not consumed the
+     * command by then has evicted the entry anyway.
+     */
+    static final int TTL_IN_SECONDS = 300;
+
+    @Autowired
+    private CommandService commandService;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private ObjectMapper mapper = new ObjectMapper();
+
+    @Override
+    public void propagate(String cache, String key) {
+        CommandCacheEvictionEntity content = new CommandCacheEvictionEntity();
+        content.setCache(cache);
+        content.setKey(key);
+        try {
+            NewCommandEntity msg = new NewCommandEntity();
+            msg.setTags(Collections.singletonList(CommandTags.DATA_TO_EVICT));
+            msg.setTo(MessageRecipient.MANAGEMENT_APIS.name());
+            msg.setTtlInSeconds(TTL_IN_SECONDS);
+            msg.setContent(mapper.writeValueAsString(content));
+            commandService.send(msg);
+        } catch (JsonProcessingException e) {
+            logger.error("Unexpected error while sending a message", e);
+        } catch (Exception e) {
+            // the other nodes will see the change once their own entry expires
+            logger.error("Unable to send the eviction of {} to the other nodes", content, e);
+        }
+    }
+
+    @Override
+    public void process(CommandCacheEvictionEntity content) {
+        // caches are looked up here as they depend on this service to propagate their evictions
+        applicationContext.getBeansOfType(EvictableCache.class).values()
+                .stream()
+                .filter(cache -> cache.name().equals(content.getCache()))
+                .forEach(cache -> cache.evictLocally(content.getKey()));
+    }
+}
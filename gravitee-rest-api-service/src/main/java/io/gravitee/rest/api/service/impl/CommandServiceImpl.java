@@ -35,7 +35,9 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -86,23 +88,44 @@ public class CommandServiceImpl extends AbstractService implements CommandServic
 
     @Override
     public List<CommandEntity> search(CommandQuery query) {
-        //convert tags
-        String[] tags = null;
-        if (query.getTags() != null) {
-            tags = query.getTags()
-                    .stream()
-                    .map(Enum::name)
-                    .toArray(String[]::new);
-        }
-        CommandCriteria criteria = new CommandCriteria.Builder()
-                .to(query.getTo())
-                .tags(tags)
-                .environmentId(GraviteeContext.getCurrentEnvironment())
+        return commandRepository.search(criteria(query).build())
+                .stream()
+                .map(this::map)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CommandEntity> consume(CommandQuery query) {
+        CommandCriteria criteria = criteria(query)
+                .notAckBy(node.id())
+                .notFrom(node.id())
+                .notExpired()
                 .build();
-        return commandRepository.search(criteria)
+        List<Command> commands = new ArrayList<>(commandRepository.search(criteria));
+        commands.sort(Comparator.comparing(Command::getCreatedAt));
+
+        List<CommandEntity> commandEntities = commands
                 .stream()
                 .map(this::map)
                 .collect(Collectors.toList());
+        // commands have just been read, acknowledge them without reading them again
+        commands.forEach(this::ack);
+        return commandEntities;
+    }
+
+    @Override
+    public void purgeExpired(CommandQuery query) {
+        final Date now = new Date();
+        commandRepository.search(criteria(query).build())
+                .stream()
+                .filter(command -> command.getExpiredAt().before(now))
+                .forEach(command -> {
+                    try {
+                        commandRepository.delete(command.getId());
+                    } catch (TechnicalException ex) {
+                        logger.error("An error occurs while trying to delete command {}", command.getId(), ex);
+                    }
+                });
     }
 
     @Override
@@ -110,20 +133,44 @@ public class CommandServiceImpl extends AbstractService implements CommandServic
         try {
             Optional<Command> optMsg = commandRepository.findById(messageId);
             //if not found, this is probably because it has been deleted
-            if (optMsg.isPresent()) {
-                Command msg = optMsg.get();
-                if (msg.getAcknowledgments() == null) {
-                    msg.setAcknowledgments(Collections.singletonList(node.id()));
-                } else if (! msg.getAcknowledgments().contains(node.id())){
-                    msg.getAcknowledgments().add(node.id());
-                }
-                commandRepository.update(msg);
+            optMsg.ifPresent(this::ack);
+        } catch (TechnicalException ex) {
+            logger.error("An error occurs while trying to acknowledge a message", ex);
+        }
+    }
+
+    private void ack(Command msg) {
+        try {
+            if (msg.getAcknowledgments() == null) {
+                msg.setAcknowledgments(Collections.singletonList(node.id()));
+            } else if (! msg.getAcknowledgments().contains(node.id())){
+                List<String> acknowledgments = new ArrayList<>(msg.getAcknowledgments());
+                acknowledgments.add(node.id());
+                msg.setAcknowledgments(acknowledgments);
+            } else {
+                return;
             }
+            commandRepository.update(msg);
         } catch (TechnicalException ex) {
             logger.error("An error occurs while trying to acknowledge a message", ex);
         }
     }
 
+    private CommandCriteria.Builder criteria(CommandQuery query) {
+        //convert tags
+        String[] tags = null;
+        if (query.getTags() != null) {
+            tags = query.getTags()
+                    .stream()
+                    .map(Enum::name)
+                    .toArray(String[]::new);
+        }
+        return new CommandCriteria.Builder()
+                .to(query.getTo())
+                .tags(tags)
+                .environmentId(GraviteeContext.getCurrentEnvironment());
+    }
+
     @Override
     public void delete(String commandId) {
         try {
@@ -165,6 +212,7 @@ public class CommandServiceImpl extends AbstractService implements CommandServic
                             .map(CommandTags::valueOf)
                             .collect(Collectors.toList()));
         }
+        commandEntity.setCreatedAt(command.getCreatedAt());
         commandEntity.setExpired(command.getExpiredAt().before(new Date()));
         final List<String> acknowledgments = command.getAcknowledgments();
         if (acknowledgments != null) {
@@ -0,0 +1,31 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+/**
+ * A local cache whose entries are evicted on every node through the {@link io.gravitee.rest.api.service.CacheEvictionService}.
+ *
+ * @author GraviteeSource Team
+ */
+public interface EvictableCache {
+
+    String name();
+
+    /**
+     * Evict the given key from the cache of this node, or the whole cache when the key is <code>null</code>.
+     */
+    void evictLocally(String key);
+}
@@ -82,6 +82,10 @@ public class GroupServiceImpl extends AbstractService implements GroupService {
     private PlanRepository planRepository;
     @Autowired
     private IdentityProviderRepository identityProviderRepository;
+    @Autowired
+    private ApiVisibilityIndex apiVisibilityIndex;
+    @Autowired
+    private MemberPermissionsCache memberPermissionsCache;
     
     @Override
     public List<GroupEntity> findAll() {
@@ -137,6 +141,25 @@ public class GroupServiceImpl extends AbstractService implements GroupService {
         }
     }
 
+    @Override
+    public Map<String, List<GroupEntity>> findByNames(Collection<String> names) {
+        try {
+            logger.debug("findByNames : {}", names);
+            if (names == null || names.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            Map<String, List<GroupEntity>> groupEntities = groupRepository.findAllByEnvironment(GraviteeContext.getCurrentEnvironment()).stream()
+                    .filter(group -> names.contains(group.getName()))
+                    .map(this::map)
+                    .collect(Collectors.groupingBy(GroupEntity::getName));
+            logger.debug("findByNames : {} - DONE", names);
+            return groupEntities;
+        } catch (TechnicalException ex) {
+            logger.error("An error occurs while trying to find groups by names", ex);
+            throw new TechnicalManagementException("An error occurs while trying to find groups by names", ex);
+        }
+    }
+
     @Override
     public GroupEntity create(NewGroupEntity group) {
         try {
@@ -290,6 +313,7 @@ public class GroupServiceImpl extends AbstractService implements GroupService {
                                 }
                             }
                         });
+                apiVisibilityIndex.invalidateGroups(Collections.singleton(groupId));
             } else if ("application".equalsIgnoreCase(associationType)) {
                 applicationRepository.findAll()
                         .forEach(new Consumer<Application>() {
@@ -310,6 +334,7 @@ public class GroupServiceImpl extends AbstractService implements GroupService {
                             }
                         });
             }
+            memberPermissionsCache.invalidateAll();
         } catch (TechnicalException ex) {
             logger.error("An error occurs while trying to associate group to all {}", associationType, ex);
             throw new TechnicalManagementException("An error occurs while trying to associate group to all " + associationType, ex);
@@ -410,6 +435,8 @@ public class GroupServiceImpl extends AbstractService implements GroupService {
 
             //remove group
             groupRepository.delete(groupId);
+            apiVisibilityIndex.invalidateGroups(Collections.singleton(groupId));
+            memberPermissionsCache.invalidateAll();
 
             // Audit
             auditService.createPortalAuditLog(
@@ -545,6 +572,57 @@ public class GroupServiceImpl extends AbstractService implements GroupService {
 
     }
 
+    @Override
+    public ApiDataAccessSnapshot getApiDataAccessSnapshot(ApiEntity api, String username) {
+        return new ApiDataAccessSnapshot(api, username,
+                () -> username != null && !membershipService.getRoles(MembershipReferenceType.API, api.getId(), MembershipMemberType.USER, username).isEmpty(),
+                () -> {
+                    if (username == null) {
+                        return Collections.emptySet();
+                    }
+                    // read each role once, a user usually has the same few roles in all their groups
+                    Map<String, Boolean> apiRoles = new HashMap<>();
+                    return membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, username, MembershipReferenceType.GROUP)
+                            .stream()
+                            .filter(membership -> apiRoles.computeIfAbsent(membership.getRoleId(),
+                                    roleId -> roleService.findById(roleId).getScope() == RoleScope.API))
+                            .map(MembershipEntity::getReferenceId)
+                            .collect(Collectors.toSet());
+                });
+    }
+
+    @Override
+    public boolean isUserAuthorizedToAccessApiData(ApiDataAccessSnapshot snapshot, List<String> excludedGroups) {
+        final ApiEntity api = snapshot.getApi();
+
+        // same rules as isUserAuthorizedToAccessApiData(api, excludedGroups, username), without any read per group
+        if (snapshot.getUsername() == null) {
+            return (excludedGroups == null || excludedGroups.isEmpty())
+                    && (Visibility.PUBLIC.equals(api.getVisibility()));
+        }
+
+        if (excludedGroups == null || excludedGroups.isEmpty()) {
+            return true;
+        }
+
+        if (snapshot.isApiMember()) {
+            return true;
+        }
+
+        if (Visibility.PUBLIC.equals(api.getVisibility())) {
+            return Collections.disjoint(excludedGroups, snapshot.getApiRoleGroups());
+        }
+
+        if (Visibility.PRIVATE.equals(api.getVisibility()) && api.getGroups() != null && !api.getGroups().isEmpty()) {
+            Set<String> authorizedGroups = new HashSet<>(api.getGroups());
+            authorizedGroups.removeAll(excludedGroups);
+
+            return !Collections.disjoint(authorizedGroups, snapshot.getApiRoleGroups());
+        }
+
+        return false;
+    }
+
     @Override
     public boolean isUserAuthorizedToAccessPortalData(List<String> excludedGroups, String username) {
         // in anonymous mode
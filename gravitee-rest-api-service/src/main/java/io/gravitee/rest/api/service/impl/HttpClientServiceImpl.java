@@ -19,6 +19,7 @@ import io.gravitee.common.http.HttpHeaders;
 import io.gravitee.common.http.HttpMethod;
 import io.gravitee.common.http.MediaType;
 import io.gravitee.rest.api.service.HttpClientService;
+import io.gravitee.rest.api.service.common.OperationStats;
 import io.gravitee.rest.api.service.common.RandomString;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
 import io.gravitee.rest.api.service.vertx.VertxCompletableFuture;
@@ -31,6 +32,7 @@ import io.vertx.core.net.ProxyOptions;
 import io.vertx.core.net.ProxyType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -38,6 +40,7 @@ import org.springframework.stereotype.Component;
 import java.net.URI;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -45,7 +48,7 @@ import java.util.concurrent.ExecutionException;
  * @author GraviteeSource Team
  */
 @Component
-public class HttpClientServiceImpl extends AbstractService implements HttpClientService {
+public class HttpClientServiceImpl extends AbstractService implements HttpClientService, DisposableBean {
     private final Logger LOGGER = LoggerFactory.getLogger(HttpClientServiceImpl.class);
 
     private static final String HTTPS_SCHEME = "https";
@@ -75,25 +78,47 @@ public class HttpClientServiceImpl extends AbstractService implements HttpClient
     
     @Value("#{systemProperties['httpClient.proxy'] == null ? false : true }")
     private boolean isProxyConfigured;
-    
+
+    @Value("${httpClient.pool.max_size:10}")
+    private int httpClientPoolMaxSize;
+    @Value("${httpClient.pool.max_wait_queue_size:100}")
+    private int httpClientPoolMaxWaitQueueSize;
+    @Value("${httpClient.pool.idle_timeout:60}")
+    private int httpClientPoolIdleTimeout;
+
     @Autowired
     private Vertx vertx;
-    
+
+    /**
+     * Clients by scheme and proxy usage, so that the connections to a same host are kept alive and reused.
+     */
+    private final Map<String, HttpClient> httpClients = new ConcurrentHashMap<>();
+
+    private final OperationStats stats = new OperationStats();
+
     private HttpClient getHttpClient(String uriScheme, Boolean useSystemProxy) {
         boolean ssl = HTTPS_SCHEME.equalsIgnoreCase(uriScheme);
+        boolean useProxy = (useSystemProxy != null && useSystemProxy == Boolean.TRUE) || (useSystemProxy == null && this.isProxyConfigured);
+
+        return httpClients.computeIfAbsent((ssl ? HTTPS_SCHEME : "http") + ':' + useProxy,
+                key -> createHttpClient(ssl, useProxy));
+    }
 
+    private HttpClient createHttpClient(boolean ssl, boolean useProxy) {
+        // the pool size and the wait queue are per host: a burst of requests to the same host reuses the connections
         final HttpClientOptions options = new HttpClientOptions()
                 .setSsl(ssl)
                 .setTrustAll(true)
-                .setMaxPoolSize(1)
-                .setKeepAlive(false)
-                .setTcpKeepAlive(false)
+                .setMaxPoolSize(httpClientPoolMaxSize)
+                .setMaxWaitQueueSize(httpClientPoolMaxWaitQueueSize)
+                .setKeepAlive(true)
+                .setIdleTimeout(httpClientPoolIdleTimeout)
                 .setConnectTimeout(httpClientTimeout);
-        
-        if ((useSystemProxy != null && useSystemProxy == Boolean.TRUE) || (useSystemProxy == null && this.isProxyConfigured)) {
+
+        if (useProxy) {
             ProxyOptions proxyOptions = new ProxyOptions();
             proxyOptions.setType(ProxyType.valueOf(httpClientProxyType));
-            if (HTTPS_SCHEME.equals(uriScheme)) {
+            if (ssl) {
                 proxyOptions.setHost(httpClientProxyHttpsHost);
                 proxyOptions.setPort(httpClientProxyHttpsPort);
                 proxyOptions.setUsername(httpClientProxyHttpsUsername);
@@ -106,7 +131,7 @@ public class HttpClientServiceImpl extends AbstractService implements HttpClient
             }
             options.setProxyOptions(proxyOptions);
         }
-        
+
         return vertx.createHttpClient(options);
     }
 
@@ -116,73 +141,104 @@ public class HttpClientServiceImpl extends AbstractService implements HttpClient
             LOGGER.error("HttpClient configuration is empty");
             return null;
         }
-        
+
+        try {
+            return requestAsync(method, uri, headers, body, useSystemProxy).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new TechnicalManagementException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Buffer> requestAsync(HttpMethod method, String uri, Map<String, String> headers, String body, Boolean useSystemProxy) {
         CompletableFuture<Buffer> future = new VertxCompletableFuture<>(vertx);
-        URI requestUri = URI.create(uri);
+        if (uri == null || uri.isEmpty()) {
+            LOGGER.error("HttpClient configuration is empty");
+            future.complete(null);
+            return future;
+        }
 
-        final HttpClient httpClient = this.getHttpClient(requestUri.getScheme(), useSystemProxy);
+        final long start = System.currentTimeMillis();
 
-        final int port = requestUri.getPort() != -1 ? requestUri.getPort() :
-                (HTTPS_SCHEME.equals(requestUri.getScheme()) ? 443 : 80);
+        try {
+            URI requestUri = URI.create(uri);
 
-        HttpClientRequest request = httpClient.request(
-                io.vertx.core.http.HttpMethod.valueOf(method.name()),
-                port,
-                requestUri.getHost(),
-                requestUri.toString(),
-                response -> LOGGER.debug("Web response status code : {}", response.statusCode())
-        );
-        request.setTimeout(httpClientTimeout);
+            final HttpClient httpClient = this.getHttpClient(requestUri.getScheme(), useSystemProxy);
 
-        //headers
-        if(headers != null) {
-            headers.forEach(request::putHeader);
-        }
-        if(body != null) {
-            if(!request.headers().contains(HttpHeaders.CONTENT_TYPE)) {
-                request.putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+            final int port = requestUri.getPort() != -1 ? requestUri.getPort() :
+                    (HTTPS_SCHEME.equals(requestUri.getScheme()) ? 443 : 80);
+
+            HttpClientRequest request = httpClient.request(
+                    io.vertx.core.http.HttpMethod.valueOf(method.name()),
+                    port,
+                    requestUri.getHost(),
+                    requestUri.toString()
+            );
+            request.setTimeout(httpClientTimeout);
+
+            //headers
+            if (headers != null) {
+                headers.forEach(request::putHeader);
+            }
+            if (body != null) {
+                if (!request.headers().contains(HttpHeaders.CONTENT_TYPE)) {
+                    request.putHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+                }
+                request.putHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(body.getBytes().length));
+            }
+            request.putHeader("X-Gravitee-Request-Id", RandomString.generate());
+
+            request.handler(response -> response.bodyHandler(buffer -> {
+                LOGGER.debug("{} {} responded {} in {} ms", method, requestUri.getHost(), response.statusCode(),
+                        System.currentTimeMillis() - start);
+                if (response.statusCode() >= 200 && response.statusCode() <= 299) {
+                    record(start, future.complete(buffer), true);
+                } else {
+                    record(start, future.completeExceptionally(new TechnicalManagementException(" Error on url '" + uri + "'. Status code: " + response.statusCode() + ". Message: " + buffer.toString(), null)), false);
+                }
+            }));
+            request.exceptionHandler(event -> {
+                LOGGER.debug("{} {} failed after {} ms", method, requestUri.getHost(), System.currentTimeMillis() - start);
+                record(start, future.completeExceptionally(event), false);
+            });
+
+            if (body != null) {
+                request.end(body);
+            } else {
+                request.end();
             }
-            request.putHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(body.getBytes().length));
-            request.write(body);
+        } catch (Exception ex) {
+            LOGGER.error("Unable to call {}", uri, ex);
+            record(start, future.completeExceptionally(ex), false);
         }
-        request.putHeader("X-Gravitee-Request-Id", RandomString.generate());
 
-        request.handler(response -> {
-            if (response.statusCode() >= 200 && response.statusCode() <= 299) {
-                response.bodyHandler(buffer -> {
-                    future.complete(buffer);
+        return future;
+    }
 
-                    // Close client
-                    httpClient.close();
-                });
+    /**
+     * Only the first outcome of a request is recorded, a failure may be reported after the response.
+     */
+    private void record(long start, boolean completed, boolean succeeded) {
+        if (completed) {
+            long latency = System.currentTimeMillis() - start;
+            if (succeeded) {
+                stats.succeeded(latency);
             } else {
-                response.bodyHandler(buffer -> {
-                    future.completeExceptionally(new TechnicalManagementException(" Error on url '" + uri + "'. Status code: " + response.statusCode() + ". Message: " + buffer.toString(), null));
-
-                    // Close client
-                    httpClient.close();
-                });
+                stats.failed(latency);
             }
-        });
-        request.exceptionHandler(event -> {
-            try {
-                future.completeExceptionally(event);
+        }
+    }
 
-                // Close client
+    @Override
+    public void destroy() {
+        httpClients.values().forEach(httpClient -> {
+            try {
                 httpClient.close();
             } catch (IllegalStateException ise) {
                 // Do not take care about exception when closing client
             }
         });
-
-        request.end();
-
-        try {
-            return future.get();
-        } catch (InterruptedException | ExecutionException e) {
-            throw new TechnicalManagementException(e.getMessage(), e);
-        }
+        httpClients.clear();
+        LOGGER.info("HTTP clients closed, requests {}", stats);
     }
-
-
 }
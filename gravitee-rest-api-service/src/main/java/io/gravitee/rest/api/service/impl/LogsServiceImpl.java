@@ -18,8 +18,6 @@ package io.gravitee.rest.api.service.impl;
 import io.gravitee.common.http.HttpMethod;
 import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.analytics.query.LogQuery;
-import io.gravitee.rest.api.model.api.ApiEntity;
-import io.gravitee.rest.api.model.api.ApiLifecycleState;
 import io.gravitee.rest.api.model.log.*;
 import io.gravitee.rest.api.model.log.extended.Request;
 import io.gravitee.rest.api.model.log.extended.Response;
@@ -31,7 +29,6 @@ import io.gravitee.repository.analytics.query.*;
 import io.gravitee.repository.analytics.query.tabular.TabularResponse;
 import io.gravitee.repository.log.api.LogRepository;
 import io.gravitee.repository.log.model.ExtendedLog;
-import io.gravitee.repository.management.model.ApplicationStatus;
 import io.netty.handler.codec.http.QueryStringDecoder;
 import org.apache.commons.lang3.time.FastDateFormat;
 import org.slf4j.Logger;
@@ -39,6 +36,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -57,33 +59,18 @@ public class LogsServiceImpl implements LogsService {
 
     private final Logger logger = LoggerFactory.getLogger(LogsServiceImpl.class);
 
-    private static final String UNKNOWN_SERVICE = "1";
-    private static final String UNKNOWN_SERVICE_MAPPED = "?";
-
-    private static final String METADATA_NAME = "name";
-    private static final String METADATA_DELETED = "deleted";
-    private static final String METADATA_UNKNOWN = "unknown";
-    private static final String METADATA_VERSION = "version";
-    private static final String METADATA_UNKNOWN_API_NAME = "Unknown API (not found)";
-    private static final String METADATA_UNKNOWN_APPLICATION_NAME = "Unknown application (keyless)";
-    private static final String METADATA_UNKNOWN_PLAN_NAME = "Unknown plan";
-    private static final String METADATA_DELETED_API_NAME = "Deleted API";
-    private static final String METADATA_DELETED_APPLICATION_NAME = "Deleted application";
-    private static final String METADATA_DELETED_PLAN_NAME = "Deleted plan";
-
     private static final String RFC_3339_DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
     private static final FastDateFormat dateFormatter = FastDateFormat.getInstance(RFC_3339_DATE_FORMAT);
     private static final char separator = ';';
+    private static final int EXPORT_PAGE_SIZE = 500;
 
     @Autowired
     private LogRepository logRepository;
     @Autowired
-    private ApiService apiService;
-    @Autowired
-    private ApplicationService applicationService;
-    @Autowired
     private PlanService planService;
     @Autowired
+    private ReferenceMetadataResolver referenceMetadataResolver;
+    @Autowired
     private InstanceService instanceService;
     @Autowired
     private ApiKeyService apiKeyService;
@@ -121,17 +108,8 @@ public class LogsServiceImpl implements LogsService {
             if (response.getSize() > 0) {
                 Map<String, Map<String, String>> metadata = new HashMap<>();
 
-                logResponse.getLogs().forEach(logItem -> {
-                    String application = logItem.getApplication();
-                    String plan = logItem.getPlan();
-
-                    if (application != null) {
-                        metadata.computeIfAbsent(application, getApplicationMetadata(application));
-                    }
-                    if (plan != null) {
-                        metadata.computeIfAbsent(plan, getPlanMetadata(plan));
-                    }
-                });
+                referenceMetadataResolver.getApplicationsMetadata(collect(logResponse.getLogs(), ApiRequestItem::getApplication)).forEach(metadata::putIfAbsent);
+                referenceMetadataResolver.getPlansMetadata(collect(logResponse.getLogs(), ApiRequestItem::getPlan)).forEach(metadata::putIfAbsent);
 
                 logResponse.setMetadata(metadata);
             }
@@ -190,17 +168,8 @@ public class LogsServiceImpl implements LogsService {
             if (response.getSize() > 0) {
                 Map<String, Map<String, String>> metadata = new HashMap<>();
 
-                logResponse.getLogs().forEach(logItem -> {
-                    String api = logItem.getApi();
-                    String plan = logItem.getPlan();
-
-                    if (api != null) {
-                        metadata.computeIfAbsent(api, getAPIMetadata(api));
-                    }
-                    if (plan != null) {
-                        metadata.computeIfAbsent(plan, getPlanMetadata(plan));
-                    }
-                });
+                referenceMetadataResolver.getApisMetadata(collect(logResponse.getLogs(), ApplicationRequestItem::getApi)).forEach(metadata::putIfAbsent);
+                referenceMetadataResolver.getPlansMetadata(collect(logResponse.getLogs(), ApplicationRequestItem::getPlan)).forEach(metadata::putIfAbsent);
 
                 logResponse.setMetadata(metadata);
             }
@@ -240,21 +209,9 @@ public class LogsServiceImpl implements LogsService {
             if (response.getSize() > 0) {
                 Map<String, Map<String, String>> metadata = new HashMap<>();
 
-                logResponse.getLogs().forEach(logItem -> {
-                    String api = logItem.getApi();
-                    String application = logItem.getApplication();
-                    String plan = logItem.getPlan();
-
-                    if (api != null) {
-                        metadata.computeIfAbsent(api, getAPIMetadata(api));
-                    }
-                    if (application != null) {
-                        metadata.computeIfAbsent(application, getApplicationMetadata(application));
-                    }
-                    if (plan != null) {
-                        metadata.computeIfAbsent(plan, getPlanMetadata(plan));
-                    }
-                });
+                referenceMetadataResolver.getApisMetadata(collect(logResponse.getLogs(), PlatformRequestItem::getApi)).forEach(metadata::putIfAbsent);
+                referenceMetadataResolver.getApplicationsMetadata(collect(logResponse.getLogs(), PlatformRequestItem::getApplication)).forEach(metadata::putIfAbsent);
+                referenceMetadataResolver.getPlansMetadata(collect(logResponse.getLogs(), PlatformRequestItem::getPlan)).forEach(metadata::putIfAbsent);
 
                 logResponse.setMetadata(metadata);
             }
@@ -279,72 +236,8 @@ public class LogsServiceImpl implements LogsService {
         }
     }
 
-    private Function<String, Map<String, String>> getAPIMetadata(String api) {
-        return s -> {
-            Map<String, String> metadata = new HashMap<>();
-
-            try {
-                if (api.equals(UNKNOWN_SERVICE) || api.equals(UNKNOWN_SERVICE_MAPPED)) {
-                    metadata.put(METADATA_NAME, METADATA_UNKNOWN_API_NAME);
-                    metadata.put(METADATA_UNKNOWN, Boolean.TRUE.toString());
-                } else {
-                    ApiEntity apiEntity = apiService.findById(api);
-                    metadata.put(METADATA_NAME, apiEntity.getName());
-                    metadata.put(METADATA_VERSION, apiEntity.getVersion());
-                    if (ApiLifecycleState.ARCHIVED.equals(apiEntity.getLifecycleState())) {
-                        metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
-                    }
-                }
-            } catch (ApiNotFoundException anfe) {
-                metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
-                metadata.put(METADATA_NAME, METADATA_DELETED_API_NAME);
-            }
-
-            return metadata;
-        };
-    }
-
-    private Function<String, Map<String, String>> getApplicationMetadata(String application) {
-        return s -> {
-            Map<String, String> metadata = new HashMap<>();
-
-            try {
-                if (application.equals(UNKNOWN_SERVICE) || application.equals(UNKNOWN_SERVICE_MAPPED)) {
-                    metadata.put(METADATA_NAME, METADATA_UNKNOWN_APPLICATION_NAME);
-                    metadata.put(METADATA_UNKNOWN, Boolean.TRUE.toString());
-                } else {
-                    ApplicationEntity applicationEntity = applicationService.findById(application);
-                    metadata.put(METADATA_NAME, applicationEntity.getName());
-                    if (ApplicationStatus.ARCHIVED.toString().equals(applicationEntity.getStatus())) {
-                        metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
-                    }
-                }
-            } catch (ApplicationNotFoundException anfe) {
-                metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
-                metadata.put(METADATA_NAME, METADATA_DELETED_APPLICATION_NAME);
-            }
-
-            return metadata;
-        };
-    }
-
-    private Function<String, Map<String, String>> getPlanMetadata(String plan) {
-        return s -> {
-            Map<String, String> metadata = new HashMap<>();
-            try {
-                if (plan.equals(UNKNOWN_SERVICE) || plan.equals(UNKNOWN_SERVICE_MAPPED)) {
-                    metadata.put(METADATA_NAME, METADATA_UNKNOWN_PLAN_NAME);
-                    metadata.put(METADATA_UNKNOWN, Boolean.TRUE.toString());
-                } else {
-                    PlanEntity planEntity = planService.findById(plan);
-                    metadata.put(METADATA_NAME, planEntity.getName());
-                }
-            } catch (PlanNotFoundException anfe) {
-                metadata.put(METADATA_DELETED, Boolean.TRUE.toString());
-                metadata.put(METADATA_NAME, METADATA_DELETED_PLAN_NAME);
-            }
-            return metadata;
-        };
+    private <T> Set<String> collect(List<T> logs, Function<T, String> reference) {
+        return logs.stream().map(reference).filter(Objects::nonNull).collect(Collectors.toSet());
     }
 
     private Function<String, Map<String, String>> getGatewayMetadata(String gateway) {
@@ -395,6 +288,91 @@ public class LogsServiceImpl implements LogsService {
             return "";
         }
         final StringBuilder sb = new StringBuilder();
+        appendCsvHeader(sb, (LogItem) searchLogResponse.getLogs().get(0));
+        appendCsvLines(sb, searchLogResponse, searchLogResponse.getLogs());
+        return sb.toString();
+    }
+
+    @Override
+    public void exportByApiAsCsv(String api, LogQuery query, OutputStream output) {
+        exportAsCsv(query, output, logQuery -> findByApi(api, logQuery));
+    }
+
+    @Override
+    public void exportByApplicationAsCsv(String application, LogQuery query, OutputStream output) {
+        exportAsCsv(query, output, logQuery -> findByApplication(application, logQuery));
+    }
+
+    @Override
+    public void exportPlatformAsCsv(LogQuery query, OutputStream output) {
+        exportAsCsv(query, output, this::findPlatform);
+    }
+
+    /**
+     * Logs are read from the most recent and, instead of asking for the next page (which would become more and more
+     * expensive for the analytics repository), the end of the time range is moved to the timestamp of the last log
+     * read. The logs of this timestamp already written are skipped.
+     */
+    private void exportAsCsv(LogQuery query, OutputStream output, Function<LogQuery, SearchLogResponse> search) {
+        final LogQuery pageQuery = new LogQuery();
+        pageQuery.setQuery(query.getQuery());
+        pageQuery.setFrom(query.getFrom());
+        pageQuery.setTo(query.getTo());
+        pageQuery.setInterval(query.getInterval());
+        pageQuery.setSize(EXPORT_PAGE_SIZE);
+        pageQuery.setPage(1);
+        // most recent first
+        pageQuery.setOrder(false);
+
+        try {
+            final Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+            final StringBuilder sb = new StringBuilder();
+            final Set<String> writtenAtLastTimestamp = new HashSet<>();
+            boolean header = true;
+
+            while (true) {
+                final SearchLogResponse<?> response = search.apply(pageQuery);
+                final List<? extends LogItem> logs = response.getLogs();
+                if (logs == null || logs.isEmpty()) {
+                    break;
+                }
+
+                if (header) {
+                    appendCsvHeader(sb, logs.get(0));
+                    header = false;
+                }
+                appendCsvLines(sb, response, logs.stream()
+                        .filter(log -> log.getTimestamp() != pageQuery.getTo() || !writtenAtLastTimestamp.contains(log.getId()))
+                        .collect(Collectors.toList()));
+                // only one page is kept in memory
+                writer.write(sb.toString());
+                writer.flush();
+                sb.setLength(0);
+
+                if (logs.size() < EXPORT_PAGE_SIZE) {
+                    break;
+                }
+
+                final long lastTimestamp = logs.get(logs.size() - 1).getTimestamp();
+                if (lastTimestamp == pageQuery.getTo()) {
+                    // the whole page has the same timestamp, the next logs can only be reached with the next page
+                    pageQuery.setPage(pageQuery.getPage() + 1);
+                } else {
+                    writtenAtLastTimestamp.clear();
+                    pageQuery.setTo(lastTimestamp);
+                    pageQuery.setPage(1);
+                }
+                logs.stream()
+                        .filter(log -> log.getTimestamp() == lastTimestamp)
+                        .forEach(log -> writtenAtLastTimestamp.add(log.getId()));
+            }
+        } catch (IOException ioe) {
+            logger.error("Unable to export logs", ioe);
+            throw new TechnicalManagementException("Unable to export logs", ioe);
+        }
+    }
+
+    private void appendCsvHeader(final StringBuilder sb, final LogItem firstLog) {
         sb.append("Date");
         sb.append(separator);
         sb.append("Request Id");
@@ -412,39 +390,36 @@ public class LogsServiceImpl implements LogsService {
         sb.append("Plan");
         sb.append(separator);
 
-        //get the first item to define the type of export
-        if (searchLogResponse.getLogs().get(0) instanceof ApiRequestItem) {
+        //the first item defines the type of export
+        if (firstLog instanceof ApiRequestItem) {
+            sb.append("Application");
+        } else if (firstLog instanceof ApplicationRequestItem) {
+            sb.append("API");
+        } else if (firstLog instanceof PlatformRequestItem) {
+            sb.append("API");
+            sb.append(separator);
             sb.append("Application");
-            sb.append(lineSeparator());
+        }
+        sb.append(lineSeparator());
+    }
 
-            for (final Object log : searchLogResponse.getLogs()) {
+    private void appendCsvLines(final StringBuilder sb, final SearchLogResponse searchLogResponse, final List<?> logs) {
+        for (final Object log : logs) {
+            if (log instanceof ApiRequestItem) {
                 final ApiRequestItem apiLog = (ApiRequestItem) log;
                 processLine(searchLogResponse, sb, apiLog.getTimestamp(), apiLog.getId(), apiLog.getTransactionId(),
                         apiLog.getMethod(), apiLog.getPath(), apiLog.getStatus(), apiLog.getResponseTime(), apiLog.getPlan());
                 final Object application = searchLogResponse.getMetadata().get(apiLog.getApplication());
                 sb.append(getName(application));
                 sb.append(lineSeparator());
-            }
-
-        } else if (searchLogResponse.getLogs().get(0) instanceof ApplicationRequestItem) {
-            sb.append("API");
-            sb.append(lineSeparator());
-
-            for (final Object log : searchLogResponse.getLogs()) {
+            } else if (log instanceof ApplicationRequestItem) {
                 final ApplicationRequestItem applicationLog = (ApplicationRequestItem) log;
                 processLine(searchLogResponse, sb, applicationLog.getTimestamp(), applicationLog.getId(), applicationLog.getTransactionId(),
                         applicationLog.getMethod(), applicationLog.getPath(), applicationLog.getStatus(), applicationLog.getResponseTime(), applicationLog.getPlan());
                 final Object api = searchLogResponse.getMetadata().get(applicationLog.getApi());
                 sb.append(getName(api));
                 sb.append(lineSeparator());
-            }
-        } else if (searchLogResponse.getLogs().get(0) instanceof PlatformRequestItem) {
-            sb.append("API");
-            sb.append(separator);
-            sb.append("Application");
-            sb.append(lineSeparator());
-
-            for (final Object log : searchLogResponse.getLogs()) {
+            } else if (log instanceof PlatformRequestItem) {
                 final PlatformRequestItem platformLog = (PlatformRequestItem) log;
                 processLine(searchLogResponse, sb, platformLog.getTimestamp(), platformLog.getId(), platformLog.getTransactionId(),
                         platformLog.getMethod(), platformLog.getPath(), platformLog.getStatus(), platformLog.getResponseTime(), platformLog.getPlan());
@@ -456,7 +431,6 @@ public class LogsServiceImpl implements LogsService {
                 sb.append(lineSeparator());
             }
         }
-        return sb.toString();
     }
 
     private void processLine(SearchLogResponse searchLogResponse, StringBuilder sb, long timestamp, String id,
@@ -571,10 +545,10 @@ public class LogsServiceImpl implements LogsService {
 
 
         if (application != null) {
-            metadata.computeIfAbsent(application, getApplicationMetadata(application));
+            referenceMetadataResolver.getApplicationsMetadata(Collections.singleton(application)).forEach(metadata::putIfAbsent);
         }
         if (plan != null) {
-            metadata.computeIfAbsent(plan, getPlanMetadata(plan));
+            referenceMetadataResolver.getPlansMetadata(Collections.singleton(plan)).forEach(metadata::putIfAbsent);
         }
         if (gateway != null) {
             metadata.computeIfAbsent(gateway, getGatewayMetadata(gateway));
@@ -640,10 +614,10 @@ public class LogsServiceImpl implements LogsService {
         String gateway = log.getGateway();
 
         if (api != null) {
-            metadata.computeIfAbsent(api, getAPIMetadata(api));
+            referenceMetadataResolver.getApisMetadata(Collections.singleton(api)).forEach(metadata::putIfAbsent);
         }
         if (plan != null) {
-            metadata.computeIfAbsent(plan, getPlanMetadata(plan));
+            referenceMetadataResolver.getPlansMetadata(Collections.singleton(plan)).forEach(metadata::putIfAbsent);
         }
         if (gateway != null) {
             metadata.computeIfAbsent(gateway, getGatewayMetadata(gateway));
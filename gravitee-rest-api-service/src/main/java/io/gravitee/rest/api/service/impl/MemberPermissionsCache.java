@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.gravitee.rest.api.model.MembershipReferenceType;
+import io.gravitee.rest.api.model.permissions.RolePermissionAction;
+import io.gravitee.rest.api.service.CacheEvictionService;
+import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merged permissions of a user on an API, an application or any other membership reference.
+ *
+ * Entries are evicted by the membership, role, group, API and application writes which may change them, on this node
+ * and, through the {@link CacheEvictionService}, on the other nodes. They also expire after a few minutes in case an
+ * eviction has been missed.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class MemberPermissionsCache implements EvictableCache {
+
+    static final String NAME = "member-permissions";
+
+    private static final String USER_KEY_PREFIX = "user:";
+    private static final String REFERENCE_KEY_PREFIX = "reference:";
+
+    private static final RolePermissionAction[] ACTIONS = RolePermissionAction.values();
+
+    @Autowired
+    private CacheEvictionService cacheEvictionService;
+
+    private final Cache<String, Map<String, char[]>> permissions = CacheBuilder
+            .newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(5, TimeUnit.MINUTES)
+            .build();
+
+    public Map<String, char[]> get(String userId, MembershipReferenceType referenceType, String referenceId,
+                                   Callable<Map<String, char[]>> loader) {
+        try {
+            return permissions.get(key(userId, referenceType, referenceId),
+                    () -> Collections.unmodifiableMap(loader.call()));
+        } catch (ExecutionException ex) {
+            throw new TechnicalManagementException("An error occurs while trying to get permissions of user " + userId +
+                    " on " + referenceType + " " + referenceId, ex.getCause());
+        } catch (UncheckedExecutionException ex) {
+            // keep the not found and technical exceptions raised while loading the permissions
+            Throwables.throwIfUnchecked(ex.getCause());
+            throw ex;
+        }
+    }
+
+    public void invalidateUser(String userId) {
+        evict(USER_KEY_PREFIX + userId);
+    }
+
+    public void invalidateReference(MembershipReferenceType referenceType, String referenceId) {
+        evict(REFERENCE_KEY_PREFIX + referenceType.name() + ':' + referenceId);
+    }
+
+    public void invalidateAll() {
+        evict(null);
+    }
+
+    private void evict(String key) {
+        evictLocally(key);
+        cacheEvictionService.propagate(NAME, key);
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void evictLocally(String key) {
+        if (key == null) {
+            permissions.invalidateAll();
+        } else if (key.startsWith(USER_KEY_PREFIX)) {
+            final String userPrefix = key.substring(USER_KEY_PREFIX.length()) + ':';
+            permissions.asMap().keySet().removeIf(cached -> cached.startsWith(userPrefix));
+        } else if (key.startsWith(REFERENCE_KEY_PREFIX)) {
+            final String referenceSuffix = ':' + key.substring(REFERENCE_KEY_PREFIX.length());
+            permissions.asMap().keySet().removeIf(cached -> cached.endsWith(referenceSuffix));
+        }
+    }
+
+    private String key(String userId, MembershipReferenceType referenceType, String referenceId) {
+        return userId + ':' + referenceType.name() + ':' + referenceId;
+    }
+
+    static int toMask(char[] actions) {
+        int mask = 0;
+        for (char action : actions) {
+            mask |= RolePermissionAction.findById(action).getMask();
+        }
+        return mask;
+    }
+
+    static char[] toActions(int mask) {
+        char[] actions = new char[Integer.bitCount(mask)];
+        int i = 0;
+        for (RolePermissionAction action : ACTIONS) {
+            if ((mask & action.getMask()) != 0) {
+                actions[i++] = action.getId();
+            }
+        }
+        return actions;
+    }
+}
@@ -15,6 +15,9 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApiRepository;
 import io.gravitee.repository.management.api.ApplicationRepository;
@@ -39,6 +42,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static io.gravitee.repository.management.model.Membership.AuditEvent.MEMBERSHIP_CREATED;
@@ -58,6 +62,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
     private static final Logger LOGGER = LoggerFactory.getLogger(MembershipServiceImpl.class);
 
     private final static String DEFAULT_SOURCE = "system";
+    private final static int PRIMARY_OWNERS_CHUNK_SIZE = 500;
 
     @Autowired
     private UserService userService;
@@ -83,7 +88,20 @@ public class MembershipServiceImpl extends AbstractService implements Membership
     private ApplicationRepository applicationRepository;
     @Autowired
     private NotifierService notifierService;
+    @Autowired
+    private ApiVisibilityIndex apiVisibilityIndex;
+    @Autowired
+    private MemberPermissionsCache memberPermissionsCache;
 
+    /**
+     * Primary owners by reference. Entries are evicted on every membership write done through this service and expire
+     * quickly so that changes made by other nodes are eventually seen.
+     */
+    private final Cache<String, Optional<MembershipEntity>> primaryOwners = CacheBuilder
+            .newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(1, TimeUnit.MINUTES)
+            .build();
 
     @Override
     public MemberEntity addRoleToMemberOnReference(MembershipReferenceType referenceType, String referenceId, MembershipMemberType memberType, String memberId, String role) {
@@ -135,6 +153,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                     membership.setCreatedAt(updateDate);
                     membership.setUpdatedAt(updateDate);
                     membershipRepository.create(membership);
+                    evictCaches(membership);
                     createAuditLog(MEMBERSHIP_CREATED, membership.getCreatedAt(), null, membership);
 
                     Set<io.gravitee.repository.management.model.Membership> userRolesOnReference = membershipRepository.findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(userEntity.getId(), convert(member.getMemberType()), convert(reference.getType()), reference.getId());
@@ -173,6 +192,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                     membership.setCreatedAt(updateDate);
                     membership.setUpdatedAt(updateDate);
                     membershipRepository.create(membership);
+                    evictCaches(membership);
                     createAuditLog(MEMBERSHIP_CREATED, membership.getCreatedAt(), null, membership);
                 }
                 
@@ -371,6 +391,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
             if (membership.isPresent()) {
                 LOGGER.debug("Delete membership {}", membership.get());
                 membershipRepository.delete(membershipId);
+                evictCaches(membership.get());
                 createAuditLog(MEMBERSHIP_DELETED, new Date(), membership.get(), null);
             }
         } catch (TechnicalException ex) {
@@ -387,6 +408,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                 for(io.gravitee.repository.management.model.Membership membership: memberships) {
                     LOGGER.debug("Delete membership {}", membership.getId());
                     membershipRepository.delete(membership.getId());
+                    evictCaches(membership);
                     createAuditLog(MEMBERSHIP_DELETED, new Date(), membership, null);
                 }
             }
@@ -405,6 +427,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                 for(io.gravitee.repository.management.model.Membership membership: memberships) {
                     LOGGER.debug("Delete membership {}", membership.getId());
                     membershipRepository.delete(membership.getId());
+                    evictCaches(membership);
                     createAuditLog(MEMBERSHIP_DELETED, new Date(), membership, null);
                 };
             }
@@ -683,6 +706,61 @@ public class MembershipServiceImpl extends AbstractService implements Membership
 
     @Override
     public MembershipEntity getPrimaryOwner(MembershipReferenceType referenceType, String referenceId) {
+        Optional<MembershipEntity> cachedPrimaryOwner = primaryOwners.getIfPresent(primaryOwnerKey(referenceType, referenceId));
+        if (cachedPrimaryOwner != null) {
+            return cachedPrimaryOwner.orElse(null);
+        }
+        String poRoleId = getPrimaryOwnerRoleId(referenceType);
+        try {
+            Optional<MembershipEntity> poMember = membershipRepository.findByReferenceAndRoleId(convert(referenceType), referenceId, poRoleId)
+                .stream()
+                .findFirst()
+                .map(this::convert);
+            primaryOwners.put(primaryOwnerKey(referenceType, referenceId), poMember);
+            return poMember.orElse(null);
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to get primary owner for {} {} and role", referenceType, referenceId, ex);
+            throw new TechnicalManagementException("An error occurs while trying to get primary owner for " + referenceType + " " + referenceId, ex);
+        }
+    }
+
+    @Override
+    public Map<String, MembershipEntity> getPrimaryOwners(MembershipReferenceType referenceType, Collection<String> referenceIds) {
+        Map<String, MembershipEntity> poMembers = new HashMap<>(referenceIds.size());
+        List<String> missingReferenceIds = new ArrayList<>();
+        for (String referenceId : referenceIds) {
+            Optional<MembershipEntity> cachedPrimaryOwner = primaryOwners.getIfPresent(primaryOwnerKey(referenceType, referenceId));
+            if (cachedPrimaryOwner == null) {
+                missingReferenceIds.add(referenceId);
+            } else {
+                cachedPrimaryOwner.ifPresent(poMember -> poMembers.put(referenceId, poMember));
+            }
+        }
+        if (missingReferenceIds.isEmpty()) {
+            return poMembers;
+        }
+
+        String poRoleId = getPrimaryOwnerRoleId(referenceType);
+        try {
+            for (List<String> referenceIdsChunk : Lists.partition(missingReferenceIds, PRIMARY_OWNERS_CHUNK_SIZE)) {
+                Map<String, MembershipEntity> loadedPoMembers = membershipRepository.findByReferencesAndRoleId(convert(referenceType), referenceIdsChunk, poRoleId)
+                        .stream()
+                        .map(this::convert)
+                        .collect(Collectors.toMap(MembershipEntity::getReferenceId, poMember -> poMember, (po1, po2) -> po1));
+                for (String referenceId : referenceIdsChunk) {
+                    Optional<MembershipEntity> poMember = Optional.ofNullable(loadedPoMembers.get(referenceId));
+                    primaryOwners.put(primaryOwnerKey(referenceType, referenceId), poMember);
+                    poMember.ifPresent(po -> poMembers.put(referenceId, po));
+                }
+            }
+            return poMembers;
+        } catch (TechnicalException ex) {
+            LOGGER.error("An error occurs while trying to get primary owners for {} {}", referenceType, referenceIds, ex);
+            throw new TechnicalManagementException("An error occurs while trying to get primary owners for " + referenceType + " " + referenceIds, ex);
+        }
+    }
+
+    private String getPrimaryOwnerRoleId(MembershipReferenceType referenceType) {
         RoleScope poRoleScope;
         if(referenceType == MembershipReferenceType.API) {
             poRoleScope = RoleScope.API;
@@ -691,26 +769,26 @@ public class MembershipServiceImpl extends AbstractService implements Membership
         } else {
             throw new RoleNotFoundException(referenceType.name() + "_PRIMARY_OWNER");
         }
-        Optional<RoleEntity> poRole = roleService.findByScopeAndName(poRoleScope, SystemRole.PRIMARY_OWNER.name());
-        if(poRole.isPresent()) {
-            try {
-                Optional<io.gravitee.repository.management.model.Membership> poMember = membershipRepository.findByReferenceAndRoleId(convert(referenceType), referenceId, poRole.get().getId())
-                    .stream()
-                    .findFirst();
-                if(poMember.isPresent()) {
-                    return convert(poMember.get());
-                } else {
-                    return null;
-                }
-            } catch (TechnicalException ex) {
-                LOGGER.error("An error occurs while trying to get primary owner for {} {} and role", referenceType, referenceId, ex);
-                throw new TechnicalManagementException("An error occurs while trying to get primary owner for " + referenceType + " " + referenceId, ex);
-            }
+        return roleService.findByScopeAndName(poRoleScope, SystemRole.PRIMARY_OWNER.name())
+                .map(RoleEntity::getId)
+                .orElseThrow(() -> new RoleNotFoundException(referenceType.name() + "_PRIMARY_OWNER"));
+    }
+
+    private void evictCaches(io.gravitee.repository.management.model.Membership membership) {
+        primaryOwners.invalidate(primaryOwnerKey(convert(membership.getReferenceType()), membership.getReferenceId()));
+        if (membership.getMemberType() == io.gravitee.repository.management.model.MembershipMemberType.USER) {
+            apiVisibilityIndex.invalidate(membership.getMemberId());
+            memberPermissionsCache.invalidateUser(membership.getMemberId());
         } else {
-            throw new RoleNotFoundException(referenceType.name() + "_PRIMARY_OWNER");
+            apiVisibilityIndex.invalidateGroups(Collections.singleton(membership.getMemberId()));
+            memberPermissionsCache.invalidateAll();
         }
     }
 
+    private String primaryOwnerKey(MembershipReferenceType referenceType, String referenceId) {
+        return referenceType.name() + ':' + referenceId;
+    }
+
     @Override
     public Set<RoleEntity> getRoles(MembershipReferenceType referenceType, String referenceId, MembershipMemberType memberType,
             String memberId) {
@@ -795,42 +873,26 @@ public class MembershipServiceImpl extends AbstractService implements Membership
     }
 
     private Map<String, char[]> computeGlobalPermissions(Set<RoleEntity> userRoles) {
-        Map<String, Set<Character>> mergedPermissions = new HashMap<>();
+        Map<String, Integer> mergedPermissions = new HashMap<>();
         for (RoleEntity role : userRoles) {
             for (Map.Entry<String, char[]> perm : role.getPermissions().entrySet()) {
-                if (mergedPermissions.containsKey(perm.getKey())) {
-                    Set<Character> previousCRUD = mergedPermissions.get(perm.getKey());
-                    for (char c : perm.getValue()) {
-                        previousCRUD.add(c);
-                    }
-                } else {
-                    Set<Character> crudAsSet = new HashSet<>();
-                    for (char c : perm.getValue()) {
-                        crudAsSet.add(c);
-                    }
-                    mergedPermissions.put(perm.getKey(), crudAsSet);
-                }
+                mergedPermissions.merge(perm.getKey(), MemberPermissionsCache.toMask(perm.getValue()), (a, b) -> a | b);
             }
         }
         Map<String, char[]> permissions = new HashMap<>(mergedPermissions.size());
-        mergedPermissions.forEach((String k, Set<Character> v) -> {
-            Character[] characters = v.toArray(new Character[v.size()]);
-            char[] chars = new char[characters.length];
-            for(int i = 0; i< characters.length; i++) {
-                chars[i] = characters[i];
-            }
-            permissions.put(k, chars);
-        });
+        mergedPermissions.forEach((k, v) -> permissions.put(k, MemberPermissionsCache.toActions(v)));
         return permissions;
     }
     
     @Override
     public Map<String, char[]> getUserMemberPermissions(MembershipReferenceType referenceType, String referenceId, String userId) {
-        MemberEntity member = this.getUserMember(referenceType, referenceId, userId);
-        if (member != null) {
-         return member.getPermissions();
-        }
-        return emptyMap();
+        return memberPermissionsCache.get(userId, referenceType, referenceId, () -> {
+            MemberEntity member = this.getUserMember(referenceType, referenceId, userId);
+            if (member != null) {
+                return member.getPermissions();
+            }
+            return emptyMap();
+        });
     }
     
     @Override
@@ -855,6 +917,7 @@ public class MembershipServiceImpl extends AbstractService implements Membership
             Set<io.gravitee.repository.management.model.Membership> membershipsToDelete = membershipRepository.findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceIdAndRoleId(memberId, convert(memberType), convert(referenceType), referenceId, roleId);
             for(io.gravitee.repository.management.model.Membership m: membershipsToDelete) {
                 membershipRepository.delete(m.getId());
+                evictCaches(m);
             }
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to remove role {} from member {} {} for {} {}", roleId, memberType, memberId, referenceType, referenceId, ex);
@@ -878,6 +941,9 @@ public class MembershipServiceImpl extends AbstractService implements Membership
                 }
                 membershipRepository.delete(oldMembershipId);
             }
+            primaryOwners.invalidateAll();
+            apiVisibilityIndex.invalidateAll();
+            memberPermissionsCache.invalidateAll();
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to remove role {} {}", oldRoleId, ex);
             throw new TechnicalManagementException("An error occurs while trying to remove role " + oldRoleId, ex);
@@ -890,6 +956,13 @@ public class MembershipServiceImpl extends AbstractService implements Membership
             for(io.gravitee.repository.management.model.Membership membership : membershipRepository.findByMemberIdAndMemberType(memberId, convert(memberType))) {
                 membershipRepository.delete(membership.getId());
             }
+            primaryOwners.invalidateAll();
+            if (memberType == MembershipMemberType.USER) {
+                apiVisibilityIndex.invalidate(memberId);
+            } else {
+                apiVisibilityIndex.invalidateGroups(Collections.singleton(memberId));
+            }
+            memberPermissionsCache.invalidateAll();
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to remove member {} {}", memberType, memberId, ex);
             throw new TechnicalManagementException("An error occurs while trying to remove " + memberType + " " + memberId, ex);
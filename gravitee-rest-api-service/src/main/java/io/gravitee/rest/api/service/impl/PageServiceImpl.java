@@ -20,6 +20,11 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.gson.Gson;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
@@ -73,7 +78,16 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -81,6 +95,7 @@ import static io.gravitee.repository.management.model.Audit.AuditProperties.PAGE
 import static io.gravitee.repository.management.model.Page.AuditEvent.*;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.stream.Collectors.toList;
 import static org.springframework.ui.freemarker.FreeMarkerTemplateUtils.processTemplateIntoString;
 
@@ -100,9 +115,37 @@ public class PageServiceImpl extends TransactionalService implements PageService
 
     private static final String SENSITIVE_DATA_REPLACEMENT = "********";
 
+    /**
+     * Maximum number of characters kept by each of the page content caches.
+     */
+    private static final int CACHED_CONTENT_MAX_WEIGHT = 20_000_000;
+
+    private static final Comparator<Page> TRANSLATION_LANG_COMPARATOR = (p1, p2) -> {
+        String lang1 = p1.getConfiguration().get(PageConfigurationKeys.TRANSLATION_LANG);
+        String lang2 = p2.getConfiguration().get(PageConfigurationKeys.TRANSLATION_LANG);
+        return lang1.compareTo(lang2);
+    };
+
+    /**
+     * Types of the pages loaded with the documentation of the searched pages: their translations and the pages they
+     * may be children of.
+     */
+    private static final PageType[] REFERENCE_PAGE_TYPES = {
+            PageType.TRANSLATION, PageType.FOLDER, PageType.SYSTEM_FOLDER, PageType.ROOT
+    };
+
     @Value("${documentation.markdown.sanitize:false}")
     private boolean markdownSanitize;
 
+    @Value("${services.auto_fetch.workers:4}")
+    private int autoFetchWorkers;
+
+    /**
+     * Time (in milliseconds) given to each source to be fetched before giving up until the next run.
+     */
+    @Value("${services.auto_fetch.timeout:60000}")
+    private long autoFetchTimeout;
+
     @Autowired
     private PageRepository pageRepository;
     @Autowired
@@ -142,6 +185,36 @@ public class PageServiceImpl extends TransactionalService implements PageService
     @Autowired
     private PlanService planService;
 
+    /**
+     * Compiled templates and transformed swagger descriptors by page id, along with a fingerprint of what they have
+     * been built from: pages are read far more often than they are edited.
+     */
+    private final Cache<String, CachedContent<Template>> templates = CacheBuilder
+            .newBuilder()
+            .maximumWeight(CACHED_CONTENT_MAX_WEIGHT)
+            .weigher((String pageId, CachedContent<Template> template) -> template.weight)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .build();
+
+    private final Cache<String, CachedContent<String>> transformedSwaggers = CacheBuilder
+            .newBuilder()
+            .maximumWeight(CACHED_CONTENT_MAX_WEIGHT)
+            .weigher((String pageId, CachedContent<String> swagger) -> swagger.weight)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .build();
+
+    /**
+     * Fetchers of the auto-fetched pages by page, source type and configuration hash, so that each run does not
+     * instantiate the plugins again. A fetcher is never shared by two pages, the pages being fetched in parallel.
+     * They are only used to fetch: the configuration of the other fetchers may be altered to hide or merge the
+     * sensitive data.
+     */
+    private final Cache<String, Fetcher> autoFetchFetchers = CacheBuilder
+            .newBuilder()
+            .maximumSize(1_000)
+            .expireAfterAccess(1, TimeUnit.HOURS)
+            .build();
+
     private static Page convert(NewPageEntity newPageEntity) {
         Page page = new Page();
 
@@ -464,6 +537,17 @@ public class PageServiceImpl extends TransactionalService implements PageService
             }
         } else if (PageType.SWAGGER.name().equalsIgnoreCase(pageEntity.getType())) {
             // If swagger page, let's try to apply transformations
+            List<ApiEntrypointEntity> entrypoints = apiId == null ? null : apiService.findById(apiId).getEntrypoints();
+
+            String fingerprint = pageEntity.getId() == null ? null : swaggerFingerprint(pageEntity, entrypoints);
+            if (fingerprint != null) {
+                CachedContent<String> transformed = transformedSwaggers.getIfPresent(pageEntity.getId());
+                if (transformed != null && transformed.fingerprint.equals(fingerprint)) {
+                    pageEntity.setContent(transformed.value);
+                    return;
+                }
+            }
+
             SwaggerDescriptor<?> descriptor;
             try {
                 descriptor = swaggerService.parse(pageEntity.getContent());
@@ -478,7 +562,6 @@ public class PageServiceImpl extends TransactionalService implements PageService
             transformers.add(new PageConfigurationOAITransformer(pageEntity));
 
             if (apiId != null) {
-                List<ApiEntrypointEntity> entrypoints = apiService.findById(apiId).getEntrypoints();
                 transformers.add(new EntrypointsOAITransformer(pageEntity, entrypoints));
             }
 
@@ -497,6 +580,56 @@ public class PageServiceImpl extends TransactionalService implements PageService
                     logger.error("Unexpected error", e);
                 }
             }
+
+            if (fingerprint != null) {
+                transformedSwaggers.put(pageEntity.getId(), new CachedContent<>(fingerprint, pageEntity.getContent(), pageEntity.getContent()));
+            }
+        }
+    }
+
+    private String swaggerFingerprint(PageEntity pageEntity, List<ApiEntrypointEntity> entrypoints) {
+        Hasher hasher = Hashing.sha256().newHasher()
+                .putString(String.valueOf(pageEntity.getContent()), StandardCharsets.UTF_8)
+                .putString(String.valueOf(pageEntity.getContentType()), StandardCharsets.UTF_8);
+        if (pageEntity.getConfiguration() != null) {
+            hasher.putString(new TreeMap<>(pageEntity.getConfiguration()).toString(), StandardCharsets.UTF_8);
+        }
+        if (entrypoints != null) {
+            entrypoints.forEach(entrypoint -> hasher.putString(String.valueOf(entrypoint.getTarget()), StandardCharsets.UTF_8));
+        }
+        return hasher.hash().toString();
+    }
+
+    private Template getTemplate(PageEntity pageEntity) throws IOException {
+        if (pageEntity.getId() == null) {
+            return new Template(pageEntity.getId(), pageEntity.getContent(), freemarkerConfiguration);
+        }
+
+        String fingerprint = Hashing.sha256().hashString(pageEntity.getContent(), StandardCharsets.UTF_8).toString();
+        CachedContent<Template> template = templates.getIfPresent(pageEntity.getId());
+        if (template == null || !template.fingerprint.equals(fingerprint)) {
+            template = new CachedContent<>(fingerprint,
+                    new Template(pageEntity.getId(), pageEntity.getContent(), freemarkerConfiguration),
+                    pageEntity.getContent());
+            templates.put(pageEntity.getId(), template);
+        }
+        return template.value;
+    }
+
+    private void evictCachedContent(String pageId) {
+        templates.invalidate(pageId);
+        transformedSwaggers.invalidate(pageId);
+    }
+
+    private static class CachedContent<T> {
+        private final String fingerprint;
+        private final T value;
+        private final int weight;
+
+        private CachedContent(String fingerprint, T value, String content) {
+            this.fingerprint = fingerprint;
+            this.value = value;
+            this.weight = content == null ? 1 : Math.max(1, content.length());
         }
     }
 
@@ -517,7 +650,8 @@ public class PageServiceImpl extends TransactionalService implements PageService
 
     private List<PageEntity> search(final PageQuery query, String acceptedLocale, boolean withTranslations, boolean withLinks) {
         try {
-            Stream<Page> pagesStream = pageRepository.search(queryToCriteria(query)).stream();
+            List<Page> foundPages = pageRepository.search(queryToCriteria(query));
+            Stream<Page> pagesStream = foundPages.stream();
             if (!withTranslations) {
                 pagesStream = pagesStream.filter(page -> !PageType.TRANSLATION.name().equals(page.getType()));
             }
@@ -525,14 +659,18 @@ public class PageServiceImpl extends TransactionalService implements PageService
                 pagesStream = pagesStream.filter(page -> !PageType.LINK.name().equals(page.getType()));
             }
 
+            // Load the translations and folders of the found pages at once to get their translations and parents
+            final Map<String, Page> referencePages = findReferencePages(foundPages);
+            final Map<String, List<Page>> translationsByParent = groupTranslationsByParent(referencePages.values());
+
             List<PageEntity> pages = pagesStream
-                    .map(this::convert)
+                    .map(page -> convert(page, referencePages))
                     .collect(Collectors.toList());
 
             if (acceptedLocale == null || acceptedLocale.isEmpty()) {
                 pages.forEach(p -> {
                     if (!PageType.TRANSLATION.name().equals(p.getType())) {
-                        List<PageEntity> translations = convert(getTranslations(p.getId()));
+                        List<PageEntity> translations = convert(getTranslations(p.getId(), referencePages, translationsByParent), referencePages);
                         if (translations != null && !translations.isEmpty()) {
                             p.setTranslations(translations);
                         }
@@ -541,7 +679,7 @@ public class PageServiceImpl extends TransactionalService implements PageService
             } else {
                 pages.forEach(p -> {
                     if (!PageType.TRANSLATION.name().equals(p.getType())) {
-                        Page translation = getTranslation(p, acceptedLocale);
+                        Page translation = getTranslation(p, acceptedLocale, referencePages, translationsByParent);
                         if (translation != null) {
                             String translationName = translation.getName();
                             if (translationName != null && !translationName.isEmpty()) {
@@ -561,7 +699,8 @@ public class PageServiceImpl extends TransactionalService implements PageService
                 return pages.stream()
                         .filter(page -> {
                             if (page.getParentId() != null) {
-                                return this.findById(page.getParentId()).isPublished();
+                                Page parent = referencePages.get(page.getParentId());
+                                return parent != null ? parent.isPublished() : this.findById(page.getParentId()).isPublished();
                             }
                             return true;
                         })
@@ -576,6 +715,94 @@ public class PageServiceImpl extends TransactionalService implements PageService
         }
     }
 
+    /**
+     * Find the translations and folders of the documentations the given pages belong to, by id. The given pages are
+     * added as well, all their translations being known.
+     * Nothing is loaded when there are fewer pages than queries to run, the pages are then looked up one by one.
+     */
+    private Map<String, Page> findReferencePages(List<Page> pages) throws TechnicalException {
+        Set<String> references = new HashSet<>();
+        List<Page> referencedPages = new ArrayList<>();
+        for (Page page : pages) {
+            if (page.getReferenceType() != null && page.getReferenceId() != null) {
+                references.add(page.getReferenceType().name() + ':' + page.getReferenceId());
+                referencedPages.add(page);
+            }
+        }
+
+        Map<String, Page> referencePages = new HashMap<>();
+        if (referencedPages.size() < references.size() * REFERENCE_PAGE_TYPES.length) {
+            return referencePages;
+        }
+        references.clear();
+        for (Page page : referencedPages) {
+            if (references.add(page.getReferenceType().name() + ':' + page.getReferenceId())) {
+                for (PageType type : REFERENCE_PAGE_TYPES) {
+                    pageRepository.search(new PageCriteria.Builder()
+                            .referenceType(page.getReferenceType().name())
+                            .referenceId(page.getReferenceId())
+                            .type(type.name())
+                            .build())
+                            .forEach(referencePage -> referencePages.put(referencePage.getId(), referencePage));
+                }
+            }
+            referencePages.put(page.getId(), page);
+        }
+        return referencePages;
+    }
+
+    private Map<String, List<Page>> groupTranslationsByParent(Collection<Page> pages) {
+        Map<String, List<Page>> translationsByParent = pages.stream()
+                .filter(page -> PageType.TRANSLATION.name().equals(page.getType()) && page.getParentId() != null)
+                .collect(Collectors.groupingBy(Page::getParentId));
+        translationsByParent.values().forEach(translations -> translations.sort(TRANSLATION_LANG_COMPARATOR));
+        return translationsByParent;
+    }
+
+    private List<Page> getTranslations(String pageId, Map<String, Page> referencePages, Map<String, List<Page>> translationsByParent) {
+        if (referencePages.containsKey(pageId)) {
+            return translationsByParent.getOrDefault(pageId, emptyList());
+        }
+        return getTranslations(pageId);
+    }
+
+    private Page getTranslation(PageEntity pageToTranslate, String acceptedLocale, Map<String, Page> referencePages,
+                                Map<String, List<Page>> translationsByParent) {
+        if (PageType.LINK.name().equals(pageToTranslate.getType())
+                && pageToTranslate.getConfiguration() != null
+                && "true".equals(pageToTranslate.getConfiguration().get(PageConfigurationKeys.LINK_INHERIT))
+        ) {
+            // the linked page may belong to another documentation
+            if (!referencePages.containsKey(pageToTranslate.getContent())) {
+                return getTranslation(pageToTranslate, acceptedLocale);
+            }
+
+            Page relatedTranslation = findTranslation(translationsByParent.get(pageToTranslate.getContent()), acceptedLocale);
+            Page linkTranslation = null;
+            if (relatedTranslation != null) {
+                linkTranslation = new Page();
+                linkTranslation.setName(relatedTranslation.getName());
+                linkTranslation.setContent(relatedTranslation.getContent());
+                linkTranslation.setConfiguration(Collections.emptyMap());
+            }
+            return linkTranslation;
+        }
+        if (!referencePages.containsKey(pageToTranslate.getId())) {
+            return getTranslation(pageToTranslate, acceptedLocale);
+        }
+        return findTranslation(translationsByParent.get(pageToTranslate.getId()), acceptedLocale);
+    }
+
+    private Page findTranslation(List<Page> translations, String acceptedLocale) {
+        if (translations == null) {
+            return null;
+        }
+        return translations.stream()
+                .filter(t -> acceptedLocale.equalsIgnoreCase(t.getConfiguration().get(PageConfigurationKeys.TRANSLATION_LANG)))
+                .findFirst()
+                .orElse(null);
+    }
+
     private Page getTranslation(PageEntity pageToTranslate, String acceptedLocale) {
         if (PageType.LINK.name().equals(pageToTranslate.getType())
                 && pageToTranslate.getConfiguration() != null
@@ -617,7 +844,7 @@ public class PageServiceImpl extends TransactionalService implements PageService
     public void transformWithTemplate(final PageEntity pageEntity, final String api) {
         if (pageEntity.getContent() != null) {
             try {
-                final Template template = new Template(pageEntity.getId(), pageEntity.getContent(), freemarkerConfiguration);
+                final Template template = getTemplate(pageEntity);
                 final Map<String, Object> model = new HashMap<>();
                 if (api == null) {
                     final List<MetadataEntity> metadataList = metadataService.findAllDefault();
@@ -1133,6 +1360,7 @@ public class PageServiceImpl extends TransactionalService implements PageService
                     .forEach(p -> {
                         try {
                             pageRepository.delete(p.getId());
+                            evictCachedContent(p.getId());
                             this.deleteRelatedTranslations(p.getId());
                         } catch (TechnicalException ex) {
                             logger.error("An error occurs while trying to delete Page {}", p.getId(), ex);
@@ -1152,6 +1380,7 @@ public class PageServiceImpl extends TransactionalService implements PageService
                     .forEach(p -> {
                         try {
                             pageRepository.delete(p.getId());
+                            evictCachedContent(p.getId());
                         } catch (TechnicalException ex) {
                             logger.error("An error occurs while trying to delete Page {}", p.getId(), ex);
                             throw new TechnicalManagementException("An error occurs while trying to delete Page " + p.getId(), ex);
@@ -1171,8 +1400,10 @@ public class PageServiceImpl extends TransactionalService implements PageService
 
     private void fetchPage(final Page page) throws FetcherException {
         validateSafeSource(page);
-        Fetcher fetcher = this.getFetcher(page.getSource());
+        fetchPage(page, this.getFetcher(page.getSource()));
+    }
 
+    private void fetchPage(final Page page, final Fetcher fetcher) throws FetcherException {
         if (fetcher != null) {
             try {
                 final Resource resource = fetcher.fetch();
@@ -1229,6 +1460,22 @@ public class PageServiceImpl extends TransactionalService implements PageService
         }
     }
 
+    private Fetcher getAutoFetchFetcher(Page page) throws FetcherException {
+        PageSource ps = page.getSource();
+        if (ps.getConfiguration().isEmpty()) {
+            return null;
+        }
+        String key = page.getId() + ':' + ps.getType() + ':' + Hashing.sha256().hashString(ps.getConfiguration(), StandardCharsets.UTF_8);
+        try {
+            return autoFetchFetchers.get(key, () -> getFetcher(ps));
+        } catch (ExecutionException | UncheckedExecutionException ex) {
+            if (ex.getCause() instanceof FetcherException) {
+                throw (FetcherException) ex.getCause();
+            }
+            throw new FetcherException(ex.getCause().getMessage(), ex.getCause());
+        }
+    }
+
     private String getResourceContentAsString(final Resource resource) throws FetcherException {
         try {
             StringBuilder sb = new StringBuilder();
@@ -1263,13 +1510,37 @@ public class PageServiceImpl extends TransactionalService implements PageService
         logger.debug("Auto Fetch pages");
         try {
 
-            List<Page> autoFetchPages = pageRepository.search(new PageCriteria.Builder().withAutoFetch().build());
-            long nbOfFetchedPages = autoFetchPages.stream()
+            List<Page> autoFetchPages = pageRepository.search(new PageCriteria.Builder().withAutoFetch().build())
+                    .stream()
                     .filter(pageListItem -> pageListItem.getSource() != null)
                     .filter(this::isFetchRequired)
-                    .map(this::executeAutoFetch)
-                    .flatMap(Collection::stream)
-                    .count();
+                    .collect(toList());
+            if (autoFetchPages.isEmpty()) {
+                logger.debug("0 pages fetched");
+                return 0;
+            }
+
+            // sources are fetched in parallel, a slow one must not delay the others until the next run
+            AtomicInteger threadCount = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(autoFetchWorkers, autoFetchPages.size())), r -> {
+                Thread thread = new Thread(r, "gio.auto-fetch-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            long nbOfFetchedPages = 0;
+            try {
+                List<AutoFetchTask> tasks = autoFetchPages.stream()
+                        .map(AutoFetchTask::new)
+                        .collect(toList());
+                List<Future<List<PageEntity>>> fetches = tasks.stream()
+                        .map(task -> executor.submit(task))
+                        .collect(toList());
+                for (int i = 0; i < fetches.size(); i++) {
+                    nbOfFetchedPages += awaitAutoFetch(tasks.get(i), fetches.get(i)).size();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
 
             logger.debug("{} pages fetched", nbOfFetchedPages);
             return nbOfFetchedPages;
@@ -1279,10 +1550,56 @@ public class PageServiceImpl extends TransactionalService implements PageService
         }
     }
 
+    private List<PageEntity> awaitAutoFetch(AutoFetchTask task, Future<List<PageEntity>> fetch) {
+        try {
+            if (autoFetchTimeout <= 0) {
+                return fetch.get();
+            }
+            long remaining = autoFetchTimeout;
+            while (true) {
+                try {
+                    return fetch.get(remaining, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException ex) {
+                    // the timeout runs from the start of the fetch, not while waiting for a worker or for the other pages
+                    long startedAt = task.startedAt;
+                    if (startedAt > 0) {
+                        remaining = startedAt + autoFetchTimeout - System.currentTimeMillis();
+                        if (remaining <= 0) {
+                            fetch.cancel(true);
+                            logger.error("Auto fetch of page {} has not completed within {} ms", task.page.getId(), autoFetchTimeout);
+                            return emptyList();
+                        }
+                    }
+                }
+            }
+        } catch (ExecutionException ex) {
+            logger.error("An error occurs while trying to auto fetch page {}", task.page.getId(), ex.getCause());
+        } catch (InterruptedException ex) {
+            fetch.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        return emptyList();
+    }
+
+    private class AutoFetchTask implements Callable<List<PageEntity>> {
+        private final Page page;
+        private volatile long startedAt;
+
+        private AutoFetchTask(Page page) {
+            this.page = page;
+        }
+
+        @Override
+        public List<PageEntity> call() {
+            startedAt = System.currentTimeMillis();
+            return executeAutoFetch(page);
+        }
+    }
+
     private boolean isFetchRequired(Page pageItem) {
         boolean fetchRequired = false;
         try {
-            FetcherConfiguration configuration = getFetcher(pageItem.getSource()).getConfiguration();
+            FetcherConfiguration configuration = getAutoFetchFetcher(pageItem).getConfiguration();
             if (configuration.isAutoFetch()) {
                 String cron = configuration.getFetchCron();
                 if (cron != null && !cron.isEmpty()) {
@@ -1313,7 +1630,7 @@ public class PageServiceImpl extends TransactionalService implements PageService
                 pageEntity.setLastContributor(SYSTEM_CONTRIBUTOR);
                 return fetchPages(page.getReferenceId(), pageEntity);
             } else {
-                return Arrays.asList(fetch(page, SYSTEM_CONTRIBUTOR));
+                return Arrays.asList(autoFetch(page));
             }
         } catch (TechnicalException e) {
             logger.error("An error occurs while trying to auto fetch page {}", page.getId(), e);
@@ -1704,6 +2021,7 @@ public class PageServiceImpl extends TransactionalService implements PageService
             }
 
             pageRepository.delete(pageId);
+            evictCachedContent(pageId);
 
             // delete links and translations related to the page
             if (!PageType.LINK.name().equalsIgnoreCase(page.getType()) && !PageType.TRANSLATION.name().equalsIgnoreCase(page.getType())) {
@@ -1834,6 +2152,10 @@ public class PageServiceImpl extends TransactionalService implements PageService
             throw onUpdateFail(page.getId(), e);
         }
 
+        return updateFetchedPage(page, previousPage, contributor);
+    }
+
+    private PageEntity updateFetchedPage(Page page, Page previousPage, String contributor) throws TechnicalException {
         page.setUpdatedAt(new Date());
         page.setLastContributor(contributor);
 
@@ -1847,6 +2169,41 @@ public class PageServiceImpl extends TransactionalService implements PageService
         return convert(updatedPage);
     }
 
+    private PageEntity autoFetch(Page page) throws TechnicalException {
+        Page previousPage = new Page();
+        previousPage.setContent(page.getContent());
+        previousPage.setName(page.getName());
+        String previousHash = fetchedContentHash(page);
+
+        try {
+            validateSafeSource(page);
+            fetchPage(page, getAutoFetchFetcher(page));
+        } catch (FetcherException e) {
+            throw onUpdateFail(page.getId(), e);
+        }
+
+        if (!fetchedContentHash(page).equals(previousHash)) {
+            return updateFetchedPage(page, previousPage, SYSTEM_CONTRIBUTOR);
+        }
+
+        // nothing to validate, index or audit: only keep track of the fetch for the next scheduled one
+        logger.debug("Content of page {} has not changed since the last fetch", page.getId());
+        page.setUpdatedAt(new Date());
+        return convert(pageRepository.update(page));
+    }
+
+    private static String fetchedContentHash(Page page) {
+        Hasher hasher = Hashing.sha256().newHasher()
+                .putString(String.valueOf(page.getContent()), StandardCharsets.UTF_8)
+                .putChar('\0');
+        if (page.getMetadata() != null) {
+            new TreeMap<>(page.getMetadata()).forEach((key, value) -> hasher
+                    .putString(key, StandardCharsets.UTF_8).putChar('=')
+                    .putString(String.valueOf(value), StandardCharsets.UTF_8).putChar('\0'));
+        }
+        return hasher.hash().toString();
+    }
+
     private List<PageEntity> fetchPages(final String apiId, ImportPageEntity pageEntity) {
         try {
             Fetcher _fetcher = this.getFetcher(convert(pageEntity.getSource()));
@@ -1881,13 +2238,24 @@ public class PageServiceImpl extends TransactionalService implements PageService
     }
 
     private List<PageEntity> convert(List<Page> pages) {
+        return convert(pages, emptyMap());
+    }
+
+    private List<PageEntity> convert(List<Page> pages, Map<String, Page> referencePages) {
         if (pages == null) {
             return emptyList();
         }
-        return pages.stream().map(this::convert).collect(toList());
+        return pages.stream().map(page -> convert(page, referencePages)).collect(toList());
     }
 
     private PageEntity convert(Page page) {
+        return convert(page, emptyMap());
+    }
+
+    /**
+     * @param referencePages pages already loaded by id, used to compute the parent path before looking in the repository
+     */
+    private PageEntity convert(Page page, Map<String, Page> referencePages) {
         PageEntity pageEntity;
 
         if (page.getReferenceId() != null && PageReferenceType.API.equals(page.getReferenceType())) {
@@ -1929,19 +2297,20 @@ public class PageServiceImpl extends TransactionalService implements PageService
         pageEntity.setParentId("".equals(page.getParentId()) ? null : page.getParentId());
         pageEntity.setMetadata(page.getMetadata());
 
-        pageEntity.setParentPath(this.computeParentPath(page, ""));
+        pageEntity.setParentPath(this.computeParentPath(page, "", referencePages));
 
         return pageEntity;
     }
 
-    private String computeParentPath(Page page, String suffix) {
+    private String computeParentPath(Page page, String suffix, Map<String, Page> referencePages) {
         final String path = suffix;
         final String parentId = page.getParentId();
         if (!StringUtils.isEmpty(parentId)) {
             try {
-                final Optional<Page> optParent = pageRepository.findById(parentId);
+                final Optional<Page> optParent = referencePages.containsKey(parentId) ?
+                        Optional.of(referencePages.get(parentId)) : pageRepository.findById(parentId);
                 if (optParent.isPresent()) {
-                    return this.computeParentPath(optParent.get(), "/" + optParent.get().getName() + path);
+                    return this.computeParentPath(optParent.get(), "/" + optParent.get().getName() + path, referencePages);
                 }
             } catch (TechnicalException ex) {
                 logger.error("An error occurs while trying to find a page using its ID {}", parentId, ex);
@@ -1955,11 +2324,7 @@ public class PageServiceImpl extends TransactionalService implements PageService
         try {
             List<Page> searchResult = this.pageRepository
                     .search(new PageCriteria.Builder().parent(pageId).type(PageType.TRANSLATION.name()).build());
-            searchResult.sort((p1, p2) -> {
-                String lang1 = p1.getConfiguration().get(PageConfigurationKeys.TRANSLATION_LANG);
-                String lang2 = p2.getConfiguration().get(PageConfigurationKeys.TRANSLATION_LANG);
-                return lang1.compareTo(lang2);
-            });
+            searchResult.sort(TRANSLATION_LANG_COMPARATOR);
             return searchResult;
         } catch (TechnicalException ex) {
             logger.error("An error occurs while trying to search pages", ex);
@@ -2063,6 +2428,7 @@ public class PageServiceImpl extends TransactionalService implements PageService
     private Page validateContentAndUpdate(Page page) throws TechnicalException {
 
         validateSafeContent(page);
+        evictCachedContent(page.getId());
         return pageRepository.update(page);
     }
 
@@ -15,6 +15,9 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import io.gravitee.common.data.domain.Page;
 import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.parameters.Key;
@@ -41,6 +44,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Comparator.comparing;
 import static java.util.Comparator.reverseOrder;
@@ -76,6 +81,16 @@ public class RatingServiceImpl extends AbstractService implements RatingService
     @Autowired
     private ApiService apiService;
 
+    /**
+     * Rating aggregates by API. They are evicted when a rating of the API is written through this service, and expire
+     * so that ratings written by other nodes are eventually taken into account.
+     */
+    private final Cache<String, RatingAggregate> aggregates = CacheBuilder
+            .newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(5, TimeUnit.MINUTES)
+            .build();
+
     @Override
     public RatingEntity create(final NewRatingEntity ratingEntity) {
         if (!isEnabled()) {
@@ -87,6 +102,7 @@ public class RatingServiceImpl extends AbstractService implements RatingService
                 throw new RatingAlreadyExistsException(ratingEntity.getApi(), getAuthenticatedUsername());
             }
             Rating rating = ratingRepository.create(convert(ratingEntity));
+            aggregates.invalidate(rating.getReferenceId());
             auditService.createApiAuditLog(rating.getReferenceId(), null, Rating.RatingEvent.RATING_CREATED, rating.getCreatedAt(), null, rating);
 
             notifierService.trigger(
@@ -177,20 +193,30 @@ public class RatingServiceImpl extends AbstractService implements RatingService
         if (!isEnabled()) {
             throw new ApiRatingUnavailableException();
         }
+        return findAggregate(api).toSummary(api);
+    }
+
+    @Override
+    public Map<String, RatingSummaryEntity> findSummariesByApis(final Collection<String> apis) {
+        if (!isEnabled()) {
+            throw new ApiRatingUnavailableException();
+        }
+        final Map<String, RatingSummaryEntity> summaries = new HashMap<>(apis.size());
+        apis.forEach(api -> summaries.put(api, findAggregate(api).toSummary(api)));
+        return summaries;
+    }
+
+    private RatingAggregate findAggregate(final String api) {
         try {
-            final List<Rating> ratings = ratingRepository.findByReferenceIdAndReferenceType(api, RatingReferenceType.API);
-            final RatingSummaryEntity ratingSummary = new RatingSummaryEntity();
-            ratingSummary.setApi(api);
-            ratingSummary.setNumberOfRatings(ratings.size());
-            final OptionalDouble optionalAvg = ratings.stream().mapToInt(Rating::getRate).average();
-            if (optionalAvg.isPresent()) {
-                ratingSummary.setAverageRate(optionalAvg.getAsDouble());
-            }
-            ratingSummary.setNumberOfRatingsByRate(ratings.stream().collect(groupingBy(Rating::getRate, counting())));
-            return ratingSummary;
-        } catch (TechnicalException ex) {
-            LOGGER.error("An error occurred while trying to find summary rating for api {}", api, ex);
-            throw new TechnicalManagementException("An error occurred while trying to find summary rating for api " + api, ex);
+            return aggregates.get(api, () -> {
+                final RatingAggregate aggregate = new RatingAggregate();
+                ratingRepository.findByReferenceIdAndReferenceType(api, RatingReferenceType.API)
+                        .forEach(rating -> aggregate.add(rating.getRate()));
+                return aggregate;
+            });
+        } catch (ExecutionException | UncheckedExecutionException ex) {
+            LOGGER.error("An error occurred while trying to find summary rating for api {}", api, ex.getCause());
+            throw new TechnicalManagementException("An error occurred while trying to find summary rating for api " + api, ex.getCause());
         }
     }
 
@@ -235,6 +261,7 @@ public class RatingServiceImpl extends AbstractService implements RatingService
                 rating.setComment(ratingEntity.getComment());
             }
             Rating updatedRating = ratingRepository.update(rating);
+            aggregates.invalidate(updatedRating.getReferenceId());
             auditService.createApiAuditLog(rating.getReferenceId(), null, Rating.RatingEvent.RATING_UPDATED, updatedRating.getUpdatedAt(), oldRating, updatedRating);
             return convert(updatedRating);
         } catch (TechnicalException ex) {
@@ -251,6 +278,7 @@ public class RatingServiceImpl extends AbstractService implements RatingService
         try {
             Rating rating = findModelById(id);
             ratingRepository.delete(id);
+            aggregates.invalidate(rating.getReferenceId());
             auditService.createApiAuditLog(rating.getReferenceId(), null, Rating.RatingEvent.RATING_DELETED, new Date(), rating, null);
         } catch (TechnicalException ex) {
             LOGGER.error("An error occurs while trying to delete rating {}", id, ex);
@@ -351,4 +379,31 @@ public class RatingServiceImpl extends AbstractService implements RatingService
         rating.setUpdatedAt(now);
         return rating;
     }
+
+    /**
+     * Number of ratings, sum and histogram of the rates of an API.
+     */
+    private static final class RatingAggregate {
+
+        private final Map<Byte, Long> numberOfRatingsByRate = new HashMap<>();
+        private int numberOfRatings;
+        private long sumOfRates;
+
+        synchronized void add(final byte rate) {
+            numberOfRatings++;
+            sumOfRates += rate;
+            numberOfRatingsByRate.merge(rate, 1L, Long::sum);
+        }
+
+        synchronized RatingSummaryEntity toSummary(final String api) {
+            final RatingSummaryEntity ratingSummary = new RatingSummaryEntity();
+            ratingSummary.setApi(api);
+            ratingSummary.setNumberOfRatings(numberOfRatings);
+            if (numberOfRatings > 0) {
+                ratingSummary.setAverageRate((double) sumOfRates / numberOfRatings);
+            }
+            ratingSummary.setNumberOfRatingsByRate(new HashMap<>(numberOfRatingsByRate));
+            return ratingSummary;
+        }
+    }
 }
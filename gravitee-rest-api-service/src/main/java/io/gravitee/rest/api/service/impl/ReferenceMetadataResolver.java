@@ -0,0 +1,205 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.ApplicationRepository;
+import io.gravitee.repository.management.api.PlanRepository;
+import io.gravitee.repository.management.api.TenantRepository;
+import io.gravitee.repository.management.api.search.ApiCriteria;
+import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
+import io.gravitee.repository.management.model.ApiLifecycleState;
+import io.gravitee.repository.management.model.ApplicationStatus;
+import io.gravitee.repository.management.model.Plan;
+import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves the display metadata (name, version, deleted flag) of the APIs, applications, plans and tenants referenced
+ * by analytics, logs and subscriptions.
+ *
+ * The ids are resolved together, with one repository call per type when the repository allows it, and the metadata
+ * are kept for a short time so that dashboards refreshing the same references do not read them again. The ids the
+ * gateways report for a request without API, application or plan are resolved as unknown ones.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class ReferenceMetadataResolver {
+
+    private final Logger logger = LoggerFactory.getLogger(ReferenceMetadataResolver.class);
+
+    private static final String METADATA_NAME = "name";
+    private static final String METADATA_DELETED = "deleted";
+    private static final String METADATA_VERSION = "version";
+    private static final String METADATA_UNKNOWN = "unknown";
+
+    private static final String UNKNOWN_SERVICE = "1";
+    private static final String UNKNOWN_SERVICE_MAPPED = "?";
+
+    private static final String METADATA_DELETED_API_NAME = "Deleted API";
+    private static final String METADATA_DELETED_APPLICATION_NAME = "Deleted application";
+    private static final String METADATA_DELETED_PLAN_NAME = "Deleted plan";
+    private static final String METADATA_DELETED_TENANT_NAME = "Deleted tenant";
+
+    private static final String METADATA_UNKNOWN_API_NAME = "Unknown API (not found)";
+    private static final String METADATA_UNKNOWN_APPLICATION_NAME = "Unknown application (keyless)";
+    private static final String METADATA_UNKNOWN_PLAN_NAME = "Unknown plan (keyless)";
+
+    private static final String API = "api";
+    private static final String APPLICATION = "application";
+    private static final String PLAN = "plan";
+    private static final String TENANT = "tenant";
+
+    @Autowired
+    private ApiRepository apiRepository;
+    @Autowired
+    private ApplicationRepository applicationRepository;
+    @Autowired
+    private PlanRepository planRepository;
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    private final Cache<String, Map<String, String>> metadata = CacheBuilder
+            .newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(1, TimeUnit.MINUTES)
+            .build();
+
+    public Map<String, Map<String, String>> getApisMetadata(Collection<String> apis) {
+        return resolve(API, apis, METADATA_DELETED_API_NAME, METADATA_UNKNOWN_API_NAME, ids -> {
+            Map<String, Map<String, String>> found = new HashMap<>();
+            apiRepository.search(
+                    new ApiCriteria.Builder().ids(ids.toArray(new String[0])).build(),
+                    new ApiFieldExclusionFilter.Builder().excludeDefinition().excludePicture().build()
+            ).forEach(api -> {
+                Map<String, String> apiMetadata = new HashMap<>();
+                apiMetadata.put(METADATA_NAME, api.getName());
+                apiMetadata.put(METADATA_VERSION, api.getVersion());
+                if (ApiLifecycleState.ARCHIVED.equals(api.getApiLifecycleState())) {
+                    apiMetadata.put(METADATA_DELETED, Boolean.TRUE.toString());
+                }
+                found.put(api.getId(), apiMetadata);
+            });
+            return found;
+        });
+    }
+
+    public Map<String, Map<String, String>> getApplicationsMetadata(Collection<String> applications) {
+        return resolve(APPLICATION, applications, METADATA_DELETED_APPLICATION_NAME, METADATA_UNKNOWN_APPLICATION_NAME, ids -> {
+            Map<String, Map<String, String>> found = new HashMap<>();
+            applicationRepository.findByIds(new ArrayList<>(ids)).forEach(application -> {
+                Map<String, String> applicationMetadata = new HashMap<>();
+                applicationMetadata.put(METADATA_NAME, application.getName());
+                if (ApplicationStatus.ARCHIVED.equals(application.getStatus())) {
+                    applicationMetadata.put(METADATA_DELETED, Boolean.TRUE.toString());
+                }
+                found.put(application.getId(), applicationMetadata);
+            });
+            return found;
+        });
+    }
+
+    public Map<String, Map<String, String>> getPlansMetadata(Collection<String> plans) {
+        // plans can only be read one by one, the cache avoids reading them again on each refresh
+        return resolve(PLAN, plans, METADATA_DELETED_PLAN_NAME, METADATA_UNKNOWN_PLAN_NAME, ids -> {
+            Map<String, Map<String, String>> found = new HashMap<>();
+            for (String id : ids) {
+                Optional<Plan> plan = planRepository.findById(id);
+                if (plan.isPresent()) {
+                    found.put(id, Collections.singletonMap(METADATA_NAME, plan.get().getName()));
+                }
+            }
+            return found;
+        });
+    }
+
+    public Map<String, Map<String, String>> getTenantsMetadata(Collection<String> tenants) {
+        return resolve(TENANT, tenants, METADATA_DELETED_TENANT_NAME, null, ids -> {
+            Map<String, Map<String, String>> found = new HashMap<>();
+            tenantRepository.findAll().stream()
+                    .filter(tenant -> ids.contains(tenant.getId()))
+                    .forEach(tenant -> found.put(tenant.getId(), Collections.singletonMap(METADATA_NAME, tenant.getName())));
+            return found;
+        });
+    }
+
+    private Map<String, Map<String, String>> resolve(String type, Collection<String> ids, String deletedName,
+                                                     String unknownName, MetadataLoader loader) {
+        Map<String, Map<String, String>> resolved = new HashMap<>();
+        Set<String> missing = new HashSet<>();
+        for (String id : ids) {
+            if (unknownName != null && isUnknownService(id)) {
+                resolved.put(id, getUnknownMetadata(unknownName));
+                continue;
+            }
+            Map<String, String> cached = metadata.getIfPresent(type + ':' + id);
+            if (cached != null) {
+                resolved.put(id, new HashMap<>(cached));
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            logger.debug("Resolve metadata of {} {}(s)", missing.size(), type);
+            Map<String, Map<String, String>> loaded;
+            try {
+                loaded = loader.load(missing);
+            } catch (TechnicalException ex) {
+                logger.error("An error occurs while trying to resolve metadata of {}s {}", type, missing, ex);
+                throw new TechnicalManagementException("An error occurs while trying to resolve metadata of " + type + "s", ex);
+            }
+            for (String id : missing) {
+                Map<String, String> referenceMetadata = loaded.get(id);
+                if (referenceMetadata == null) {
+                    referenceMetadata = new HashMap<>();
+                    referenceMetadata.put(METADATA_DELETED, Boolean.TRUE.toString());
+                    referenceMetadata.put(METADATA_NAME, deletedName);
+                }
+                metadata.put(type + ':' + id, Collections.unmodifiableMap(referenceMetadata));
+                resolved.put(id, new HashMap<>(referenceMetadata));
+            }
+        }
+
+        return resolved;
+    }
+
+    private boolean isUnknownService(String id) {
+        return id.equals(UNKNOWN_SERVICE) || id.equals(UNKNOWN_SERVICE_MAPPED);
+    }
+
+    private Map<String, String> getUnknownMetadata(String name) {
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put(METADATA_NAME, name);
+        metadata.put(METADATA_UNKNOWN, Boolean.TRUE.toString());
+        return metadata;
+    }
+
+    @FunctionalInterface
+    private interface MetadataLoader {
+        Map<String, Map<String, String>> load(Set<String> ids) throws TechnicalException;
+    }
+}
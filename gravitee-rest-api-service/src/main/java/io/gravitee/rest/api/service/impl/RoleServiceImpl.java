@@ -65,6 +65,8 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
 
     @Autowired
     private AuditService auditService;
+    @Autowired
+    private MemberPermissionsCache memberPermissionsCache;
 
     @Override
     public RoleEntity findById(final String roleId) {
@@ -150,6 +152,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             updatedRole.setReferenceId(role.getReferenceId());
             updatedRole.setReferenceType(role.getReferenceType());
             RoleEntity entity = convert(roleRepository.update(updatedRole));
+            memberPermissionsCache.invalidateAll();
             auditService.createPortalAuditLog(
                     Collections.singletonMap(ROLE, role.getScope()+":"+role.getName()),
                     ROLE_UPDATED,
@@ -483,6 +486,7 @@ public class RoleServiceImpl extends AbstractService implements RoleService {
             systemRole.setId(existingRole.get().getId());
             systemRole.setUpdatedAt(new Date());
             roleRepository.update(systemRole);
+            memberPermissionsCache.invalidateAll();
             auditService.createPortalAuditLog(
                     Collections.singletonMap(ROLE, systemRole.getScope() + ":" + systemRole.getName()),
                     ROLE_UPDATED,
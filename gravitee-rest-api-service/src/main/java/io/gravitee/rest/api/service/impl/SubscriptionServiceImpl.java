@@ -28,6 +28,7 @@ import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.application.ApplicationListItem;
 import io.gravitee.rest.api.model.common.Pageable;
+import io.gravitee.rest.api.model.common.PageableImpl;
 import io.gravitee.rest.api.model.pagedresult.Metadata;
 import io.gravitee.rest.api.model.parameters.Key;
 import io.gravitee.rest.api.model.subscription.SubscriptionQuery;
@@ -44,6 +45,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -72,6 +78,7 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
     private static final String RFC_3339_DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
     private static final FastDateFormat dateFormatter = FastDateFormat.getInstance(RFC_3339_DATE_FORMAT);
     private static final char separator = ';';
+    private static final int EXPORT_PAGE_SIZE = 100;
 
     @Autowired
     private PlanService planService;
@@ -93,6 +100,10 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
     private GroupService groupService;
     @Autowired
     private ParameterService parameterService;
+    @Autowired
+    private ApiVisibilityIndex apiVisibilityIndex;
+    @Autowired
+    private ReferenceMetadataResolver referenceMetadataResolver;
 
     @Override
     public SubscriptionEntity findById(String subscription) {
@@ -281,6 +292,7 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
             }
 
             subscription = subscriptionRepository.create(subscription);
+            apiVisibilityIndex.invalidateApplication(application);
 
             createAudit(apiId, application, SUBSCRIPTION_CREATED, subscription.getCreatedAt(), null, subscription);
 
@@ -497,6 +509,7 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
                     subscription.setClosedAt(new Date());
 
                     subscription = subscriptionRepository.update(subscription);
+                    apiVisibilityIndex.invalidateApplication(subscription.getApplication());
 
                     // Send an email to subscriber
                     final ApplicationEntity application = applicationService.findById(subscription.getApplication());
@@ -699,6 +712,7 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
 
             // Delete subscription
             subscriptionRepository.delete(subscriptionId);
+            apiVisibilityIndex.invalidateApplication(subscription.getApplication());
             createAudit(
                     planService.findById(subscription.getPlan()).getApi(),
                     subscription.getApplication(),
@@ -718,6 +732,12 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
         try {
             logger.debug("Search subscriptions {}", query);
 
+            if (query.getApiKey() != null && !query.getApiKey().isEmpty()) {
+                return findByApiKey(query)
+                        .map(Collections::singletonList)
+                        .orElse(emptyList());
+            }
+
             SubscriptionCriteria.Builder builder = new SubscriptionCriteria.Builder()
                     .apis(query.getApis())
                     .applications(query.getApplications())
@@ -732,15 +752,10 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
                                 .collect(Collectors.toSet()));
             }
 
-            Stream<SubscriptionEntity> subscriptionsStream =
-                    subscriptionRepository.search(builder.build()).stream().map(this::convert);
-            if (query.getApiKey() != null && !query.getApiKey().isEmpty()) {
-                subscriptionsStream = subscriptionsStream.filter(subscriptionEntity -> {
-                    final Set<ApiKeyEntity> apiKeys = apiKeyService.findBySubscription(subscriptionEntity.getId());
-                    return apiKeys.stream().anyMatch(apiKeyEntity -> apiKeyEntity.getKey().equals(query.getApiKey()));
-                });
-            }
-            return subscriptionsStream.collect(toList());
+            return subscriptionRepository.search(builder.build())
+                    .stream()
+                    .map(this::convert)
+                    .collect(toList());
         } catch (TechnicalException ex) {
             logger.error("An error occurs while trying to search for subscriptions: {}", query, ex);
             throw new TechnicalManagementException(
@@ -748,31 +763,48 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
         }
     }
 
+    /**
+     * Resolve the subscription of the API key of the query, if it matches the other criteria of the query.
+     */
+    private Optional<SubscriptionEntity> findByApiKey(SubscriptionQuery query) {
+        try {
+            ApiKeyEntity apiKeyEntity = apiKeyService.findByKey(query.getApiKey());
+            SubscriptionEntity subscriptionEntity = findById(apiKeyEntity.getSubscription());
+            if (query.getApis() != null && !query.getApis().contains(subscriptionEntity.getApi())) {
+                return Optional.empty();
+            }
+            if (query.getApplications() != null && !query.getApplications().contains(subscriptionEntity.getApplication())) {
+                return Optional.empty();
+            }
+            if (query.getPlans() != null && !query.getPlans().contains(subscriptionEntity.getPlan())) {
+                return Optional.empty();
+            }
+            if (query.getStatuses() != null && !query.getStatuses().contains(subscriptionEntity.getStatus())) {
+                return Optional.empty();
+            }
+            // same as the from / to criteria of the repository, on the last update date
+            final Date updatedAt = subscriptionEntity.getUpdatedAt();
+            if (query.getFrom() > 0 && (updatedAt == null || updatedAt.getTime() < query.getFrom())) {
+                return Optional.empty();
+            }
+            if (query.getTo() > 0 && (updatedAt == null || updatedAt.getTime() > query.getTo())) {
+                return Optional.empty();
+            }
+            return Optional.of(subscriptionEntity);
+        } catch (ApiKeyNotFoundException | SubscriptionNotFoundException ex) {
+            return Optional.empty();
+        }
+    }
+
     @Override
     public Page<SubscriptionEntity> search(SubscriptionQuery query, Pageable pageable) {
         try {
             logger.debug("Search pageable subscriptions {}", query);
 
             if (query.getApiKey() != null && !query.getApiKey().isEmpty()) {
-                try {
-                    ApiKeyEntity apiKeyEntity = apiKeyService.findByKey(query.getApiKey());
-                    SubscriptionEntity subscriptionEntity = findById(apiKeyEntity.getSubscription());
-                    if (query.getApis() != null && !query.getApis().contains(subscriptionEntity.getApi())) {
-                        return new Page<>(emptyList(), 1, 0, 0);
-                    }
-                    if (query.getApplications() != null && !query.getApplications().contains(subscriptionEntity.getApplication())) {
-                        return new Page<>(emptyList(), 1, 0, 0);
-                    }
-                    if (query.getPlans() != null && !query.getPlans().contains(subscriptionEntity.getPlan())) {
-                        return new Page<>(emptyList(), 1, 0, 0);
-                    }
-                    if (query.getStatuses() != null && !query.getStatuses().contains(subscriptionEntity.getStatus())) {
-                        return new Page<>(emptyList(), 1, 0, 0);
-                    }
-                    return new Page<>(Collections.singletonList(subscriptionEntity), 1, 1, 1);
-                } catch (ApiKeyNotFoundException | SubscriptionNotFoundException ex) {
-                    return new Page<>(emptyList(), 1, 0, 0);
-                }
+                return findByApiKey(query)
+                        .map(subscriptionEntity -> new Page<>(Collections.singletonList(subscriptionEntity), 1, 1, 1))
+                        .orElse(new Page<>(emptyList(), 1, 0, 0));
             } else {
                 SubscriptionCriteria.Builder builder = new SubscriptionCriteria.Builder()
                         .apis(query.getApis())
@@ -875,6 +907,44 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
     @Override
     public String exportAsCsv(Collection<SubscriptionEntity> subscriptions, Map<String, Map<String, Object>> metadata) {
         final StringBuilder sb = new StringBuilder();
+        appendCsvHeader(sb);
+
+        if (subscriptions == null || subscriptions.isEmpty()) {
+            return sb.toString();
+        }
+        appendCsvLines(sb, subscriptions, metadata);
+        return sb.toString();
+    }
+
+    @Override
+    public void exportAsCsv(SubscriptionQuery query, OutputStream output) {
+        logger.debug("Export subscriptions {}", query);
+        try {
+            final Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+            final StringBuilder sb = new StringBuilder();
+            appendCsvHeader(sb);
+
+            int pageNumber = 0;
+            Page<SubscriptionEntity> page;
+            do {
+                page = search(query, new PageableImpl(++pageNumber, EXPORT_PAGE_SIZE));
+                final List<SubscriptionEntity> subscriptions = page.getContent();
+                if (!subscriptions.isEmpty()) {
+                    appendCsvLines(sb, subscriptions, getMetadata(subscriptions).getMetadata());
+                }
+                // only one page is kept in memory
+                writer.write(sb.toString());
+                writer.flush();
+                sb.setLength(0);
+            } while (page.getContent().size() == EXPORT_PAGE_SIZE && (long) pageNumber * EXPORT_PAGE_SIZE < page.getTotalElements());
+        } catch (IOException ex) {
+            logger.error("An error occurs while trying to export subscriptions: {}", query, ex);
+            throw new TechnicalManagementException(
+                    String.format("An error occurs while trying to export subscriptions: %s", query), ex);
+        }
+    }
+
+    private void appendCsvHeader(final StringBuilder sb) {
         sb.append("Plan");
         sb.append(separator);
         sb.append("Application");
@@ -889,10 +959,10 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
         sb.append(separator);
         sb.append("Status");
         sb.append(lineSeparator());
+    }
 
-        if (subscriptions == null || subscriptions.isEmpty()) {
-            return sb.toString();
-        }
+    private void appendCsvLines(final StringBuilder sb, Collection<SubscriptionEntity> subscriptions,
+                                Map<String, Map<String, Object>> metadata) {
         for (final SubscriptionEntity subscription : subscriptions) {
             final Object plan = metadata.get(subscription.getPlan());
             sb.append(getName(plan));
@@ -926,7 +996,6 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
 
             sb.append(lineSeparator());
         }
-        return sb.toString();
     }
 
     private String getName(Object map) {
@@ -937,23 +1006,16 @@ public class SubscriptionServiceImpl extends AbstractService implements Subscrip
     public Metadata getMetadata(List<SubscriptionEntity> subscriptions) {
         Metadata metadata = new Metadata();
 
-        subscriptions.forEach(subscription -> {
-            if (!metadata.containsKey(subscription.getApplication())) {
-                ApplicationEntity applicationEntity = applicationService.findById(subscription.getApplication());
-                metadata.put(subscription.getApplication(), "name", applicationEntity.getName());
-            }
-
+        Set<String> applications = subscriptions.stream().map(SubscriptionEntity::getApplication).collect(Collectors.toSet());
+        Set<String> plans = subscriptions.stream().map(SubscriptionEntity::getPlan).collect(Collectors.toSet());
+        Set<String> apis = subscriptions.stream().map(SubscriptionEntity::getApi).collect(Collectors.toSet());
 
-            if (!metadata.containsKey(subscription.getPlan())) {
-                PlanEntity planEntity = planService.findById(subscription.getPlan());
-                metadata.put(subscription.getPlan(), "name", planEntity.getName());
-            }
-
-            if (!metadata.containsKey(subscription.getApi())) {
-                ApiEntity api = apiService.findById(subscription.getApi());
-                metadata.put(subscription.getApi(), "name", api.getName());
-            }
-        });
+        referenceMetadataResolver.getApplicationsMetadata(applications)
+                .forEach((application, applicationMetadata) -> metadata.put(application, "name", applicationMetadata.get("name")));
+        referenceMetadataResolver.getPlansMetadata(plans)
+                .forEach((plan, planMetadata) -> metadata.put(plan, "name", planMetadata.get("name")));
+        referenceMetadataResolver.getApisMetadata(apis)
+                .forEach((api, apiMetadata) -> metadata.put(api, "name", apiMetadata.get("name")));
 
         return metadata;
     }
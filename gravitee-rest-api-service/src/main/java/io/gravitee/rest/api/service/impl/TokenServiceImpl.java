@@ -15,6 +15,9 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import io.gravitee.common.utils.UUID;
 import io.gravitee.rest.api.model.NewTokenEntity;
 import io.gravitee.rest.api.model.TokenEntity;
@@ -28,12 +31,16 @@ import io.gravitee.repository.management.api.TokenRepository;
 import io.gravitee.repository.management.model.Token;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 import static io.gravitee.repository.management.model.Audit.AuditProperties.TOKEN;
 import static io.gravitee.repository.management.model.Token.AuditEvent.*;
@@ -44,16 +51,43 @@ import static java.util.stream.Collectors.toList;
  * @author GraviteeSource Team
  */
 @Component
-public class TokenServiceImpl extends AbstractService implements TokenService {
+public class TokenServiceImpl extends AbstractService implements TokenService, InitializingBean {
 
     private final Logger LOGGER = LoggerFactory.getLogger(TokenServiceImpl.class);
     private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
+    /**
+     * Separates the public lookup part (the token id) from the secret part of a personal access token.
+     * Must not be a '.' which is used to detect JWT in the authentication filter.
+     */
+    static final char TOKEN_ID_SEPARATOR = '_';
+
     @Autowired
     private TokenRepository tokenRepository;
     @Autowired
     private AuditService auditService;
 
+    @Value("${security.tokens.cache.max-size:10000}")
+    private long cacheMaxSize;
+    @Value("${security.tokens.cache.ttl:300}")
+    private long cacheTtl;
+    @Value("${security.tokens.legacy-lookup.enabled:true}")
+    private boolean legacyLookupEnabled;
+
+    /**
+     * Fingerprint (sha-256) of the already verified token values, associated to their token id.
+     * Avoids running a bcrypt check for each request made with the same token.
+     */
+    private Cache<String, String> verifiedTokens;
+
+    @Override
+    public void afterPropertiesSet() {
+        verifiedTokens = CacheBuilder
+                .newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtl, TimeUnit.SECONDS)
+                .build();
+    }
 
     @Override
     public List<TokenEntity> findByUser(final String userId) {
@@ -82,8 +116,9 @@ public class TokenServiceImpl extends AbstractService implements TokenService {
                 throw new TokenNameAlreadyExistsException(newToken.getName());
             }
 
-            final String decodedToken = UUID.toString(UUID.random());
-            final Token token = convert(newToken, TokenReferenceType.USER, username, passwordEncoder.encode(decodedToken));
+            final String tokenId = UUID.toString(UUID.random());
+            final String decodedToken = tokenId + TOKEN_ID_SEPARATOR + UUID.toString(UUID.random());
+            final Token token = convert(newToken, tokenId, TokenReferenceType.USER, username, passwordEncoder.encode(decodedToken));
             auditService.createPortalAuditLog(
                     Collections.singletonMap(TOKEN, token.getId()),
                     TOKEN_CREATED,
@@ -110,6 +145,7 @@ public class TokenServiceImpl extends AbstractService implements TokenService {
             Optional<Token> tokenOptional = tokenRepository.findById(tokenId);
             if (tokenOptional.isPresent()) {
                 tokenRepository.delete(tokenId);
+                verifiedTokens.asMap().values().removeIf(tokenId::equals);
                 auditService.createPortalAuditLog(
                         Collections.singletonMap(TOKEN, tokenId),
                         TOKEN_DELETED,
@@ -128,8 +164,21 @@ public class TokenServiceImpl extends AbstractService implements TokenService {
     public Token findByToken(String token) {
         try {
             LOGGER.debug("Find token entity by token value");
-            final Optional<Token> optionalToken = tokenRepository.findAll().stream()
-                    .filter(t -> passwordEncoder.matches(token, t.getToken())).findAny();
+            final String fingerprint = fingerprint(token);
+            final String verifiedTokenId = verifiedTokens.getIfPresent(fingerprint);
+
+            final Optional<Token> optionalToken;
+            if (verifiedTokenId != null) {
+                // token value already verified, only ensure it has not been revoked in the meantime
+                optionalToken = tokenRepository.findById(verifiedTokenId);
+                if (!optionalToken.isPresent()) {
+                    verifiedTokens.invalidate(fingerprint);
+                }
+            } else {
+                optionalToken = lookup(token);
+                optionalToken.ifPresent(t -> verifiedTokens.put(fingerprint, t.getId()));
+            }
+
             if (optionalToken.isPresent()) {
                 final Token t = optionalToken.get();
                 t.setLastUseAt(new Date());
@@ -143,10 +192,34 @@ public class TokenServiceImpl extends AbstractService implements TokenService {
         }
     }
 
-    private Token convert(final NewTokenEntity tokenEntity, final TokenReferenceType referenceType,
+    private Optional<Token> lookup(final String token) throws TechnicalException {
+        final int separatorIndex = token.indexOf(TOKEN_ID_SEPARATOR);
+        if (separatorIndex > 0) {
+            // the token starts with its id: a single candidate to check
+            return tokenRepository.findById(token.substring(0, separatorIndex))
+                    .filter(t -> passwordEncoder.matches(token, t.getToken()));
+        }
+
+        if (!legacyLookupEnabled) {
+            return Optional.empty();
+        }
+
+        // tokens created before the id prefix was introduced can only be found by checking all of them
+        final Optional<Token> optionalToken = tokenRepository.findAll().stream()
+                .filter(t -> passwordEncoder.matches(token, t.getToken())).findAny();
+        optionalToken.ifPresent(t -> LOGGER.warn("Token '{}' of user '{}' uses a legacy format and should be regenerated",
+                t.getName(), t.getReferenceId()));
+        return optionalToken;
+    }
+
+    private String fingerprint(final String token) {
+        return Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+    }
+
+    private Token convert(final NewTokenEntity tokenEntity, final String tokenId, final TokenReferenceType referenceType,
                           final String referenceId, final String encodedToken) {
         final Token token = new Token();
-        token.setId(UUID.toString(UUID.random()));
+        token.setId(tokenId);
         token.setToken(encodedToken);
         token.setName(tokenEntity.getName());
         token.setCreatedAt(new Date());
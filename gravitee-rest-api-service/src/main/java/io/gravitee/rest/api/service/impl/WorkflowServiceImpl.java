@@ -15,6 +15,8 @@
  */
 package io.gravitee.rest.api.service.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.WorkflowRepository;
 import io.gravitee.repository.management.model.Workflow;
@@ -30,8 +32,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.Date;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Azize ELAMRANI (azize at graviteesource.com)
@@ -45,6 +47,16 @@ public class WorkflowServiceImpl extends TransactionalService implements Workflo
     @Autowired
     private WorkflowRepository workflowRepository;
 
+    /**
+     * Workflows by reference and type, used by bulk lookups. Entries are evicted when a workflow is created for the
+     * reference and expire quickly so that changes made by other nodes are eventually seen.
+     */
+    private final Cache<String, List<Workflow>> workflows = CacheBuilder
+            .newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(1, TimeUnit.MINUTES)
+            .build();
+
     @Override
     public Workflow create(final WorkflowReferenceType referenceType, final String referenceId, final WorkflowType type,
                            final String user, final WorkflowState state, final String comment) {
@@ -58,7 +70,9 @@ public class WorkflowServiceImpl extends TransactionalService implements Workflo
         workflow.setComment(comment);
         workflow.setCreatedAt(new Date());
         try {
-            return workflowRepository.create(workflow);
+            final Workflow createdWorkflow = workflowRepository.create(workflow);
+            workflows.invalidate(cacheKey(referenceType, referenceId, type));
+            return createdWorkflow;
         } catch (TechnicalException ex) {
             final String message = "An error occurs while trying to create workflow of type " + workflow.getType();
             LOGGER.error(message, ex);
@@ -78,4 +92,25 @@ public class WorkflowServiceImpl extends TransactionalService implements Workflo
             throw new TechnicalManagementException(message, ex);
         }
     }
+
+    @Override
+    public Map<String, List<Workflow>> findByReferencesAndType(final WorkflowReferenceType referenceType,
+                                                               final Collection<String> referenceIds,
+                                                               final WorkflowType type) {
+        final Map<String, List<Workflow>> workflowsByReference = new HashMap<>(referenceIds.size());
+        for (String referenceId : referenceIds) {
+            final String key = cacheKey(referenceType, referenceId, type);
+            List<Workflow> referenceWorkflows = workflows.getIfPresent(key);
+            if (referenceWorkflows == null) {
+                referenceWorkflows = findByReferenceAndType(referenceType, referenceId, type);
+                workflows.put(key, referenceWorkflows == null ? Collections.emptyList() : referenceWorkflows);
+            }
+            workflowsByReference.put(referenceId, referenceWorkflows);
+        }
+        return workflowsByReference;
+    }
+
+    private String cacheKey(final WorkflowReferenceType referenceType, final String referenceId, final WorkflowType type) {
+        return referenceType.name() + ':' + referenceId + ':' + type.name();
+    }
 }
@@ -188,10 +188,10 @@ public class FilteringServiceImpl extends AbstractService implements FilteringSe
     private FilteredEntities<ApiEntity> getRatedApis(Collection<ApiEntity> apis, boolean excluded) {
         //keep apis with ratings
         Map<ApiEntity, RatingSummaryEntity> ratings = new HashMap<>();
-        // APIPortal: should create a specific service to retrieve all the information
-        // in one call to the repository
+        Map<String, RatingSummaryEntity> summaries = ratingService.findSummariesByApis(
+                apis.stream().map(ApiEntity::getId).collect(Collectors.toList()));
         apis.forEach(api -> {
-            RatingSummaryEntity apiRatingSummary = ratingService.findSummaryByApi(api.getId());
+            RatingSummaryEntity apiRatingSummary = summaries.get(api.getId());
             if (apiRatingSummary != null && apiRatingSummary.getNumberOfRatings() > 0) {
                 ratings.put(api, apiRatingSummary);
             }
@@ -39,6 +39,7 @@ import io.gravitee.rest.api.service.impl.search.lucene.DocumentTransformer;
 import io.gravitee.rest.api.service.impl.search.lucene.SearchEngineIndexer;
 import io.gravitee.rest.api.service.search.SearchEngineService;
 
+import org.apache.lucene.document.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -48,6 +49,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -120,6 +122,26 @@ public class SearchEngineServiceImpl implements SearchEngineService {
         }
     }
 
+    @Override
+    public void index(Collection<? extends Indexable> sources) {
+        try {
+            indexer.add(transformAll(sources));
+        } catch (TechnicalException te) {
+            logger.error("Unexpected error while indexing documents", te);
+            throw new TechnicalManagementException("Unexpected error while indexing documents", te);
+        }
+    }
+
+    @Override
+    public void reindex(Collection<? extends Indexable> sources) {
+        try {
+            indexer.index(transformAll(sources));
+        } catch (TechnicalException te) {
+            logger.error("Unexpected error while indexing documents", te);
+            throw new TechnicalManagementException("Unexpected error while indexing documents", te);
+        }
+    }
+
     @Override
     public void process(CommandSearchIndexerEntity content) {
         if (ACTION_DELETE.equals(content.getAction())) {
@@ -172,20 +194,35 @@ public class SearchEngineServiceImpl implements SearchEngineService {
                 .findFirst()
                 .ifPresent(transformer -> {
                     try {
-                        indexer.index(transformer.transform(source));
+                        indexer.waitForGeneration(indexer.index(transformer.transform(source)));
                     } catch (TechnicalException te) {
                         logger.error("Unexpected error while indexing a document", te);
                     }
                 });
     }
 
+    private List<Document> transformAll(Collection<? extends Indexable> sources) {
+        return sources.stream()
+                .map(this::transform)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private Document transform(Indexable source) {
+        return transformers.stream()
+                .filter(transformer -> transformer.handle(source.getClass()))
+                .findFirst()
+                .map(transformer -> transformer.transform(source))
+                .orElse(null);
+    }
+
     private void deleteLocally(Indexable source) {
         transformers.stream()
                 .filter(transformer -> transformer.handle(source.getClass()))
                 .findFirst()
                 .ifPresent(transformer -> {
                     try {
-                        indexer.remove(transformer.transform(source));
+                        indexer.waitForGeneration(indexer.remove(transformer.transform(source)));
                     } catch (TechnicalException te) {
                         logger.error("Unexpected error while deleting a document", te);
                     }
@@ -19,6 +19,9 @@ import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
 import org.springframework.beans.factory.annotation.Value;
@@ -41,6 +44,15 @@ public class SearchEngineConfiguration {
     @Value("${search.data:${gravitee.home}/data}")
     private String indexDirectory;
 
+    /**
+     * Maximum delay (in milliseconds) before an indexed document is visible to the searchers.
+     */
+    @Value("${search.refresh.max-stale:1000}")
+    private long refreshMaxStale;
+
+    @Value("${search.refresh.min-stale:100}")
+    private long refreshMinStale;
+
     @Bean
     public SearchEngineIndexer searchEngineIndexer() {
         return new SearchEngineIndexer();
@@ -59,11 +71,26 @@ public class SearchEngineConfiguration {
     @Bean
     public IndexWriter indexWriter(Directory directory, Analyzer analyzer) throws IOException {
         IndexWriterConfig iwc = new IndexWriterConfig(analyzer);
-        iwc.setOpenMode(IndexWriterConfig.OpenMode.CREATE);
+        iwc.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
 
         return new IndexWriter(directory, iwc);
     }
 
+    @Bean(destroyMethod = "close")
+    public SearcherManager searcherManager(IndexWriter indexWriter) throws IOException {
+        return new SearcherManager(indexWriter, null);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ControlledRealTimeReopenThread<IndexSearcher> searcherRefreshThread(IndexWriter indexWriter,
+                                                                             SearcherManager searcherManager) {
+        ControlledRealTimeReopenThread<IndexSearcher> refreshThread = new ControlledRealTimeReopenThread<>(
+                indexWriter, searcherManager, refreshMaxStale / 1000.0, refreshMinStale / 1000.0);
+        refreshThread.setName("gio.search-refresh");
+        refreshThread.setDaemon(true);
+        return refreshThread;
+    }
+
     @Bean
     public Analyzer analyzer() {
         return new StandardAnalyzer();
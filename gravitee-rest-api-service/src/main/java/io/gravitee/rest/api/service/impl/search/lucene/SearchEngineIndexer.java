@@ -17,22 +17,31 @@ package io.gravitee.rest.api.service.impl.search.lucene;
 
 import io.gravitee.repository.exceptions.TechnicalException;
 import org.apache.lucene.document.Document;
-import org.apache.lucene.index.IndexWriter;
-import org.apache.lucene.index.Term;
-import org.apache.lucene.search.BooleanClause;
-import org.apache.lucene.search.BooleanQuery;
-import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.index.*;
+import org.apache.lucene.search.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class SearchEngineIndexer {
+public class SearchEngineIndexer implements InitializingBean, DisposableBean {
 
     /**
      * Logger.
@@ -45,12 +54,65 @@ public class SearchEngineIndexer {
     @Autowired
     private IndexWriter writer;
 
+    @Autowired(required = false)
+    private ControlledRealTimeReopenThread<IndexSearcher> searcherRefreshThread;
+
+    /**
+     * Maximum time (in milliseconds) the indexing caller waits for its changes to be visible to the searchers.
+     */
+    @Value("${search.refresh.max-wait:1000}")
+    private int refreshMaxWait;
+
+    /**
+     * Changes are committed as soon as this number of documents have been updated or removed...
+     */
+    @Value("${search.commit.max-documents:100}")
+    private int commitMaxDocuments;
+
+    /**
+     * ...or at least every interval (in milliseconds) if there are pending changes.
+     */
+    @Value("${search.commit.interval:1000}")
+    private long commitInterval;
+
+    private final AtomicInteger pendingDocuments = new AtomicInteger();
+
+    private ScheduledExecutorService commitExecutor;
+
+    @Override
+    public void afterPropertiesSet() {
+        commitExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "gio.search-commit");
+            thread.setDaemon(true);
+            return thread;
+        });
+        commitExecutor.scheduleWithFixedDelay(() -> {
+            if (pendingDocuments.get() > 0) {
+                try {
+                    commit();
+                } catch (TechnicalException te) {
+                    logger.error("Unexpected error while committing the Lucene index", te);
+                }
+            }
+        }, commitInterval, commitInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (commitExecutor != null) {
+            commitExecutor.shutdownNow();
+        }
+        if (pendingDocuments.get() > 0) {
+            commit();
+        }
+    }
+
     public long index(Document document) throws TechnicalException {
         logger.debug("Updating a document into the Lucene index");
         String id = document.get(ID_FIELD);
         try {
             long seq = writer.updateDocument(new Term(ID_FIELD, id), document);
-            writer.commit();
+            onChange();
             return seq;
         } catch (IOException ioe) {
             logger.error("Fail to index document with ID: {}", id, ioe);
@@ -58,10 +120,30 @@ public class SearchEngineIndexer {
         }
     }
 
-    public void remove(Document document) throws TechnicalException {
-        String type = document.get(TYPE_FIELD);
-        String id = document.get(ID_FIELD);
+    public void index(Collection<Document> documents) throws TechnicalException {
+        for (Document document : documents) {
+            index(document);
+        }
+    }
 
+    /**
+     * Adds documents without checking if they are already indexed nor committing them.
+     */
+    public void add(Collection<Document> documents) throws TechnicalException {
+        logger.debug("Adding {} documents into the Lucene index", documents.size());
+        try {
+            writer.addDocuments(documents);
+        } catch (IOException ioe) {
+            logger.error("Fail to add {} documents", documents.size(), ioe);
+            throw new TechnicalException("Fail to add " + documents.size() + " documents", ioe);
+        }
+    }
+
+    public long remove(Document document) throws TechnicalException {
+        return remove(document.get(TYPE_FIELD), document.get(ID_FIELD));
+    }
+
+    public long remove(String type, String id) throws TechnicalException {
         logger.debug("Removing document type[{}] ID[{}]", type, id);
 
         BooleanQuery.Builder bq = new BooleanQuery.Builder();
@@ -69,10 +151,108 @@ public class SearchEngineIndexer {
         bq.add(new TermQuery(new Term(TYPE_FIELD, type)), BooleanClause.Occur.MUST);
 
         try {
-            writer.deleteDocuments(bq.build());
+            long seq = writer.deleteDocuments(bq.build());
+            onChange();
+            return seq;
         } catch (IOException ioe) {
             logger.error("Fail to index document with ID: {}", id, ioe);
             throw new TechnicalException("Fail to index document with ID: " + id, ioe);
         }
     }
+
+    public void removeAll() throws TechnicalException {
+        logger.debug("Removing all the documents from the Lucene index");
+        try {
+            writer.deleteAll();
+            onChange();
+        } catch (IOException ioe) {
+            logger.error("Fail to remove all the documents", ioe);
+            throw new TechnicalException("Fail to remove all the documents", ioe);
+        }
+    }
+
+    /**
+     * Waits until the searchers see the changes up to the given sequence number, so that the caller can search for
+     * what it has just indexed. Commits only make the changes durable, they have no effect on what is searchable.
+     */
+    public void waitForGeneration(long generation) {
+        if (searcherRefreshThread == null) {
+            return;
+        }
+        try {
+            if (!searcherRefreshThread.waitForGeneration(generation, refreshMaxWait)) {
+                logger.debug("Indexed changes are not searchable yet after {} ms", refreshMaxWait);
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return the ID of all the indexed documents of the given type.
+     */
+    public Set<String> findIds(String type) throws TechnicalException {
+        final Set<String> ids = new HashSet<>();
+        try (DirectoryReader reader = DirectoryReader.open(writer)) {
+            new IndexSearcher(reader).search(new TermQuery(new Term(TYPE_FIELD, type)), new SimpleCollector() {
+                private SortedDocValues values;
+
+                @Override
+                protected void doSetNextReader(LeafReaderContext context) throws IOException {
+                    values = DocValues.getSorted(context.reader(), ID_FIELD);
+                }
+
+                @Override
+                public void collect(int doc) throws IOException {
+                    if (values.advanceExact(doc)) {
+                        ids.add(values.binaryValue().utf8ToString());
+                    }
+                }
+
+                @Override
+                public boolean needsScores() {
+                    return false;
+                }
+            });
+            return ids;
+        } catch (IOException ioe) {
+            logger.error("Fail to read the documents of type: {}", type, ioe);
+            throw new TechnicalException("Fail to read the documents of type: " + type, ioe);
+        }
+    }
+
+    /**
+     * @return the user data stored with the last commit.
+     */
+    public Map<String, String> getCommitData() {
+        final Map<String, String> commitData = new HashMap<>();
+        final Iterable<Map.Entry<String, String>> liveCommitData = writer.getLiveCommitData();
+        if (liveCommitData != null) {
+            liveCommitData.forEach(entry -> commitData.put(entry.getKey(), entry.getValue()));
+        }
+        return commitData;
+    }
+
+    public synchronized void commit(Map<String, String> commitData) throws TechnicalException {
+        writer.setLiveCommitData(new HashMap<>(commitData).entrySet());
+        commit();
+    }
+
+    public synchronized void commit() throws TechnicalException {
+        int pending = pendingDocuments.getAndSet(0);
+        logger.debug("Committing {} pending changes into the Lucene index", pending);
+        try {
+            writer.commit();
+        } catch (IOException ioe) {
+            pendingDocuments.addAndGet(pending);
+            logger.error("Fail to commit the Lucene index", ioe);
+            throw new TechnicalException("Fail to commit the Lucene index", ioe);
+        }
+    }
+
+    private void onChange() throws TechnicalException {
+        if (pendingDocuments.incrementAndGet() >= commitMaxDocuments) {
+            commit();
+        }
+    }
 }
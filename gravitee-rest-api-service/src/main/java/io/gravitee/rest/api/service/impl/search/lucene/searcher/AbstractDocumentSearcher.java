@@ -23,16 +23,17 @@ import io.gravitee.rest.api.service.impl.search.lucene.analyzer.CustomWhitespace
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.document.Document;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.index.SortedDocValues;
 import org.apache.lucene.search.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
@@ -49,10 +50,15 @@ public abstract class AbstractDocumentSearcher implements DocumentSearcher {
     protected final static String FIELD_ID = "id";
     protected final static String FIELD_TYPE = "type";
 
+    /**
+     * Maximum number of hits collected at once while skipping the previous pages of a paginated search.
+     */
+    private final static int SKIP_BATCH_SIZE = 1000;
+
     protected Analyzer analyzer = new CustomWhitespaceAnalyzer();
 
     @Autowired
-    protected IndexWriter indexWriter;
+    protected SearcherManager searcherManager;
 
     protected SearchResult search(Query query) throws TechnicalException {
         return search(query, null);
@@ -61,44 +67,123 @@ public abstract class AbstractDocumentSearcher implements DocumentSearcher {
     protected SearchResult search(Query query, Pageable pageable) throws TechnicalException {
         logger.debug("Searching for: {}", query.toString());
 
+        IndexSearcher searcher = null;
         try {
-            IndexSearcher searcher = getIndexSearcher();
+            searcher = searcherManager.acquire();
             TopDocs topDocs;
 
             if (pageable != null) {
-                //TODO: How to find the accurate numhits ?
-                TopScoreDocCollector collector = TopScoreDocCollector.create(1000);
-                searcher.search(query, collector);
-
-                topDocs = collector.topDocs((pageable.getPageNumber() - 1) * pageable.getPageSize(), pageable.getPageSize());
+                topDocs = searchPage(searcher, query, pageable);
             } else {
-                topDocs = searcher.search(query, Integer.MAX_VALUE);
+                topDocs = searcher.search(query, Math.max(1, searcher.getIndexReader().maxDoc()));
             }
 
-            final ScoreDoc[] hits = topDocs.scoreDocs;
-            final List<String> results = new ArrayList<>();
-
             logger.debug("Found {} total matching documents", topDocs.totalHits);
 
-            if (hits.length > 0) {
-                // Iterate over found results
-                for (ScoreDoc hit : hits) {
-                    results.add(getReference(searcher.doc(hit.doc)));
-                }
-            }
+            final List<String> results = getReferences(searcher, topDocs.scoreDocs);
 
-            return new SearchResult(results.stream().distinct().collect(Collectors.toList()), topDocs.totalHits);
+            return new SearchResult(results.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList()),
+                    topDocs.totalHits);
         } catch (IOException ioe) {
             logger.error("An error occurs while getting documents from search result", ioe);
             throw new TechnicalException("An error occurs while getting documents from search result", ioe);
+        } finally {
+            release(searcher);
         }
     }
 
+    /**
+     * Walks through the previous pages with <code>searchAfter</code> so that the memory used does not depend on the
+     * page number, the total hits count being always accurate.
+     */
+    private TopDocs searchPage(IndexSearcher searcher, Query query, Pageable pageable) throws IOException {
+        final int offset = (pageable.getPageNumber() - 1) * pageable.getPageSize();
+
+        ScoreDoc after = null;
+        int skipped = 0;
+        while (skipped < offset) {
+            final int size = Math.min(offset - skipped, SKIP_BATCH_SIZE);
+            final TopDocs previous = searcher.searchAfter(after, query, size);
+            skipped += previous.scoreDocs.length;
+
+            if (previous.scoreDocs.length < size) {
+                // the requested page is beyond the last hit
+                return new TopDocs(previous.totalHits, new ScoreDoc[0], Float.NaN);
+            }
+            after = previous.scoreDocs[previous.scoreDocs.length - 1];
+        }
+
+        return searcher.searchAfter(after, query, pageable.getPageSize());
+    }
+
+    /**
+     * Reads the references of the hits from the doc values instead of loading the stored documents.
+     */
+    private List<String> getReferences(IndexSearcher searcher, ScoreDoc[] hits) throws IOException {
+        final String[] references = new String[hits.length];
+
+        // doc values must be read in increasing doc id order
+        final Integer[] docOrder = new Integer[hits.length];
+        for (int i = 0; i < hits.length; i++) {
+            docOrder[i] = i;
+        }
+        Arrays.sort(docOrder, Comparator.comparingInt(i -> hits[i].doc));
+
+        final List<LeafReaderContext> leaves = searcher.getIndexReader().leaves();
+        final Map<String, SortedDocValues> referenceValues = new HashMap<>();
+        LeafReaderContext leaf = null;
+        SortedDocValues types = null;
+
+        for (int i : docOrder) {
+            final int doc = hits[i].doc;
+            if (leaf == null || doc >= leaf.docBase + leaf.reader().maxDoc()) {
+                leaf = leaves.get(ReaderUtil.subIndex(doc, leaves));
+                types = DocValues.getSorted(leaf.reader(), FIELD_TYPE);
+                referenceValues.clear();
+            }
+
+            final int leafDoc = doc - leaf.docBase;
+            if (types.advanceExact(leafDoc)) {
+                final String referenceField = getReferenceField(types.binaryValue().utf8ToString());
+                if (referenceField != null) {
+                    SortedDocValues values = referenceValues.get(referenceField);
+                    if (values == null) {
+                        values = DocValues.getSorted(leaf.reader(), referenceField);
+                        referenceValues.put(referenceField, values);
+                    }
+                    if (values.advanceExact(leafDoc)) {
+                        references[i] = values.binaryValue().utf8ToString();
+                    }
+                }
+            } else {
+                // document indexed without doc values
+                references[i] = getReference(searcher.doc(doc));
+            }
+        }
+
+        return Arrays.asList(references);
+    }
+
+    /**
+     * @param type the type of the matching document.
+     * @return the field holding the reference to return for a document of the given type.
+     */
+    protected String getReferenceField(String type) {
+        return FIELD_ID;
+    }
+
     protected String getReference(Document document) {
-        return document.get(FIELD_ID);
+        final String referenceField = getReferenceField(document.get(FIELD_TYPE));
+        return referenceField == null ? null : document.get(referenceField);
     }
 
-    private IndexSearcher getIndexSearcher() throws IOException {
-        return new IndexSearcher(DirectoryReader.open(indexWriter));
+    private void release(IndexSearcher searcher) {
+        if (searcher != null) {
+            try {
+                searcherManager.release(searcher);
+            } catch (IOException ioe) {
+                logger.error("An error occurs while releasing index searcher", ioe);
+            }
+        }
     }
 }
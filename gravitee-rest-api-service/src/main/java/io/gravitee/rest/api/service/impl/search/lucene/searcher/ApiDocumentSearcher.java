@@ -19,7 +19,6 @@ import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.search.Indexable;
 import io.gravitee.rest.api.service.impl.search.SearchResult;
 import io.gravitee.repository.exceptions.TechnicalException;
-import org.apache.lucene.document.Document;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
 import org.apache.lucene.queryparser.classic.ParseException;
@@ -179,12 +178,11 @@ public class ApiDocumentSearcher extends AbstractDocumentSearcher {
     }
 
     @Override
-    protected String getReference(Document document) {
-        String type = document.get(FIELD_TYPE);
+    protected String getReferenceField(String type) {
         if (FIELD_API_TYPE_VALUE.equals(type)) {
-            return document.get(FIELD_ID);
+            return FIELD_ID;
         } else if (FIELD_PAGE_TYPE_VALUE.equals(type)) {
-            return document.get(FIELD_API_TYPE_VALUE);
+            return FIELD_API_TYPE_VALUE;
         }
 
         return null;
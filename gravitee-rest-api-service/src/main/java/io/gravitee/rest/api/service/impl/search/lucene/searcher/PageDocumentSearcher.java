@@ -57,7 +57,7 @@ public class PageDocumentSearcher extends AbstractDocumentSearcher {
             bq.add(parse, BooleanClause.Occur.MUST);
             bq.add(new TermQuery(new Term(FIELD_TYPE, FIELD_TYPE_VALUE)), BooleanClause.Occur.MUST);
 
-            return search(bq.build());
+            return search(bq.build(), query.getPage());
         } catch (ParseException pe) {
             logger.error("Invalid query to search for page documents", pe);
             throw new TechnicalException("Invalid query to search for page documents", pe);
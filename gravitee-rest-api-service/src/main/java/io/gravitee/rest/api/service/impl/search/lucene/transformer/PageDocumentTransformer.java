@@ -21,8 +21,10 @@ import io.gravitee.rest.api.model.search.Indexable;
 import io.gravitee.rest.api.service.impl.search.lucene.DocumentTransformer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedDocValuesField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
+import org.apache.lucene.util.BytesRef;
 import org.springframework.stereotype.Component;
 
 /**
@@ -44,7 +46,9 @@ public class PageDocumentTransformer implements DocumentTransformer<PageEntity>
         Document doc = new Document();
 
         doc.add(new StringField(FIELD_ID, page.getId(), Field.Store.YES));
+        doc.add(new SortedDocValuesField(FIELD_ID, new BytesRef(page.getId())));
         doc.add(new StringField(FIELD_TYPE, FIELD_TYPE_VALUE, Field.Store.YES));
+        doc.add(new SortedDocValuesField(FIELD_TYPE, new BytesRef(FIELD_TYPE_VALUE)));
         if (page.getName() != null) {
             doc.add(new TextField(FIELD_NAME, page.getName(), Field.Store.NO));
         }
@@ -55,6 +59,7 @@ public class PageDocumentTransformer implements DocumentTransformer<PageEntity>
 
         if (page instanceof ApiPageEntity && ((ApiPageEntity)page).getApi() != null) {
             doc.add(new StringField(FIELD_API, ((ApiPageEntity)page).getApi(), Field.Store.YES));
+            doc.add(new SortedDocValuesField(FIELD_API, new BytesRef(((ApiPageEntity)page).getApi())));
         }
 
         return doc;
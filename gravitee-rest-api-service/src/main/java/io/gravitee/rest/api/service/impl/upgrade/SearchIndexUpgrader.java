@@ -16,28 +16,48 @@
 package io.gravitee.rest.api.service.impl.upgrade;
 
 import io.gravitee.common.data.domain.Page;
+import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.search.UserCriteria;
 import io.gravitee.repository.management.model.UserStatus;
+import io.gravitee.rest.api.model.ApiPageEntity;
 import io.gravitee.rest.api.model.PageEntity;
 import io.gravitee.rest.api.model.PageType;
 import io.gravitee.rest.api.model.UserEntity;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.common.PageableImpl;
-import io.gravitee.rest.api.model.documentation.PageQuery;
+import io.gravitee.rest.api.model.search.Indexable;
 import io.gravitee.rest.api.service.ApiService;
 import io.gravitee.rest.api.service.PageService;
 import io.gravitee.rest.api.service.Upgrader;
 import io.gravitee.rest.api.service.UserService;
+import io.gravitee.rest.api.service.common.GraviteeContext;
+import io.gravitee.rest.api.service.exceptions.AbstractNotFoundException;
+import io.gravitee.rest.api.service.impl.search.lucene.SearchEngineIndexer;
 import io.gravitee.rest.api.service.search.SearchEngineService;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
+ * Brings the persistent search index up to date at startup.
+ *
+ * When the index is empty or has been built with another version of the documents, it is rebuilt from scratch.
+ * Otherwise, only the entities updated since the last indexed update date (high-water mark stored with the index
+ * commit) are indexed again, and the documents of the entities which do not exist anymore are removed.
+ *
+ * In both cases, entities are read page by page, transformed into documents on a bounded worker pool and added to
+ * the index by batches, which is committed once at the end.
+ *
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author Nicolas GERAUD (nicolas.geraud at graviteesource.com)
  * @author GraviteeSource Team
@@ -45,6 +65,29 @@ import java.util.Set;
 @Component
 public class SearchIndexUpgrader implements Upgrader, Ordered {
 
+    /**
+     * Logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(SearchIndexUpgrader.class);
+
+    /**
+     * Must be incremented each time the structure of the indexed documents changes, to force a rebuild of the index.
+     */
+    static final String INDEX_VERSION = "2";
+
+    private static final String COMMIT_DATA_VERSION = "version";
+    private static final String API_TYPE = "api";
+    private static final String PAGE_TYPE = "page";
+    private static final String USER_TYPE = "user";
+
+    /**
+     * Entities updated a bit before the high-water mark are indexed again to cope with clock drifts between nodes.
+     */
+    private static final long HIGH_WATER_MARK_OVERLAP = TimeUnit.MINUTES.toMillis(5);
+
+    private static final Set<String> NOT_INDEXED_PAGE_TYPES = new HashSet<>(Arrays.asList(
+            PageType.FOLDER.name(), PageType.ROOT.name(), PageType.SYSTEM_FOLDER.name(), PageType.LINK.name()));
+
     @Autowired
     private ApiService apiService;
 
@@ -57,38 +100,254 @@ public class SearchIndexUpgrader implements Upgrader, Ordered {
     @Autowired
     private SearchEngineService searchEngineService;
 
+    @Autowired
+    private SearchEngineIndexer searchEngineIndexer;
+
+    @Value("${search.reindex.workers:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int workers;
+
+    @Value("${search.reindex.batch-size:100}")
+    private int batchSize;
+
+    @Value("${search.rebuild-on-startup:false}")
+    private boolean rebuildOnStartup;
+
     @Override
     public boolean upgrade() {
-        // Index APIs
-        Set<ApiEntity> apis = apiService.findAll();
-        apis.forEach(apiEntity -> {
-            // API
-            searchEngineService.index(apiEntity, true);
-
-            // Pages
-            List<PageEntity> apiPages = pageService.search(new PageQuery.Builder().api(apiEntity.getId()).published(true).build(), true);
-            apiPages.forEach(page -> {
+        final long start = System.currentTimeMillis();
+        final Map<String, String> commitData = searchEngineIndexer.getCommitData();
+        final boolean rebuild = rebuildOnStartup || !INDEX_VERSION.equals(commitData.get(COMMIT_DATA_VERSION));
+
+        try {
+            if (rebuild) {
+                logger.info("Rebuilding the search index");
+                commitData.clear();
+                searchEngineIndexer.removeAll();
+                // a partially rebuilt index must be rebuilt again on next start
+                searchEngineIndexer.commit(commitData);
+            } else {
+                logger.info("Indexing the changes made since the last indexation");
+            }
+
+            final Reindexation reindexation = new Reindexation(rebuild, commitData);
+            try {
+                final Map<String, String> newCommitData = new HashMap<>();
+                newCommitData.put(COMMIT_DATA_VERSION, INDEX_VERSION);
+                newCommitData.put(API_TYPE, String.valueOf(reindexation.indexApis()));
+                newCommitData.put(PAGE_TYPE, String.valueOf(reindexation.indexPages()));
+                newCommitData.put(USER_TYPE, String.valueOf(reindexation.indexUsers()));
+                reindexation.await();
+
+                searchEngineIndexer.commit(newCommitData);
+                logger.info("Search index updated with {} batches in {} ms", reindexation.batches.size(),
+                        System.currentTimeMillis() - start);
+            } finally {
+                reindexation.executor.shutdownNow();
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            logger.error("Search index update has been interrupted", ie);
+        } catch (ExecutionException ee) {
+            // the previous high-water marks are kept, so the changes are indexed again on next start
+            logger.error("An error occurs while updating the search index", ee.getCause());
+        } catch (TechnicalException te) {
+            logger.error("An error occurs while updating the search index", te);
+        }
+
+        return true;
+    }
+
+    private class Reindexation {
+
+        private final boolean rebuild;
+        private final Map<String, String> highWaterMarks;
+        private final String environment = GraviteeContext.getCurrentEnvironment();
+        private final String organization = GraviteeContext.getCurrentOrganization();
+        private final List<Future<?>> batches = new ArrayList<>();
+        private final ThreadPoolExecutor executor;
+        private Set<String> apiIds = Collections.emptySet();
+
+        private Reindexation(boolean rebuild, Map<String, String> highWaterMarks) {
+            this.rebuild = rebuild;
+            this.highWaterMarks = highWaterMarks;
+
+            final AtomicInteger threadCount = new AtomicInteger();
+            this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(workers * 2),
+                    r -> new Thread(r, "gio.search-reindex-" + threadCount.incrementAndGet()),
+                    // the reading thread indexes the batch by itself when all the workers are busy
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+        }
+
+        private long indexApis() throws TechnicalException {
+            final long highWaterMark = highWaterMark(API_TYPE);
+            long newHighWaterMark = highWaterMark;
+
+            // the definition is only loaded for the APIs to index, batch by batch
+            final Set<ApiEntity> apis = apiService.findAllLight();
+            apiIds = apis.stream().map(ApiEntity::getId).collect(Collectors.toSet());
+            final List<String> updatedApis = new ArrayList<>();
+            for (ApiEntity api : apis) {
+                newHighWaterMark = max(newHighWaterMark, api.getUpdatedAt());
+                if (isUpdated(api.getUpdatedAt(), highWaterMark)) {
+                    updatedApis.add(api.getId());
+                }
+            }
+            partition(updatedApis).forEach(batch -> submit(() -> batch.stream()
+                    .map(this::findApi)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList())));
+            removeDeleted(API_TYPE, apiIds);
+
+            return newHighWaterMark;
+        }
+
+        /**
+         * Must be called after {@link #indexApis()}: only the pages of the indexed APIs are indexed.
+         */
+        private long indexPages() throws TechnicalException {
+            final long highWaterMark = highWaterMark(PAGE_TYPE);
+            long newHighWaterMark = highWaterMark;
+            final Set<String> pageIds = new HashSet<>();
+
+            int pageNumber = 0;
+            Page<PageEntity> pages;
+            do {
+                pages = pageService.findAll(new PageableImpl(pageNumber++, batchSize));
+                final List<PageEntity> updatedPages = new ArrayList<>();
+                for (PageEntity page : pages.getContent()) {
+                    if (page instanceof ApiPageEntity && apiIds.contains(((ApiPageEntity) page).getApi())
+                            && page.isPublished() && !NOT_INDEXED_PAGE_TYPES.contains(page.getType())) {
+                        pageIds.add(page.getId());
+                        newHighWaterMark = max(newHighWaterMark, page.getLastModificationDate());
+                        if (isUpdated(page.getLastModificationDate(), highWaterMark)) {
+                            updatedPages.add(page);
+                        }
+                    }
+                }
+                if (!updatedPages.isEmpty()) {
+                    submit(() -> transformPages(updatedPages));
+                }
+            } while (pages.getContent().size() == batchSize);
+
+            removeDeleted(PAGE_TYPE, pageIds);
+            return newHighWaterMark;
+        }
+
+        private long indexUsers() throws TechnicalException {
+            final long highWaterMark = highWaterMark(USER_TYPE);
+            long newHighWaterMark = highWaterMark;
+            final Set<String> userIds = new HashSet<>();
+
+            int pageNumber = 1;
+            Page<UserEntity> users;
+            do {
+                users = userService.search(
+                        new UserCriteria.Builder().statuses(UserStatus.ACTIVE).build(),
+                        new PageableImpl(pageNumber++, batchSize));
+                final List<UserEntity> updatedUsers = new ArrayList<>();
+                for (UserEntity user : users.getContent()) {
+                    userIds.add(user.getId());
+                    newHighWaterMark = max(newHighWaterMark, user.getUpdatedAt());
+                    if (isUpdated(user.getUpdatedAt(), highWaterMark)) {
+                        updatedUsers.add(user);
+                    }
+                }
+                if (!updatedUsers.isEmpty()) {
+                    submit(() -> updatedUsers);
+                }
+            } while (users.getContent().size() == batchSize);
+
+            removeDeleted(USER_TYPE, userIds);
+            return newHighWaterMark;
+        }
+
+        private void removeDeleted(String type, Set<String> existingIds) throws TechnicalException {
+            if (!rebuild) {
+                for (String id : searchEngineIndexer.findIds(type)) {
+                    if (!existingIds.contains(id)) {
+                        searchEngineIndexer.remove(type, id);
+                    }
+                }
+            }
+        }
+
+        private ApiEntity findApi(String apiId) {
+            try {
+                return apiService.findById(apiId);
+            } catch (AbstractNotFoundException nfe) {
+                // deleted in the meantime
+                return null;
+            }
+        }
+
+        private List<PageEntity> transformPages(List<PageEntity> pages) {
+            return pages.stream()
+                    .filter(page -> {
+                        try {
+                            pageService.transformSwagger(page, ((ApiPageEntity) page).getApi());
+                            return true;
+                        } catch (Exception ignored) {
+                            return false;
+                        }
+                    })
+                    .collect(Collectors.toList());
+        }
+
+        private void submit(Supplier<Collection<? extends Indexable>> batch) {
+            batches.add(executor.submit(() -> {
+                // the batch may be run by the reading thread, so restore its context afterwards
+                final String previousEnvironment = GraviteeContext.getCurrentEnvironment();
+                final String previousOrganization = GraviteeContext.getCurrentOrganization();
+                GraviteeContext.setCurrentEnvironment(environment);
+                GraviteeContext.setCurrentOrganization(organization);
                 try {
-                    if (!PageType.FOLDER.name().equals(page.getType())
-                            && !PageType.ROOT.name().equals(page.getType())
-                            && !PageType.SYSTEM_FOLDER.name().equals(page.getType())
-                            && !PageType.LINK.name().equals(page.getType())) {
-                        pageService.transformSwagger(page, apiEntity.getId());
-                        searchEngineService.index(page, true);
+                    if (rebuild) {
+                        searchEngineService.index(batch.get());
+                    } else {
+                        searchEngineService.reindex(batch.get());
                     }
-                } catch (Exception ignored) {}
-            });
-        });
-
-        // Index users
-        Page<UserEntity> users = userService.search(
-                new UserCriteria.Builder().statuses(UserStatus.ACTIVE).build(),
-                new PageableImpl(1, Integer.MAX_VALUE));
-        users.getContent().forEach(userEntity ->
-                searchEngineService.index(userEntity, true)
-        );
+                } finally {
+                    GraviteeContext.setCurrentEnvironment(previousEnvironment);
+                    GraviteeContext.setCurrentOrganization(previousOrganization);
+                }
+            }));
+        }
 
-        return true;
+        private void await() throws InterruptedException, ExecutionException {
+            for (Future<?> batch : batches) {
+                batch.get();
+            }
+        }
+
+        private long highWaterMark(String type) {
+            final String highWaterMark = highWaterMarks.get(type);
+            return highWaterMark == null ? 0 : Long.parseLong(highWaterMark);
+        }
+
+        private boolean isUpdated(Date updatedAt, long highWaterMark) {
+            return rebuild || updatedAt == null || updatedAt.getTime() >= highWaterMark - HIGH_WATER_MARK_OVERLAP;
+        }
+
+        private long max(long highWaterMark, Date updatedAt) {
+            return updatedAt == null ? highWaterMark : Math.max(highWaterMark, updatedAt.getTime());
+        }
+    }
+
+    private <T> List<List<T>> partition(Collection<T> elements) {
+        final List<List<T>> batches = new ArrayList<>();
+        List<T> batch = new ArrayList<>(batchSize);
+        for (T element : elements) {
+            batch.add(element);
+            if (batch.size() == batchSize) {
+                batches.add(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
     }
 
     @Override
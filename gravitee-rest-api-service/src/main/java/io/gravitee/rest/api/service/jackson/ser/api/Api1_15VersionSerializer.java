@@ -24,7 +24,6 @@ import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.service.MembershipService;
 import io.gravitee.rest.api.service.PlanService;
-import io.gravitee.rest.api.service.UserService;
 
 import java.io.IOException;
 import java.util.*;
@@ -86,10 +85,11 @@ public class Api1_15VersionSerializer extends ApiSerializer {
         // members
         if (!filteredFieldsList.contains("members")) {
             Set<MemberEntity> memberEntities = applicationContext.getBean(MembershipService.class).getMembersByReference(MembershipReferenceType.API, apiEntity.getId());
+            Map<String, UserEntity> users = findMemberUsers(memberEntities);
             List<Member> members = (memberEntities == null ? Collections.emptyList() : new ArrayList<>(memberEntities.size()));
             if (memberEntities != null && !memberEntities.isEmpty()) {
                 memberEntities.forEach(m -> {
-                    UserEntity userEntity = applicationContext.getBean(UserService.class).findById(m.getId());
+                    UserEntity userEntity = users.get(m.getId());
                     if (userEntity != null) {
                         Member member = new Member();
                         member.setUsername(getUsernameFromSourceId(userEntity.getSourceId()));
@@ -22,7 +22,6 @@ import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.service.MembershipService;
 import io.gravitee.rest.api.service.PlanService;
-import io.gravitee.rest.api.service.UserService;
 import io.gravitee.rest.api.service.jackson.ser.api.ApiSerializer.Member;
 
 import java.io.IOException;
@@ -123,10 +122,11 @@ public class Api1_25VersionSerializer extends ApiSerializer {
         // members
         if (!filteredFieldsList.contains("members")) {
             Set<MemberEntity> memberEntities = applicationContext.getBean(MembershipService.class).getMembersByReference(MembershipReferenceType.API, apiEntity.getId());
+            Map<String, UserEntity> users = findMemberUsers(memberEntities);
             List<Member> members = new ArrayList<>(memberEntities == null ? 0 : memberEntities.size());
             if (memberEntities != null) {
                 memberEntities.forEach(m -> {
-                    UserEntity userEntity = applicationContext.getBean(UserService.class).findById(m.getId());
+                    UserEntity userEntity = users.get(m.getId());
                     if (userEntity != null) {
                         Member member = new Member();
                         member.setRole(m.getRoles().get(0).getName());
@@ -24,6 +24,7 @@ import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.documentation.PageQuery;
 import io.gravitee.rest.api.service.*;
+import io.gravitee.rest.api.service.exceptions.UserNotFoundException;
 import org.springframework.context.ApplicationContext;
 
 import javax.print.attribute.standard.Media;
@@ -34,6 +35,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -137,10 +139,11 @@ public abstract class ApiSerializer extends StdSerializer<ApiEntity> {
             // members
             if (!filteredFieldsList.contains("members")) {
                 Set<MemberEntity> memberEntities = applicationContext.getBean(MembershipService.class).getMembersByReference(MembershipReferenceType.API, apiEntity.getId());
+                Map<String, UserEntity> users = findMemberUsers(memberEntities);
                 List<Member> members = new ArrayList<>(memberEntities == null ? 0 : memberEntities.size());
                 if (memberEntities != null) {
                     memberEntities.forEach(m -> {
-                        UserEntity userEntity = applicationContext.getBean(UserService.class).findById(m.getId());
+                        UserEntity userEntity = users.get(m.getId());
                         if (userEntity != null) {
                             Member member = new Member();
                             member.setRoles(m.getRoles().stream().map(RoleEntity::getId).collect(Collectors.toList()));
@@ -187,6 +190,23 @@ public abstract class ApiSerializer extends StdSerializer<ApiEntity> {
         }
     }
 
+    /**
+     * Users of the members, by id, read with one query.
+     */
+    protected Map<String, UserEntity> findMemberUsers(Set<MemberEntity> memberEntities) {
+        if (memberEntities == null || memberEntities.isEmpty()) {
+            return emptyMap();
+        }
+        List<String> userIds = memberEntities.stream().map(MemberEntity::getId).distinct().collect(Collectors.toList());
+        try {
+            return applicationContext.getBean(UserService.class).findByIds(userIds, false)
+                    .stream()
+                    .collect(Collectors.toMap(UserEntity::getId, userEntity -> userEntity, (u1, u2) -> u1));
+        } catch (UserNotFoundException unfe) {
+            return emptyMap();
+        }
+    }
+
     public enum Version {
         DEFAULT("default"), V_1_15("1.15"), V_1_20("1.20"), V_1_25("1.25"), V_3_0("3.0");
         private final String version;
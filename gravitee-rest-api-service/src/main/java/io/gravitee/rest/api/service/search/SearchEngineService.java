@@ -32,6 +32,19 @@ public interface SearchEngineService {
 
     void delete(Indexable source, boolean locally);
 
+    /**
+     * Indexes locally a batch of sources which are not yet part of the index (ie. when rebuilding it).
+     * Indexed documents are not committed: the caller commits the index once all its batches are indexed.
+     *
+     * @throws io.gravitee.rest.api.service.exceptions.TechnicalManagementException if the batch could not be indexed
+     */
+    void index(Collection<? extends Indexable> sources);
+
+    /**
+     * Same as {@link #index(Collection)} for sources which may already be part of the index.
+     */
+    void reindex(Collection<? extends Indexable> sources);
+
     SearchResult search(Query<? extends Indexable> query);
 
     void process(CommandSearchIndexerEntity content);
@@ -0,0 +1,167 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.repository.analytics.AnalyticsException;
+import io.gravitee.rest.api.model.analytics.Bucket;
+import io.gravitee.rest.api.model.analytics.HistogramAnalytics;
+import io.gravitee.rest.api.model.analytics.Timestamp;
+import io.gravitee.rest.api.model.analytics.query.DateHistogramQuery;
+import io.gravitee.rest.api.model.analytics.query.StatsQuery;
+import io.gravitee.rest.api.service.impl.AnalyticsQueryCache;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class AnalyticsQueryCacheTest {
+
+    private static final long MINUTE = 60_000;
+    private static final long HOUR = 60 * MINUTE;
+
+    private final AnalyticsQueryCache analyticsQueryCache = new AnalyticsQueryCache();
+
+    @Before
+    public void init() {
+        setField(analyticsQueryCache, "enabled", true);
+        setField(analyticsQueryCache, "maxSize", 100L);
+        setField(analyticsQueryCache, "openTtl", 10L);
+        setField(analyticsQueryCache, "closedTtl", 600L);
+        setField(analyticsQueryCache, "alignment", MINUTE);
+        analyticsQueryCache.afterPropertiesSet();
+    }
+
+    @Test
+    public void shouldShareResultOfQueriesInTheSameSlot() throws AnalyticsException {
+        AtomicInteger loads = new AtomicInteger();
+
+        String first = analyticsQueryCache.get(statsQuery(HOUR + 1_000, 2 * HOUR + 1_000), "response-time",
+                (from, to) -> from + "-" + to + "#" + loads.incrementAndGet());
+        // same dashboard, displayed a few seconds later by another user
+        String second = analyticsQueryCache.get(statsQuery(HOUR + 5_000, 2 * HOUR + 5_000), "response-time",
+                (from, to) -> from + "-" + to + "#" + loads.incrementAndGet());
+
+        // the first query is sent for its exact range
+        assertEquals((HOUR + 1_000) + "-" + (2 * HOUR + 1_000) + "#1", first);
+        assertEquals(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void shouldMergeClosedHistogramBuckets() throws AnalyticsException {
+        List<String> loads = new ArrayList<>();
+
+        HistogramAnalytics first = analyticsQueryCache.getHistogram(
+                histogramQuery(10 * HOUR + 5 * MINUTE, 13 * HOUR + 5 * MINUTE), "", (from, to) -> histogram(loads, from, to));
+        // the same dashboard, one hour later
+        HistogramAnalytics second = analyticsQueryCache.getHistogram(
+                histogramQuery(11 * HOUR + 5 * MINUTE, 14 * HOUR + 5 * MINUTE), "", (from, to) -> histogram(loads, from, to));
+
+        assertEquals(Arrays.asList(
+                (10 * HOUR + 5 * MINUTE) + "-" + (13 * HOUR + 5 * MINUTE),
+                // the partial first bucket and the buckets not over yet are the only ones queried again
+                (11 * HOUR + 5 * MINUTE) + "-" + 12 * HOUR,
+                13 * HOUR + "-" + (14 * HOUR + 5 * MINUTE)), loads);
+
+        assertEquals(Long.valueOf(10 * HOUR), first.getTimestamp().getFrom());
+        assertArrayEquals(new Number[]{10L, 11L, 12L, 13L}, first.getValues().get(0).getBuckets().get(0).getData());
+        assertEquals(Long.valueOf(11 * HOUR), second.getTimestamp().getFrom());
+        assertEquals(Long.valueOf(14 * HOUR), second.getTimestamp().getTo());
+        assertEquals(Long.valueOf(HOUR), second.getTimestamp().getInterval());
+        Bucket byStatus = second.getValues().get(0);
+        assertEquals("by_status", byStatus.getName());
+        assertEquals("status", byStatus.getField());
+        assertEquals("200", byStatus.getBuckets().get(0).getName());
+        assertArrayEquals(new Number[]{11L, 12L, 13L, 14L}, byStatus.getBuckets().get(0).getData());
+    }
+
+    @Test
+    public void shouldNotShareResultOfDifferentQueries() throws AnalyticsException {
+        AtomicInteger loads = new AtomicInteger();
+        StatsQuery query = statsQuery(HOUR, 2 * HOUR);
+
+        analyticsQueryCache.get(query, "response-time", (from, to) -> loads.incrementAndGet());
+        analyticsQueryCache.get(query, "response-time", (from, to) -> loads.incrementAndGet());
+        analyticsQueryCache.get(query, "api-response-time", (from, to) -> loads.incrementAndGet());
+        query.setRootIdentifier("another-api");
+        analyticsQueryCache.get(query, "response-time", (from, to) -> loads.incrementAndGet());
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test(expected = AnalyticsException.class)
+    public void shouldRethrowAnalyticsException() throws AnalyticsException {
+        analyticsQueryCache.get(statsQuery(HOUR, 2 * HOUR), "response-time", (from, to) -> {
+            throw new AnalyticsException("unavailable");
+        });
+    }
+
+    private DateHistogramQuery histogramQuery(long from, long to) {
+        DateHistogramQuery query = new DateHistogramQuery();
+        query.setFrom(from);
+        query.setTo(to);
+        query.setInterval(HOUR);
+        return query;
+    }
+
+    /**
+     * One bucket per hour of the range, whose value is the hour.
+     */
+    private HistogramAnalytics histogram(List<String> loads, long from, long to) {
+        loads.add(from + "-" + to);
+        long first = (from / HOUR) * HOUR;
+        long last = ((to - 1) / HOUR) * HOUR;
+
+        Number[] data = new Number[(int) ((last - first) / HOUR) + 1];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = first / HOUR + i;
+        }
+        Bucket status = new Bucket();
+        status.setName("200");
+        status.setData(data);
+        Bucket byStatus = new Bucket();
+        byStatus.setName("by_status");
+        byStatus.setField("status");
+        byStatus.setBuckets(Collections.singletonList(status));
+
+        HistogramAnalytics histogram = new HistogramAnalytics();
+        histogram.setTimestamp(new Timestamp(first, last, HOUR));
+        histogram.setValues(Collections.singletonList(byStatus));
+        return histogram;
+    }
+
+    private StatsQuery statsQuery(long from, long to) {
+        StatsQuery query = new StatsQuery();
+        query.setFrom(from);
+        query.setTo(to);
+        query.setInterval(12 * HOUR);
+        query.setRootField("api");
+        query.setRootIdentifier("my-api");
+        query.setField("response-time");
+        return query;
+    }
+}
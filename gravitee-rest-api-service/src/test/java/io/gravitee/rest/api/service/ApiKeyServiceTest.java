@@ -34,10 +34,12 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.Assert.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
@@ -451,4 +453,21 @@ public class ApiKeyServiceTest {
         verify(auditService, times(1))
                 .createApiAuditLog(any(), any(), eq(ApiKey.AuditEvent.APIKEY_EXPIRED), any(), any(), any());
     }
+
+    @Test
+    public void shouldFindBySubscriptions() throws TechnicalException {
+        ApiKey otherApiKey = new ApiKey();
+        otherApiKey.setKey("other-key");
+        otherApiKey.setSubscription("other-subscription");
+        when(apiKey.getKey()).thenReturn(API_KEY);
+        when(apiKeyRepository.findBySubscription(SUBSCRIPTION_ID)).thenReturn(Collections.singleton(apiKey));
+        when(apiKeyRepository.findBySubscription("other-subscription")).thenReturn(Collections.singleton(otherApiKey));
+
+        Map<String, Set<ApiKeyEntity>> keys = apiKeyService.findBySubscriptions(Arrays.asList(SUBSCRIPTION_ID, "other-subscription"));
+
+        assertEquals(2, keys.size());
+        assertEquals(API_KEY, keys.get(SUBSCRIPTION_ID).iterator().next().getKey());
+        assertEquals("other-key", keys.get("other-subscription").iterator().next().getKey());
+        verify(subscriptionService, never()).findById(any());
+    }
 }
@@ -22,6 +22,7 @@ import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.api.NewApiEntity;
 import io.gravitee.rest.api.service.exceptions.ApiAlreadyExistsException;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import io.gravitee.rest.api.service.impl.ApiVisibilityIndex;
 import io.gravitee.rest.api.service.impl.ApiServiceImpl;
 import io.gravitee.rest.api.service.search.SearchEngineService;
 import io.gravitee.repository.exceptions.TechnicalException;
@@ -100,6 +101,8 @@ public class ApiService_CreateTest {
 
     @Mock
     private AlertService alertService;
+    @Mock
+    private ApiVisibilityIndex apiVisibilityIndex;
 
     @Before
     public void init() {
@@ -22,6 +22,7 @@ import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.permissions.RoleScope;
 import io.gravitee.rest.api.model.permissions.SystemRole;
+import io.gravitee.rest.api.service.impl.ApiVisibilityIndex;
 import io.gravitee.rest.api.service.impl.ApiServiceImpl;
 import io.gravitee.rest.api.service.search.SearchEngineService;
 import io.gravitee.repository.exceptions.TechnicalException;
@@ -32,6 +33,7 @@ import io.gravitee.rest.api.service.spring.ServiceConfiguration;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
@@ -46,6 +48,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -77,6 +80,8 @@ public class ApiService_CreateWithDefinitionTest {
     @Mock
     private PageService pageService;
     @Mock
+    private MediaService mediaService;
+    @Mock
     private UserService userService;
     @Mock
     private PlanService planService;
@@ -100,6 +105,8 @@ public class ApiService_CreateWithDefinitionTest {
     private ApiMetadataService apiMetadataService;
     @Mock
     private AlertService alertService;
+    @Mock
+    private ApiVisibilityIndex apiVisibilityIndex;
     @Spy
     private PolicyService policyService;
 
@@ -157,7 +164,7 @@ public class ApiService_CreateWithDefinitionTest {
         when(membershipService.addRoleToMemberOnReference(any(), any(), any())).thenReturn(memberEntity);
         when(membershipService.addRoleToMemberOnReference(any(), any(), any())).thenReturn(memberEntity);
         when(userService.findBySource(user.getSource(), user.getSourceId(), false)).thenReturn(user);
-        when(userService.findById(memberEntity.getId())).thenReturn(admin);
+        when(userService.findByIds(Collections.singletonList(memberEntity.getId()), false)).thenReturn(Collections.singleton(admin));
 
         apiService.createWithImportedDefinition(null, toBeImport, "admin");
 
@@ -218,6 +225,7 @@ public class ApiService_CreateWithDefinitionTest {
         memberEntity.setId(admin.getId());
         memberEntity.setRoles(Collections.singletonList(poRoleEntity));
         when(membershipService.addRoleToMemberOnReference(any(), any(), any())).thenReturn(memberEntity);
+        when(userService.findByIds(Collections.singletonList(admin.getId()), false)).thenReturn(Collections.singleton(admin));
 
         apiService.createWithImportedDefinition(null, toBeImport, "admin");
 
@@ -371,4 +379,27 @@ public class ApiService_CreateWithDefinitionTest {
         verify(apiRepository, times(1)).create(any());
         verify(genericNotificationConfigService, times(1)).create(any());
     }
+
+    @Test
+    public void shouldCreateImportApiWithMedia() throws IOException, TechnicalException {
+        URL url =  Resources.getResource("io/gravitee/rest/api/management/service/import-api.definition+media.json");
+        String toBeImport = Resources.toString(url, Charsets.UTF_8);
+        Api api = new Api();
+        api.setId(API_ID);
+        when(apiRepository.findById(anyString())).thenReturn(Optional.empty());
+        when(apiRepository.create(any())).thenReturn(api);
+        UserEntity admin = new UserEntity();
+        admin.setId("admin");
+        admin.setSource(SOURCE);
+        admin.setSourceId(API_ID);
+        when(userService.findById(admin.getId())).thenReturn(admin);
+
+        apiService.createWithImportedDefinition(null, toBeImport, "admin");
+
+        ArgumentCaptor<String> mediaCaptor = ArgumentCaptor.forClass(String.class);
+        verify(mediaService, times(2)).createWithDefinition(eq(API_ID), mediaCaptor.capture());
+        assertTrue(mediaCaptor.getAllValues().get(0).contains("logo.png"));
+        assertTrue(mediaCaptor.getAllValues().get(1).contains("background.jpg"));
+        verify(apiRepository, times(1)).create(argThat(created -> "test".equals(created.getName())));
+    }
 }
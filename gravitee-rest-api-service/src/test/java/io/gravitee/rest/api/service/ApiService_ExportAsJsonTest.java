@@ -46,14 +46,15 @@ import org.mockito.internal.util.collections.Sets;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ApplicationContext;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URL;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.eq;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
 
 /**
  * @author Azize Elamrani (azize.elamrani at graviteesource.com)
@@ -197,7 +198,7 @@ public class ApiService_ExportAsJsonTest {
         userEntity.setId(memberEntity.getId());
         userEntity.setSource(userEntity.getId() + "-source");
         userEntity.setSourceId(userEntity.getId() + "-sourceId");
-        when(userService.findById(memberEntity.getId())).thenReturn(userEntity);
+        when(userService.findByIds(Collections.singletonList(memberEntity.getId()), false)).thenReturn(Collections.singleton(userEntity));
 
         api.setGroups(Collections.singleton("my-group"));
         GroupEntity groupEntity = new GroupEntity();
@@ -281,6 +282,20 @@ public class ApiService_ExportAsJsonTest {
         shouldConvertAsJsonForExport(ApiSerializer.Version.V_1_25, "1_25");
     }
 
+    @Test
+    public void shouldStreamJsonForExport() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        apiService.exportAsJson(API_ID, ApiSerializer.Version.V_1_25.getVersion(), outputStream, SystemRole.PRIMARY_OWNER.name());
+
+        URL url = Resources.getResource("io/gravitee/rest/api/management/service/export-convertAsJsonForExport-1_25.json");
+        String expectedJson = Resources.toString(url, Charsets.UTF_8);
+
+        assertThat(objectMapper.readTree(expectedJson)).isEqualTo(objectMapper.readTree(outputStream.toByteArray()));
+        // members of both the common and the versioned part are resolved with a single query each
+        verify(userService, times(2)).findByIds(anyList(), eq(false));
+        verify(userService, never()).findById(any());
+    }
+
     @Test
     public void shouldConvertAsJsonWithoutMembers() throws IOException {
         shouldConvertAsJsonWithoutMembers(ApiSerializer.Version.DEFAULT, null);
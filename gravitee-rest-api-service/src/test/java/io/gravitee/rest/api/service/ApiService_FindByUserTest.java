@@ -19,14 +19,23 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ser.PropertyFilter;
 import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
 import io.gravitee.definition.jackson.datatype.GraviteeMapper;
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.ApiRepository;
 import io.gravitee.repository.management.api.search.ApiCriteria;
+import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
+import io.gravitee.repository.management.api.search.Pageable;
 import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.ApiLifecycleState;
+import io.gravitee.repository.management.model.Visibility;
+import io.gravitee.repository.management.model.Workflow;
 import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.application.ApplicationListItem;
+import io.gravitee.rest.api.model.common.PageableImpl;
+import io.gravitee.rest.api.model.parameters.Key;
 import io.gravitee.rest.api.service.impl.ApiServiceImpl;
+import io.gravitee.rest.api.service.impl.ApiVisibilityIndex;
 import io.gravitee.rest.api.service.jackson.filter.ApiPermissionFilter;
 import org.junit.Before;
 import org.junit.Test;
@@ -38,9 +47,14 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.*;
 
+import static io.gravitee.rest.api.model.WorkflowReferenceType.API;
+import static io.gravitee.rest.api.model.WorkflowType.REVIEW;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -81,6 +95,10 @@ public class ApiService_FindByUserTest {
     private ApplicationService applicationService;
     @Mock
     private CategoryService categoryService;
+    @Mock
+    private WorkflowService workflowService;
+    @Spy
+    private ApiVisibilityIndex apiVisibilityIndex = new ApiVisibilityIndex();
 
     @Before
     public void setUp() {
@@ -143,4 +161,137 @@ public class ApiService_FindByUserTest {
         verify(applicationService, times(0)).findByUser(null);
 
     }
+
+    @Test
+    public void shouldFindByUserWithReviewWorkflowsLoadedOnce() throws TechnicalException {
+        when(api.getId()).thenReturn(API_ID);
+        when(apiRepository.search(new ApiCriteria.Builder().environmentId("DEFAULT").ids(API_ID).build())).thenReturn(singletonList(api));
+
+        MembershipEntity membership = new MembershipEntity();
+        membership.setId("id");
+        membership.setMemberId(USER_NAME);
+        membership.setMemberType(MembershipMemberType.USER);
+        membership.setReferenceId(API_ID);
+        membership.setReferenceType(MembershipReferenceType.API);
+        membership.setRoleId("API_USER");
+        when(membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, USER_NAME, MembershipReferenceType.API)).thenReturn(Collections.singleton(membership));
+
+        RoleEntity poRole = new RoleEntity();
+        poRole.setId("API_PRIMARY_OWNER");
+        when(roleService.findByScopeAndName(any(), any())).thenReturn(Optional.of(poRole));
+
+        MemberEntity poMember = new MemberEntity();
+        poMember.setId("admin");
+        poMember.setReferenceId(API_ID);
+        poMember.setRoles(Collections.singletonList(poRole));
+        when(membershipService.getMembersByReferencesAndRole(MembershipReferenceType.API, Collections.singletonList(API_ID), "API_PRIMARY_OWNER")).thenReturn(new HashSet(Arrays.asList(poMember)));
+
+        Workflow workflow = new Workflow();
+        workflow.setState(WorkflowState.IN_REVIEW.name());
+        when(parameterService.findAsBoolean(Key.API_REVIEW_ENABLED)).thenReturn(true);
+        when(workflowService.findByReferencesAndType(API, singletonList(API_ID), REVIEW)).thenReturn(singletonMap(API_ID, singletonList(workflow)));
+
+        final Set<ApiEntity> apiEntities = apiService.findByUser(USER_NAME, null, false);
+
+        assertEquals(1, apiEntities.size());
+        assertEquals(WorkflowState.IN_REVIEW, apiEntities.iterator().next().getWorkflowState());
+        verify(workflowService, never()).findByReferenceAndType(any(), any(), any());
+    }
+
+    @Test
+    public void shouldFindByUserFromVisibilityIndex() throws TechnicalException {
+        when(api.getId()).thenReturn(API_ID);
+        when(apiRepository.search(new ApiCriteria.Builder().environmentId("DEFAULT").ids(API_ID).build())).thenReturn(singletonList(api));
+
+        MembershipEntity membership = new MembershipEntity();
+        membership.setId("id");
+        membership.setMemberId(USER_NAME);
+        membership.setMemberType(MembershipMemberType.USER);
+        membership.setReferenceId(API_ID);
+        membership.setReferenceType(MembershipReferenceType.API);
+        membership.setRoleId("API_USER");
+        when(membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, USER_NAME, MembershipReferenceType.API)).thenReturn(Collections.singleton(membership));
+
+        RoleEntity poRole = new RoleEntity();
+        poRole.setId("API_PRIMARY_OWNER");
+        when(roleService.findByScopeAndName(any(), any())).thenReturn(Optional.of(poRole));
+
+        MemberEntity poMember = new MemberEntity();
+        poMember.setId("admin");
+        poMember.setReferenceId(API_ID);
+        poMember.setRoles(Collections.singletonList(poRole));
+        when(membershipService.getMembersByReferencesAndRole(MembershipReferenceType.API, Collections.singletonList(API_ID), "API_PRIMARY_OWNER")).thenReturn(new HashSet(Arrays.asList(poMember)));
+
+        apiService.findByUser(USER_NAME, null, false);
+        final Set<ApiEntity> apiEntities = apiService.findByUser(USER_NAME, null, false);
+
+        assertEquals(1, apiEntities.size());
+        verify(membershipService, times(1)).getMembershipsByMemberAndReference(MembershipMemberType.USER, USER_NAME, MembershipReferenceType.API);
+        verify(applicationService, times(1)).findByUser(USER_NAME);
+        verify(apiRepository, times(2)).search(any());
+    }
+
+    @Test
+    public void shouldFindPublishedLightByUserWithoutDefinition() throws TechnicalException {
+        when(apiRepository.search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class))).thenReturn(singletonList(api));
+        RoleEntity poRole = new RoleEntity();
+        poRole.setId("API_PRIMARY_OWNER");
+        when(roleService.findByScopeAndName(any(), any())).thenReturn(Optional.of(poRole));
+
+        apiService.findPublishedLightByUser(null, null);
+
+        verify(apiRepository).search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class));
+        verify(apiRepository, never()).search(any(ApiCriteria.class));
+    }
+
+    @Test
+    public void shouldFindPublishedLightPageByUserFromRepository() throws TechnicalException {
+        final ApiCriteria publicCriteria = new ApiCriteria.Builder().environmentId("DEFAULT")
+                .lifecycleStates(singletonList(ApiLifecycleState.PUBLISHED)).visibility(Visibility.PUBLIC).build();
+        final ApiCriteria privateCriteria = new ApiCriteria.Builder().environmentId("DEFAULT")
+                .lifecycleStates(singletonList(ApiLifecycleState.PUBLISHED)).ids("b").visibility(Visibility.PRIVATE).build();
+        when(apiRepository.search(eq(publicCriteria), any(Pageable.class)))
+                .thenReturn(new Page<>(Arrays.asList(api("a"), api("c")), 0, 2, 10));
+        when(apiRepository.search(eq(privateCriteria), any(Pageable.class)))
+                .thenReturn(new Page<>(singletonList(api("b")), 0, 1, 1));
+
+        MembershipEntity membership = new MembershipEntity();
+        membership.setMemberId(USER_NAME);
+        membership.setReferenceId("b");
+        when(membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, USER_NAME, MembershipReferenceType.API))
+                .thenReturn(Collections.singleton(membership));
+
+        RoleEntity poRole = new RoleEntity();
+        poRole.setId("API_PRIMARY_OWNER");
+        when(roleService.findByScopeAndName(any(), any())).thenReturn(Optional.of(poRole));
+        final Set<MemberEntity> poMembers = new HashSet<>();
+        for (String apiId : Arrays.asList("a", "b")) {
+            MemberEntity poMember = new MemberEntity();
+            poMember.setId("admin");
+            poMember.setReferenceId(apiId);
+            poMembers.add(poMember);
+        }
+        when(membershipService.getMembersByReferencesAndRole(MembershipReferenceType.API, Arrays.asList("a", "b"), "API_PRIMARY_OWNER"))
+                .thenReturn(poMembers);
+
+        final Page<ApiEntity> apis = apiService.findPublishedLightByUser(USER_NAME, null, new PageableImpl(1, 2));
+
+        assertEquals(11, apis.getTotalElements());
+        assertEquals(2, apis.getContent().size());
+        assertEquals("a", apis.getContent().get(0).getId());
+        assertEquals("b", apis.getContent().get(1).getId());
+        // only the first rows of the requested page are read
+        verify(apiRepository, times(2)).search(any(ApiCriteria.class), argThat((Pageable pageable) -> pageable != null
+                && pageable.pageNumber() == 0 && pageable.pageSize() == 2));
+        verify(apiRepository, never()).search(any(ApiCriteria.class));
+        verify(apiRepository, never()).search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class));
+    }
+
+    private Api api(String id) {
+        Api api = new Api();
+        api.setId(id);
+        api.setName(id);
+        api.setVisibility(Visibility.PUBLIC);
+        return api;
+    }
 }
@@ -35,6 +35,8 @@ import io.gravitee.rest.api.model.parameters.Key;
 import io.gravitee.rest.api.model.permissions.RoleScope;
 import io.gravitee.rest.api.model.permissions.SystemRole;
 import io.gravitee.rest.api.service.exceptions.*;
+import io.gravitee.rest.api.service.impl.ApiVisibilityIndex;
+import io.gravitee.rest.api.service.impl.MemberPermissionsCache;
 import io.gravitee.rest.api.service.impl.ApiServiceImpl;
 import io.gravitee.rest.api.service.jackson.filter.ApiPermissionFilter;
 import io.gravitee.rest.api.service.search.SearchEngineService;
@@ -109,6 +111,11 @@ public class ApiService_UpdateTest {
     private CategoryService categoryService;
     @Mock
     private PolicyService policyService;
+    @Mock
+    private ApiVisibilityIndex apiVisibilityIndex;
+
+    @Mock
+    private MemberPermissionsCache memberPermissionsCache;
 
     @Before
     public void setUp() {
@@ -23,6 +23,8 @@ import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.permissions.RoleScope;
 import io.gravitee.rest.api.model.permissions.SystemRole;
+import io.gravitee.rest.api.service.impl.ApiVisibilityIndex;
+import io.gravitee.rest.api.service.impl.MemberPermissionsCache;
 import io.gravitee.rest.api.service.impl.ApiServiceImpl;
 import io.gravitee.rest.api.service.search.SearchEngineService;
 import io.gravitee.repository.exceptions.TechnicalException;
@@ -48,6 +50,7 @@ import java.util.HashSet;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -96,6 +99,11 @@ public class ApiService_UpdateWithDefinitionTest {
     private CategoryService categoryService;
     @Mock
     private PolicyService policyService;
+    @Mock
+    private ApiVisibilityIndex apiVisibilityIndex;
+
+    @Mock
+    private MemberPermissionsCache memberPermissionsCache;
 
     @Before
     public void init() {
@@ -151,7 +159,7 @@ public class ApiService_UpdateWithDefinitionTest {
         user.setId(owner.getId());
         user.setSource(SOURCE);
         user.setSourceId(owner.getReferenceId());
-        when(userService.findById(admin.getId())).thenReturn(admin);
+        when(userService.findByIds(Collections.singletonList(admin.getId()), false)).thenReturn(Collections.singleton(admin));
         PageEntity existingPage = mock(PageEntity.class);
         when(pageService.findById(anyString())).thenReturn(existingPage);
 
@@ -235,7 +243,7 @@ public class ApiService_UpdateWithDefinitionTest {
 
         when(membershipService.getMembersByReference(MembershipReferenceType.API, API_ID)).thenReturn(new HashSet(Arrays.asList(po)));
         when(membershipService.getMembersByReferencesAndRole(MembershipReferenceType.API, Collections.singletonList(API_ID), "API_PRIMARY_OWNER")).thenReturn(new HashSet(Arrays.asList(po)));
-        when(userService.findById(admin.getId())).thenReturn(admin);
+        when(userService.findByIds(Collections.singletonList(admin.getId()), false)).thenReturn(Collections.singleton(admin));
 
         apiService.updateWithImportedDefinition(apiEntity, toBeImport, "import");
 
@@ -261,8 +269,7 @@ public class ApiService_UpdateWithDefinitionTest {
         RoleEntity ownerRoleEntity = new RoleEntity();
         ownerRoleEntity.setId("API_OWNER");
 
-        when(userService.findById(admin.getId())).thenReturn(admin);
-        when(userService.findById(user.getId())).thenReturn(user);
+        when(userService.findByIds(anyList(), eq(false))).thenReturn(new HashSet<>(Arrays.asList(admin, user)));
 
         apiService.updateWithImportedDefinition(apiEntity, toBeImport, "import");
 
@@ -293,8 +300,7 @@ public class ApiService_UpdateWithDefinitionTest {
         ownerRoleEntity.setId("API_OWNER");
 
 
-        when(userService.findById(admin.getId())).thenReturn(admin);
-        when(userService.findById(user.getId())).thenReturn(user);
+        when(userService.findByIds(anyList(), eq(false))).thenReturn(new HashSet<>(Arrays.asList(admin, user)));
 
         apiService.updateWithImportedDefinition(apiEntity, toBeImport, "import");
 
@@ -30,6 +30,8 @@ import io.gravitee.rest.api.model.api.UpdateApiEntity;
 import io.gravitee.rest.api.model.parameters.Key;
 import io.gravitee.rest.api.model.permissions.RoleScope;
 import io.gravitee.rest.api.model.permissions.SystemRole;
+import io.gravitee.rest.api.service.impl.ApiVisibilityIndex;
+import io.gravitee.rest.api.service.impl.MemberPermissionsCache;
 import io.gravitee.rest.api.service.impl.ApiServiceImpl;
 import io.gravitee.rest.api.service.jackson.filter.ApiPermissionFilter;
 import io.gravitee.rest.api.service.search.SearchEngineService;
@@ -107,6 +109,11 @@ public class ApiService_Update_DefaultLoggingMaxDurationTest {
 
     @Mock
     private VirtualHostService virtualHostService;
+    @Mock
+    private ApiVisibilityIndex apiVisibilityIndex;
+
+    @Mock
+    private MemberPermissionsCache memberPermissionsCache;
 
     @Before
     public void setUp()  throws TechnicalException {
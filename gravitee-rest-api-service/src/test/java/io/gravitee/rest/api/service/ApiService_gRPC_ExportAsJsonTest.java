@@ -204,7 +204,7 @@ public class ApiService_gRPC_ExportAsJsonTest {
         userEntity.setId(memberEntity.getId());
         userEntity.setSource(userEntity.getId() + "-source");
         userEntity.setSourceId(userEntity.getId() + "-sourceId");
-        when(userService.findById(memberEntity.getId())).thenReturn(userEntity);
+        when(userService.findByIds(Collections.singletonList(memberEntity.getId()), false)).thenReturn(Collections.singleton(userEntity));
 
         api.setGroups(Collections.singleton("my-group"));
         GroupEntity groupEntity = new GroupEntity();
@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.rest.api.service.impl.ApiVisibilityIndex;
+import io.gravitee.rest.api.service.impl.ApiVisibilityIndex.VisibleApis;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ApiVisibilityIndexTest {
+
+    @Mock
+    private CacheEvictionService cacheEvictionService;
+
+    private final ApiVisibilityIndex apiVisibilityIndex = new ApiVisibilityIndex();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Before
+    public void init() {
+        setField(apiVisibilityIndex, "cacheEvictionService", cacheEvictionService);
+    }
+
+    @Test
+    public void shouldOnlyReloadUsersOfTheSubscribedApplication() {
+        load("john", "group", "app-john");
+        load("jane", "group", "app-jane");
+
+        apiVisibilityIndex.invalidateApplication("app-john");
+
+        load("john", "group", "app-john");
+        load("jane", "group", "app-jane");
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void shouldOnlyReloadMembersOfTheGroup() {
+        load("john", "group-john", "app");
+        load("jane", "group-jane", "app");
+
+        apiVisibilityIndex.invalidateGroups(singleton("group-jane"));
+
+        load("john", "group-john", "app");
+        load("jane", "group-jane", "app");
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void shouldReloadUsersEvictedByAnotherNode() {
+        load("john", "group", "app-john");
+        load("jane", "group", "app-jane");
+
+        ApiVisibilityIndex otherNodeIndex = new ApiVisibilityIndex();
+        setField(otherNodeIndex, "cacheEvictionService", cacheEvictionService);
+        otherNodeIndex.invalidateApplication("app-jane");
+        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(cacheEvictionService).propagate(eq(otherNodeIndex.name()), keyCaptor.capture());
+
+        apiVisibilityIndex.evictLocally(keyCaptor.getValue());
+
+        load("john", "group", "app-john");
+        load("jane", "group", "app-jane");
+        assertEquals(3, loads.get());
+    }
+
+    private VisibleApis load(String userId, String group, String application) {
+        return apiVisibilityIndex.get(userId, () -> {
+            loads.incrementAndGet();
+            return new VisibleApis(emptySet(), emptySet(), singleton(group), singleton(application));
+        });
+    }
+}
@@ -27,6 +27,7 @@ import io.gravitee.rest.api.service.ApiKeyService;
 import io.gravitee.rest.api.service.AuditService;
 import io.gravitee.rest.api.service.SubscriptionService;
 import io.gravitee.rest.api.service.exceptions.ApplicationNotFoundException;
+import io.gravitee.rest.api.service.impl.ApiVisibilityIndex;
 import io.gravitee.rest.api.service.impl.ApplicationServiceImpl;
 
 import org.junit.Assert;
@@ -84,6 +85,9 @@ public class ApplicationService_ArchiveTest {
     @Mock
     private MembershipRepository membershipRepository;
 
+    @Mock
+    private ApiVisibilityIndex apiVisibilityIndex;
+
     @Test
     public void shouldArchive() throws TechnicalException {
         when(applicationRepository.findById(APPLICATION_ID)).thenReturn(Optional.of(application));
@@ -99,6 +103,7 @@ public class ApplicationService_ArchiveTest {
         verify(subscriptionService, times(1)).close("sub");
         verify(application, times(1)).setStatus(ApplicationStatus.ARCHIVED);
         verify(applicationRepository, times(1)).update(application);
+        verify(apiVisibilityIndex, times(1)).invalidateApplication(APPLICATION_ID);
     }
 
     @Test(expected = ApplicationNotFoundException.class)
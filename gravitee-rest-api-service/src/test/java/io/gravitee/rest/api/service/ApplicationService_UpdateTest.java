@@ -34,7 +34,9 @@ import io.gravitee.rest.api.service.configuration.application.ClientRegistration
 import io.gravitee.rest.api.service.exceptions.ApplicationNotFoundException;
 import io.gravitee.rest.api.service.exceptions.ClientIdAlreadyExistsException;
 import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import io.gravitee.rest.api.service.impl.ApiVisibilityIndex;
 import io.gravitee.rest.api.service.impl.ApplicationServiceImpl;
+import io.gravitee.rest.api.service.impl.MemberPermissionsCache;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -99,6 +101,12 @@ public class ApplicationService_UpdateTest {
     @Mock
     private ClientRegistrationService clientRegistrationService;
 
+    @Mock
+    private MemberPermissionsCache memberPermissionsCache;
+
+    @Mock
+    private ApiVisibilityIndex apiVisibilityIndex;
+
     @Test
     public void shouldUpdate() throws TechnicalException {
         ApplicationSettings settings = new ApplicationSettings();
@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.rest.api.idp.api.authentication.UserDetails;
+import io.gravitee.rest.api.model.UserEntity;
+import io.gravitee.rest.api.service.exceptions.UserNotFoundException;
+import io.gravitee.rest.api.service.impl.AuditServiceImpl;
+import io.gravitee.rest.api.service.impl.AuditWriter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.function.Supplier;
+
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AuditServiceTest {
+
+    private static final String USER = "user-id";
+    private static final String TOKEN = "token-id";
+
+    @InjectMocks
+    private AuditServiceImpl auditService = new AuditServiceImpl();
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private AuditWriter auditWriter;
+
+    @Spy
+    private ObjectMapper mapper = new ObjectMapper();
+
+    @Before
+    public void init() {
+        final UserDetails userDetails = new UserDetails(USER, "", emptyList());
+        userDetails.setSource("token");
+        userDetails.setSourceId(TOKEN);
+        final Authentication authentication = mock(Authentication.class);
+        when(authentication.getPrincipal()).thenReturn(userDetails);
+        final SecurityContext securityContext = mock(SecurityContext.class);
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        SecurityContextHolder.setContext(securityContext);
+    }
+
+    @After
+    public void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void shouldAuditDisplayNameOfTokenUser() {
+        final UserEntity user = new UserEntity();
+        user.setFirstname("John");
+        user.setLastname("Doe");
+        when(userService.findById(USER)).thenReturn(user);
+
+        assertEquals("John Doe - (using token \"" + TOKEN + "\")", auditedUser());
+    }
+
+    @Test
+    public void shouldAuditIdOfTokenUserWhenNotFound() {
+        when(userService.findById(USER)).thenThrow(new UserNotFoundException(USER));
+
+        assertEquals(USER + " - (using token \"" + TOKEN + "\")", auditedUser());
+    }
+
+    @SuppressWarnings("unchecked")
+    private String auditedUser() {
+        auditService.createApiAuditLog("api-id", null, Api.AuditEvent.API_UPDATED, null, null, null);
+
+        final ArgumentCaptor<Supplier<String>> user = ArgumentCaptor.forClass(Supplier.class);
+        verify(auditWriter).write(any(), user.capture(), any(), any());
+        // the display name is read by the audit writer
+        return user.getValue().get();
+    }
+}
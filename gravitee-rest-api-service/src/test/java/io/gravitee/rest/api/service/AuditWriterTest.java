@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.gravitee.repository.management.api.AuditRepository;
+import io.gravitee.repository.management.model.Audit;
+import io.gravitee.rest.api.service.common.OperationStats;
+import io.gravitee.rest.api.service.impl.AuditWriter;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.getField;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AuditWriterTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @InjectMocks
+    private AuditWriter auditWriter = new AuditWriter();
+
+    @Mock
+    private AuditRepository auditRepository;
+
+    @Before
+    public void init() {
+        setField(auditWriter, "queueCapacity", 1);
+        setField(auditWriter, "queueOverflow", "caller");
+        setField(auditWriter, "workers", 1);
+        setField(auditWriter, "batchSize", 10);
+        setField(auditWriter, "shutdownTimeout", 1000L);
+    }
+
+    @Test
+    public void shouldWriteAuditWithPatch() throws Exception {
+        auditWriter.afterPropertiesSet();
+
+        ObjectNode oldValue = mapper.createObjectNode().put("name", "old");
+        ObjectNode newValue = mapper.createObjectNode().put("name", "new");
+        auditWriter.write(new Audit(), () -> "john", oldValue, newValue);
+        auditWriter.destroy();
+
+        ArgumentCaptor<Audit> auditCaptor = ArgumentCaptor.forClass(Audit.class);
+        verify(auditRepository, times(1)).create(auditCaptor.capture());
+        assertEquals("john", auditCaptor.getValue().getUser());
+        assertTrue(auditCaptor.getValue().getPatch().contains("\"replace\""));
+        assertEquals(1, ((OperationStats) getField(auditWriter, "stats")).getSucceeded());
+    }
+
+    @Test
+    public void shouldDropAuditsWhenQueueIsFull() throws Exception {
+        setField(auditWriter, "queueOverflow", "drop");
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(auditRepository.create(any())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.getArgument(0);
+        });
+        auditWriter.afterPropertiesSet();
+
+        // the first audit keeps the worker busy, the second one fills the queue
+        auditWriter.write(new Audit(), () -> "john", mapper.createObjectNode(), mapper.createObjectNode());
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        auditWriter.write(new Audit(), () -> "john", mapper.createObjectNode(), mapper.createObjectNode());
+        auditWriter.write(new Audit(), () -> "john", mapper.createObjectNode(), mapper.createObjectNode());
+        release.countDown();
+        auditWriter.destroy();
+
+        assertEquals(1, ((AtomicLong) getField(auditWriter, "dropped")).get());
+        assertEquals(2, ((OperationStats) getField(auditWriter, "stats")).getSucceeded());
+        verify(auditRepository, times(2)).create(any());
+    }
+}
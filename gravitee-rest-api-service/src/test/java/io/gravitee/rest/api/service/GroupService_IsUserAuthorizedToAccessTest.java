@@ -56,6 +56,9 @@ public class GroupService_IsUserAuthorizedToAccessTest {
     @Mock
     private GroupRepository groupRepository;
 
+    @Mock
+    private RoleService roleService;
+
     @Mock
     private ApiEntity api;
 
@@ -240,4 +243,45 @@ public class GroupService_IsUserAuthorizedToAccessTest {
                         "user");
         verify(api, never()).getGroups();
     }
+
+    @Test
+    public void shouldCheckSeveralExcludedGroupsWithOneSnapshot() {
+        when(api.getVisibility()).thenReturn(Visibility.PRIVATE);
+        when(api.getId()).thenReturn("apiId");
+        when(api.getGroups()).thenReturn(new HashSet<>(Arrays.asList("grp1", "grp2")));
+        when(membershipService.getRoles(MembershipReferenceType.API, "apiId", MembershipMemberType.USER, "user"))
+                .thenReturn(Collections.emptySet());
+        MembershipEntity grp2Membership = new MembershipEntity();
+        grp2Membership.setReferenceId("grp2");
+        grp2Membership.setRoleId("API_USER");
+        MembershipEntity grp3Membership = new MembershipEntity();
+        grp3Membership.setReferenceId("grp3");
+        grp3Membership.setRoleId("API_USER");
+        when(membershipService.getMembershipsByMemberAndReference(MembershipMemberType.USER, "user", MembershipReferenceType.GROUP))
+                .thenReturn(new HashSet<>(Arrays.asList(grp2Membership, grp3Membership)));
+        RoleEntity apiRole = new RoleEntity();
+        apiRole.setScope(RoleScope.API);
+        when(roleService.findById("API_USER")).thenReturn(apiRole);
+
+        ApiDataAccessSnapshot snapshot = groupService.getApiDataAccessSnapshot(api, "user");
+
+        assertTrue(groupService.isUserAuthorizedToAccessApiData(snapshot, Collections.singletonList("grp1")));
+        assertFalse(groupService.isUserAuthorizedToAccessApiData(snapshot, Collections.singletonList("grp2")));
+        assertTrue(groupService.isUserAuthorizedToAccessApiData(snapshot, Collections.emptyList()));
+        verify(membershipService, times(1)).getRoles(any(), any(), any(), any());
+        verify(membershipService, times(1)).getMembershipsByMemberAndReference(any(), any(), any());
+        verify(roleService, times(1)).findById("API_USER");
+    }
+
+    @Test
+    public void shouldNotReadMembershipsForAnonymousSnapshot() {
+        when(api.getVisibility()).thenReturn(Visibility.PUBLIC);
+
+        ApiDataAccessSnapshot snapshot = groupService.getApiDataAccessSnapshot(api, null);
+
+        assertTrue(groupService.isUserAuthorizedToAccessApiData(snapshot, Collections.emptyList()));
+        assertFalse(groupService.isUserAuthorizedToAccessApiData(snapshot, Collections.singletonList("grp1")));
+        verify(membershipService, never()).getRoles(any(), any(), any(), any());
+        verify(membershipService, never()).getMembershipsByMemberAndReference(any(), any(), any());
+    }
 }
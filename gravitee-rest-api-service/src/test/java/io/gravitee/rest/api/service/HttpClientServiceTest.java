@@ -0,0 +1,144 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.rest.api.service.common.OperationStats;
+import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import io.gravitee.rest.api.service.impl.HttpClientServiceImpl;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.springframework.test.util.ReflectionTestUtils.getField;
+import static org.springframework.test.util.ReflectionTestUtils.invokeMethod;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class HttpClientServiceTest {
+
+    private final HttpClientServiceImpl httpClientService = new HttpClientServiceImpl();
+
+    private Vertx vertx;
+    private HttpServer server;
+
+    @Before
+    public void init() throws Exception {
+        vertx = Vertx.vertx();
+        setField(httpClientService, "vertx", vertx);
+        setField(httpClientService, "httpClientTimeout", 5_000);
+        setField(httpClientService, "httpClientProxyType", "HTTP");
+        setField(httpClientService, "httpClientProxyHttpHost", "localhost");
+        setField(httpClientService, "httpClientProxyHttpPort", 3128);
+        setField(httpClientService, "httpClientProxyHttpsHost", "localhost");
+        setField(httpClientService, "httpClientProxyHttpsPort", 3128);
+        setField(httpClientService, "httpClientPoolMaxSize", 2);
+        setField(httpClientService, "httpClientPoolMaxWaitQueueSize", 10);
+        setField(httpClientService, "httpClientPoolIdleTimeout", 60);
+
+        final CompletableFuture<HttpServer> started = new CompletableFuture<>();
+        vertx.createHttpServer()
+                .requestHandler(request -> {
+                    if (request.path().equals("/ok")) {
+                        request.response().setStatusCode(200).end("hello");
+                    } else {
+                        request.response().setStatusCode(500).end("boom");
+                    }
+                })
+                .listen(0, "localhost", result -> {
+                    if (result.succeeded()) {
+                        started.complete(result.result());
+                    } else {
+                        started.completeExceptionally(result.cause());
+                    }
+                });
+        server = started.get(5, TimeUnit.SECONDS);
+    }
+
+    @After
+    public void close() {
+        httpClientService.destroy();
+        vertx.close();
+    }
+
+    @Test
+    public void shouldReturnBodyOf2xxResponse() {
+        assertEquals("hello", httpClientService.request(HttpMethod.GET, url("/ok"), null, null, false).toString());
+        assertEquals(1, stats().getSucceeded());
+        assertEquals(0, stats().getFailed());
+    }
+
+    @Test
+    public void shouldFailOnNon2xxResponse() {
+        try {
+            httpClientService.request(HttpMethod.POST, url("/error"), null, "{}", false);
+            fail("A non 2xx response must fail the request");
+        } catch (TechnicalManagementException tme) {
+            assertTrue(tme.getMessage().contains("Status code: 500"));
+        }
+        assertEquals(0, stats().getSucceeded());
+        assertEquals(1, stats().getFailed());
+    }
+
+    private OperationStats stats() {
+        return (OperationStats) getField(httpClientService, "stats");
+    }
+
+    @Test
+    public void shouldReuseClientBySchemeAndProxy() {
+        final HttpClient http = invokeMethod(httpClientService, "getHttpClient", "http", false);
+
+        assertSame(http, invokeMethod(httpClientService, "getHttpClient", "HTTP", false));
+        assertNotSame(http, invokeMethod(httpClientService, "getHttpClient", "https", false));
+        assertNotSame(http, invokeMethod(httpClientService, "getHttpClient", "http", true));
+        assertEquals(3, ((Map<?, ?>) getField(httpClientService, "httpClients")).size());
+
+        // the connections to the same host are reused by the following requests
+        httpClientService.request(HttpMethod.GET, url("/ok"), null, null, false);
+        httpClientService.request(HttpMethod.GET, url("/ok"), null, null, false);
+        assertEquals(3, ((Map<?, ?>) getField(httpClientService, "httpClients")).size());
+    }
+
+    @Test
+    public void shouldCloseClientsOnDestroy() {
+        httpClientService.request(HttpMethod.GET, url("/ok"), null, null, false);
+        final HttpClient http = invokeMethod(httpClientService, "getHttpClient", "http", false);
+
+        httpClientService.destroy();
+
+        assertTrue(((Map<?, ?>) getField(httpClientService, "httpClients")).isEmpty());
+        try {
+            http.getNow(server.actualPort(), "localhost", "/ok", response -> { });
+            fail("The client must be closed");
+        } catch (IllegalStateException ise) {
+            // closed
+        }
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.actualPort() + path;
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.rest.api.model.analytics.query.LogQuery;
+import io.gravitee.rest.api.model.log.ApiRequestItem;
+import io.gravitee.rest.api.model.log.LogItem;
+import io.gravitee.rest.api.model.log.SearchLogResponse;
+import io.gravitee.rest.api.service.impl.LogsServiceImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * The export reads the logs from the most recent, moving the end of the time range to the last timestamp read. The
+ * analytics repository is simulated to check that every log is exported once.
+ *
+ * @author GraviteeSource Team
+ */
+public class LogsService_ExportAsCsvTest {
+
+    private static final String API_ID = "api-id";
+    private static final int PAGE_SIZE = 500;
+
+    private final LogsServiceImpl logsService = spy(new LogsServiceImpl());
+
+    private final List<ApiRequestItem> logs = new ArrayList<>();
+
+    @Before
+    public void init() {
+        doAnswer(invocation -> {
+            final LogQuery query = invocation.getArgument(1);
+            final List<ApiRequestItem> page = logs.stream()
+                    .filter(log -> log.getTimestamp() >= query.getFrom() && log.getTimestamp() <= query.getTo())
+                    .sorted(Comparator.<ApiRequestItem>comparingLong(LogItem::getTimestamp).reversed()
+                            .thenComparing(LogItem::getId))
+                    .skip((long) (query.getPage() - 1) * query.getSize())
+                    .limit(query.getSize())
+                    .collect(toList());
+            final SearchLogResponse<ApiRequestItem> response = new SearchLogResponse<>(page.size());
+            response.setLogs(page);
+            response.setMetadata(new HashMap<>());
+            return response;
+        }).when(logsService).findByApi(eq(API_ID), any(LogQuery.class));
+    }
+
+    @Test
+    public void shouldExportNothingWithoutLogs() {
+        assertEquals("", export());
+        verify(logsService, times(1)).findByApi(eq(API_ID), any(LogQuery.class));
+    }
+
+    @Test
+    public void shouldExportLogsOnceWhenPageEndsInsideTimestamp() {
+        // the first page ends with the first of the 3 logs sharing the same timestamp
+        for (int i = 0; i < PAGE_SIZE - 1; i++) {
+            givenLog(10_000 - i);
+        }
+        givenLog(100);
+        givenLog(100);
+        givenLog(100);
+        for (int i = 0; i < 200; i++) {
+            givenLog(99 - i / 10);
+        }
+
+        assertExported(export());
+        verify(logsService, times(2)).findByApi(eq(API_ID), any(LogQuery.class));
+    }
+
+    @Test
+    public void shouldExportLogsOnceWhenPagesHaveSameTimestamp() {
+        for (int i = 0; i < 1_200; i++) {
+            givenLog(100);
+        }
+        for (int i = 0; i < 10; i++) {
+            givenLog(50);
+        }
+
+        assertExported(export());
+    }
+
+    private void givenLog(long timestamp) {
+        final ApiRequestItem log = new ApiRequestItem();
+        log.setId(String.format("log-%05d", logs.size()));
+        log.setTimestamp(timestamp);
+        logs.add(log);
+    }
+
+    private String export() {
+        final LogQuery query = new LogQuery();
+        query.setFrom(1);
+        query.setTo(1_000_000);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        logsService.exportByApiAsCsv(API_ID, query, output);
+        return new String(output.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private void assertExported(String csv) {
+        final String[] lines = csv.split(System.lineSeparator());
+        assertTrue(lines[0].startsWith("Date;Request Id"));
+
+        final List<String> exportedIds = Arrays.stream(lines).skip(1).map(line -> line.split(";")[1]).collect(toList());
+        assertEquals(logs.size(), exportedIds.size());
+        assertEquals(logs.size(), new HashSet<>(exportedIds).size());
+    }
+}
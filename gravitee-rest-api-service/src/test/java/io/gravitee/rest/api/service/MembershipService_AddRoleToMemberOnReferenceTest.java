@@ -21,6 +21,8 @@ import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.permissions.RoleScope;
 import io.gravitee.rest.api.service.exceptions.NotAuthorizedMembershipException;
 import io.gravitee.rest.api.service.exceptions.RoleNotFoundException;
+import io.gravitee.rest.api.service.impl.ApiVisibilityIndex;
+import io.gravitee.rest.api.service.impl.MemberPermissionsCache;
 import io.gravitee.rest.api.service.impl.MembershipServiceImpl;
 
 import org.junit.Test;
@@ -63,6 +65,11 @@ public class MembershipService_AddRoleToMemberOnReferenceTest {
     private IdentityService identityService;
     @Mock
     private NotifierService notifierService;
+    @Mock
+    private ApiVisibilityIndex apiVisibilityIndex;
+
+    @Mock
+    private MemberPermissionsCache memberPermissionsCache;
 
     @Test
     public void shouldAddApiGroupMembership() throws Exception {
@@ -25,12 +25,17 @@ import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.permissions.ApiPermission;
 import io.gravitee.rest.api.model.permissions.RolePermissionAction;
 import io.gravitee.rest.api.model.permissions.RoleScope;
+import io.gravitee.rest.api.service.impl.MemberPermissionsCache;
 import io.gravitee.rest.api.service.impl.MembershipServiceImpl;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.*;
 
@@ -66,6 +71,17 @@ public class MembershipService_GetMemberPermissionsTest {
     @Mock
     private RoleService roleService;
 
+    @Mock
+    private CacheEvictionService cacheEvictionService;
+
+    @Spy
+    private MemberPermissionsCache memberPermissionsCache = new MemberPermissionsCache();
+
+    @Before
+    public void init() {
+        ReflectionTestUtils.setField(memberPermissionsCache, "cacheEvictionService", cacheEvictionService);
+    }
+
     @Test
     public void shouldGetNoPermissionsIfNotMemberAndWithNoGroup() throws Exception {
         ApiEntity api = mock(ApiEntity.class);
@@ -199,6 +215,79 @@ public class MembershipService_GetMemberPermissionsTest {
         verify(roleService, times(1)).findById("API_" + ROLENAME2);
     }
 
+    @Test
+    public void shouldGetPermissionsFromCacheUntilMembershipChanges() throws Exception {
+        ApiEntity api = mock(ApiEntity.class);
+        doReturn(API_ID).when(api).getId();
+        doReturn(Collections.emptySet()).when(api).getGroups();
+        doReturn(api).when(apiService).findById(API_ID);
+
+        Membership membership = mock(Membership.class);
+        doReturn("API_"+ROLENAME).when(membership).getRoleId();
+        doReturn(new HashSet<>(asList(membership))).when(membershipRepository).findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(USERNAME, MembershipMemberType.USER, MembershipReferenceType.API, API_ID);
+
+        UserEntity userEntity = mock(UserEntity.class);
+        doReturn(userEntity).when(userService).findById(USERNAME);
+
+        RoleEntity roleEntity = mock(RoleEntity.class);
+        Map<String, char[]> rolePerms = new HashMap<>();
+        rolePerms.put(ApiPermission.DOCUMENTATION.getName(), new char[]{RolePermissionAction.UPDATE.getId(), RolePermissionAction.CREATE.getId()});
+        rolePerms.put(ApiPermission.PLAN.getName(), new char[]{RolePermissionAction.READ.getId()});
+        doReturn(rolePerms).when(roleEntity).getPermissions();
+        doReturn(roleEntity).when(roleService).findById("API_"+ROLENAME);
+
+        assertPermissions(rolePerms, membershipService.getUserMemberPermissions(api, USERNAME));
+        assertPermissions(rolePerms, membershipService.getUserMemberPermissions(api, USERNAME));
+        verify(apiService, times(1)).findById(API_ID);
+        verify(roleService, times(1)).findById("API_" + ROLENAME);
+
+        memberPermissionsCache.invalidateUser(USERNAME);
+
+        assertPermissions(rolePerms, membershipService.getUserMemberPermissions(api, USERNAME));
+        verify(apiService, times(2)).findById(API_ID);
+        verify(roleService, times(2)).findById("API_" + ROLENAME);
+        verify(cacheEvictionService, times(1)).propagate(eq("member-permissions"), anyString());
+    }
+
+    @Test
+    public void shouldReloadPermissionsEvictedByAnotherNode() throws Exception {
+        ApiEntity api = mock(ApiEntity.class);
+        doReturn(API_ID).when(api).getId();
+        doReturn(Collections.emptySet()).when(api).getGroups();
+        doReturn(api).when(apiService).findById(API_ID);
+
+        Membership membership = mock(Membership.class);
+        doReturn("API_"+ROLENAME).when(membership).getRoleId();
+        doReturn(new HashSet<>(asList(membership))).when(membershipRepository).findByMemberIdAndMemberTypeAndReferenceTypeAndReferenceId(USERNAME, MembershipMemberType.USER, MembershipReferenceType.API, API_ID);
+
+        UserEntity userEntity = mock(UserEntity.class);
+        doReturn(userEntity).when(userService).findById(USERNAME);
+
+        RoleEntity roleEntity = mock(RoleEntity.class);
+        Map<String, char[]> rolePerms = new HashMap<>();
+        rolePerms.put(ApiPermission.PLAN.getName(), new char[]{RolePermissionAction.READ.getId()});
+        doReturn(rolePerms).when(roleEntity).getPermissions();
+        doReturn(roleEntity).when(roleService).findById("API_"+ROLENAME);
+
+        assertPermissions(rolePerms, membershipService.getUserMemberPermissions(api, USERNAME));
+
+        // the API members changed on another node
+        MemberPermissionsCache otherNodeCache = new MemberPermissionsCache();
+        ReflectionTestUtils.setField(otherNodeCache, "cacheEvictionService", cacheEvictionService);
+        otherNodeCache.invalidateReference(io.gravitee.rest.api.model.MembershipReferenceType.API, API_ID);
+        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(cacheEvictionService).propagate(eq(otherNodeCache.name()), keyCaptor.capture());
+
+        assertPermissions(rolePerms, membershipService.getUserMemberPermissions(api, USERNAME));
+        verify(roleService, times(1)).findById("API_" + ROLENAME);
+
+        memberPermissionsCache.evictLocally(keyCaptor.getValue());
+
+        assertPermissions(rolePerms, membershipService.getUserMemberPermissions(api, USERNAME));
+        verify(apiService, times(2)).findById(API_ID);
+        verify(roleService, times(2)).findById("API_" + ROLENAME);
+    }
+
     private void assertPermissions(Map<String, char[]> expected, Map<String, char[]> actual) {
         assertEquals("there must be " + expected.size() + " permission", expected.size(), actual.size());
         for (Map.Entry<String, char[]> expectedEntry : expected.entrySet()) {
@@ -20,8 +20,10 @@ import io.gravitee.repository.management.model.Membership;
 import io.gravitee.repository.management.model.MembershipMemberType;
 import io.gravitee.repository.management.model.MembershipReferenceType;
 import io.gravitee.rest.api.model.MemberEntity;
+import io.gravitee.rest.api.model.MembershipEntity;
 import io.gravitee.rest.api.model.RoleEntity;
 import io.gravitee.rest.api.model.UserEntity;
+import io.gravitee.rest.api.model.permissions.RoleScope;
 import io.gravitee.rest.api.model.permissions.SystemRole;
 import io.gravitee.rest.api.service.MembershipService;
 import io.gravitee.rest.api.service.RoleService;
@@ -35,8 +37,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -132,4 +136,30 @@ public class MembershipService_GetMembersTest {
         verify(userService, times(1)).findById(membership.getMemberId());
     }
 
+    @Test
+    public void shouldGetPrimaryOwnersWithOneQuery() throws Exception {
+        Membership membership = new Membership();
+        membership.setReferenceId(API_ID);
+        membership.setReferenceType(MembershipReferenceType.API);
+        membership.setRoleId("API_PRIMARY_OWNER");
+        membership.setMemberId("user-id");
+        membership.setMemberType(MembershipMemberType.USER);
+        RoleEntity po = mock(RoleEntity.class);
+        when(po.getId()).thenReturn("API_PRIMARY_OWNER");
+        when(roleService.findByScopeAndName(RoleScope.API, SystemRole.PRIMARY_OWNER.name())).thenReturn(Optional.of(po));
+        when(membershipRepository.findByReferencesAndRoleId(MembershipReferenceType.API, Arrays.asList(API_ID, "api-id-2"), "API_PRIMARY_OWNER"))
+                .thenReturn(Collections.singleton(membership));
+
+        Map<String, MembershipEntity> primaryOwners = membershipService.getPrimaryOwners(io.gravitee.rest.api.model.MembershipReferenceType.API, Arrays.asList(API_ID, "api-id-2"));
+
+        Assert.assertEquals(1, primaryOwners.size());
+        Assert.assertEquals("user-id", primaryOwners.get(API_ID).getMemberId());
+
+        // both primary owners, even the missing one, are now cached
+        Assert.assertEquals("user-id", membershipService.getPrimaryOwner(io.gravitee.rest.api.model.MembershipReferenceType.API, API_ID).getMemberId());
+        Assert.assertNull(membershipService.getPrimaryOwner(io.gravitee.rest.api.model.MembershipReferenceType.API, "api-id-2"));
+        verify(membershipRepository, times(1)).findByReferencesAndRoleId(any(), any(), any());
+        verify(membershipRepository, never()).findByReferenceAndRoleId(any(), any(), any());
+    }
+
 }
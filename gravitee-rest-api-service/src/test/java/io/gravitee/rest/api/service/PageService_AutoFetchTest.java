@@ -16,6 +16,7 @@
 package io.gravitee.rest.api.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
 import io.gravitee.plugin.core.api.PluginManager;
 import io.gravitee.plugin.fetcher.FetcherPlugin;
 import io.gravitee.repository.management.api.PageRepository;
@@ -35,15 +36,20 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -164,6 +170,47 @@ public class PageService_AutoFetchTest {
         verify(pageRepository, times(0)).create(any());
     }
 
+    @Test
+    public void shouldNotUpdateContent_SourcePage_AutoFetch_Unchanged() throws Exception{
+        PageSource pageSource = new PageSource();
+        pageSource.setType("type");
+        pageSource.setConfiguration("{\"autoFetch\": true, \"fetchCron\" : \"* * * * * *\"}");
+        Page page = new Page();
+        page.setId("someid");
+        page.setReferenceId("apiid");
+        page.setReferenceType(PageReferenceType.API);
+        page.setType(PageType.MARKDOWN.name());
+        page.setSource(pageSource);
+        page.setContent("Sample\n");
+        page.setLastContributor("johndoe");
+        page.setUpdatedAt(new Date(Instant
+                .now()
+                .minus(2, ChronoUnit.SECONDS)
+                .toEpochMilli()));
+        when(pageRepository.search(any())).thenReturn(Arrays.asList(page));
+        when(pageRepository.update(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        FetcherPlugin fetcherPlugin = mock(FetcherPlugin.class);
+        when(fetcherPlugin.clazz()).thenReturn("io.gravitee.rest.api.service.PageService_ImportSimplePageMockFetcher");
+        when(fetcherPlugin.configuration()).thenReturn(PageService_MockSinglePageFetcherConfiguration.class);
+        when(fetcherPluginManager.get(any())).thenReturn(fetcherPlugin);
+        Class<PageService_ImportSimplePageMockFetcher> mockFetcherClass = PageService_ImportSimplePageMockFetcher.class;
+        when(fetcherPlugin.fetcher()).thenReturn(mockFetcherClass);
+        PageService_MockSinglePageFetcherConfiguration fetcherConfiguration = new PageService_MockSinglePageFetcherConfiguration();
+        when(fetcherConfigurationFactory.create(eq(PageService_MockSinglePageFetcherConfiguration.class), anyString())).thenReturn(fetcherConfiguration);
+        AutowireCapableBeanFactory mockAutowireCapableBeanFactory = mock(AutowireCapableBeanFactory.class);
+        when(applicationContext.getAutowireCapableBeanFactory()).thenReturn(mockAutowireCapableBeanFactory);
+        PageService_MockSinglePageFetcherConfiguration.forceCronValue("* * * * * *");
+
+        long pages = pageService.execAutoFetch();
+        assertEquals(1, pages);
+
+        // the fetch is recorded for the next scheduled one, without any revision nor audit
+        verify(pageRepository, times(1)).update(page);
+        verify(auditService, never()).createApiAuditLog(any(), any(), any(), any(), any(), any());
+        assertEquals("johndoe", page.getLastContributor());
+    }
+
     @Test
     public void shouldNotFetch_SourcePage_AutoFetch_NotRequiredYet() throws Exception{
         PageSource pageSource = new PageSource();
@@ -241,4 +288,65 @@ public class PageService_AutoFetchTest {
         verify(pageRepository, times(6)).update(any());
     }
 
+    @Test
+    public void shouldCancelSlowFetches_AutoFetch_WhileOtherPagesComplete() throws Exception {
+        ReflectionTestUtils.setField(pageService, "autoFetchWorkers", 3);
+        ReflectionTestUtils.setField(pageService, "autoFetchTimeout", 500L);
+        PageService_MockSinglePageFetcherConfiguration.forceCronValue("* * * * * *");
+        PageService_ImportSlowPageMockFetcher.interruptedFetches = new CountDownLatch(2);
+
+        List<Page> pages = Arrays.asList(fetchedPage("slow-1", "slow"), fetchedPage("slow-2", "slow"),
+                fetchedPage("page-1", "type"), fetchedPage("page-2", "type"));
+        when(pageRepository.search(any())).thenReturn(pages);
+        when(pageRepository.update(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        FetcherPlugin fetcherPlugin = mock(FetcherPlugin.class);
+        when(fetcherPlugin.clazz()).thenReturn("io.gravitee.rest.api.service.PageService_ImportSimplePageMockFetcher");
+        when(fetcherPlugin.configuration()).thenReturn(PageService_MockSinglePageFetcherConfiguration.class);
+        when(fetcherPlugin.fetcher()).thenReturn(PageService_ImportSimplePageMockFetcher.class);
+        when(fetcherPluginManager.get("type")).thenReturn(fetcherPlugin);
+        FetcherPlugin slowFetcherPlugin = mock(FetcherPlugin.class);
+        when(slowFetcherPlugin.clazz()).thenReturn("io.gravitee.rest.api.service.PageService_ImportSlowPageMockFetcher");
+        when(slowFetcherPlugin.configuration()).thenReturn(PageService_MockSinglePageFetcherConfiguration.class);
+        when(slowFetcherPlugin.fetcher()).thenReturn(PageService_ImportSlowPageMockFetcher.class);
+        when(fetcherPluginManager.get("slow")).thenReturn(slowFetcherPlugin);
+        when(fetcherConfigurationFactory.create(eq(PageService_MockSinglePageFetcherConfiguration.class), anyString()))
+                .thenAnswer(invocation -> new PageService_MockSinglePageFetcherConfiguration());
+        AutowireCapableBeanFactory mockAutowireCapableBeanFactory = mock(AutowireCapableBeanFactory.class);
+        when(applicationContext.getAutowireCapableBeanFactory()).thenReturn(mockAutowireCapableBeanFactory);
+
+        long start = System.currentTimeMillis();
+        long fetchedPages = pageService.execAutoFetch();
+        long duration = System.currentTimeMillis() - start;
+
+        assertEquals(2, fetchedPages);
+        verify(pageRepository).update(pages.get(2));
+        verify(pageRepository).update(pages.get(3));
+        verify(pageRepository, never()).update(pages.get(0));
+        verify(pageRepository, never()).update(pages.get(1));
+        // both slow fetches started together, they are cancelled at the same deadline
+        assertTrue("Slow fetches cancelled after " + duration + " ms", duration < 1_000);
+        assertTrue(PageService_ImportSlowPageMockFetcher.interruptedFetches.await(1, TimeUnit.SECONDS));
+        // each page has its own fetcher
+        assertEquals(4, ((Cache<?, ?>) ReflectionTestUtils.getField(pageService, "autoFetchFetchers")).size());
+    }
+
+    private Page fetchedPage(String id, String sourceType) {
+        PageSource pageSource = new PageSource();
+        pageSource.setType(sourceType);
+        pageSource.setConfiguration("{\"autoFetch\": true, \"fetchCron\" : \"* * * * * *\"}");
+        Page page = new Page();
+        page.setId(id);
+        page.setReferenceId("apiid");
+        page.setReferenceType(PageReferenceType.API);
+        page.setType(PageType.MARKDOWN.name());
+        page.setSource(pageSource);
+        page.setContent("Sample\n");
+        page.setUpdatedAt(new Date(Instant
+                .now()
+                .minus(2, ChronoUnit.SECONDS)
+                .toEpochMilli()));
+        return page;
+    }
+
 }
@@ -0,0 +1,59 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.fetcher.api.FetcherConfiguration;
+import io.gravitee.fetcher.api.FetcherException;
+import io.gravitee.fetcher.api.FilesFetcher;
+import io.gravitee.fetcher.api.Resource;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Fetcher never answering: the fetch only ends when it is interrupted.
+ *
+ * @author GraviteeSource Team
+ */
+public class PageService_ImportSlowPageMockFetcher implements FilesFetcher {
+
+    static volatile CountDownLatch interruptedFetches = new CountDownLatch(0);
+
+    public PageService_ImportSlowPageMockFetcher(PageService_MockSinglePageFetcherConfiguration cfg) {
+        super();
+    }
+
+    @Override
+    public Resource fetch() throws FetcherException {
+        try {
+            Thread.sleep(60_000);
+        } catch (InterruptedException ie) {
+            interruptedFetches.countDown();
+            Thread.currentThread().interrupt();
+        }
+        throw new FetcherException("Fetch interrupted", null);
+    }
+
+    @Override
+    public String[] files() throws FetcherException {
+        return new String[]{"slow.md"};
+    }
+
+    @Override
+    public FetcherConfiguration getConfiguration() {
+        return new PageService_MockSinglePageFetcherConfiguration();
+    }
+
+}
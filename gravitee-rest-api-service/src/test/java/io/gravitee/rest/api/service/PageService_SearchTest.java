@@ -0,0 +1,152 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.PageRepository;
+import io.gravitee.repository.management.api.search.PageCriteria;
+import io.gravitee.repository.management.model.Page;
+import io.gravitee.repository.management.model.PageReferenceType;
+import io.gravitee.rest.api.model.PageConfigurationKeys;
+import io.gravitee.rest.api.model.PageEntity;
+import io.gravitee.rest.api.model.PageType;
+import io.gravitee.rest.api.model.documentation.PageQuery;
+import io.gravitee.rest.api.service.impl.PageServiceImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PageService_SearchTest {
+
+    private static final String API_ID = "my-api";
+
+    @InjectMocks
+    private PageServiceImpl pageService = new PageServiceImpl();
+
+    @Mock
+    private PageRepository pageRepository;
+
+    private Page folder;
+    private Page child;
+    private Page page;
+    private Page otherPage;
+    private Page lastPage;
+    private Page frenchTranslation;
+    private Page germanTranslation;
+
+    @Before
+    public void init() {
+        folder = page("folder", PageType.FOLDER, null, false);
+        child = page("child", PageType.MARKDOWN, "folder", true);
+        page = page("page", PageType.MARKDOWN, null, true);
+        otherPage = page("other-page", PageType.MARKDOWN, null, true);
+        lastPage = page("last-page", PageType.SWAGGER, null, true);
+        frenchTranslation = page("page-fr", PageType.TRANSLATION, "page", true);
+        frenchTranslation.setConfiguration(Collections.singletonMap(PageConfigurationKeys.TRANSLATION_LANG, "fr"));
+        germanTranslation = page("page-de", PageType.TRANSLATION, "page", true);
+        germanTranslation.setConfiguration(Collections.singletonMap(PageConfigurationKeys.TRANSLATION_LANG, "de"));
+    }
+
+    @Test
+    public void shouldTranslatePagesWithOneQueryByType() throws TechnicalException {
+        when(pageRepository.search(argThat(criteria -> criteria != null && criteria.getPublished() != null)))
+                .thenReturn(Arrays.asList(child, page, otherPage, lastPage));
+        givenDocumentation();
+
+        List<PageEntity> pages = pageService.search(new PageQuery.Builder().api(API_ID).published(true).build(), "FR");
+
+        // child of an unpublished folder
+        assertEquals(3, pages.size());
+        assertEquals("page-fr", pages.get(0).getName());
+        assertEquals("other-page", pages.get(1).getName());
+        verify(pageRepository, times(5)).search(any(PageCriteria.class));
+        verify(pageRepository, never()).findById(any());
+    }
+
+    @Test
+    public void shouldListTranslationsWithOneQueryByType() throws TechnicalException {
+        when(pageRepository.search(argThat(criteria -> criteria != null && criteria.getType() == null)))
+                .thenReturn(Arrays.asList(folder, child, page, frenchTranslation, germanTranslation));
+        givenDocumentation();
+
+        List<PageEntity> pages = pageService.search(new PageQuery.Builder().api(API_ID).build());
+
+        PageEntity translated = pages.stream().filter(p -> "page".equals(p.getId())).findFirst().get();
+        assertEquals(2, translated.getTranslations().size());
+        assertEquals("page-de", translated.getTranslations().get(0).getId());
+        assertEquals("page-fr", translated.getTranslations().get(1).getId());
+        assertEquals("/folder", pages.stream().filter(p -> "child".equals(p.getId())).findFirst().get().getParentPath());
+        verify(pageRepository, times(5)).search(any(PageCriteria.class));
+        verify(pageRepository, never()).findById(any());
+    }
+
+    @Test
+    public void shouldNotLoadDocumentationWhenSearchReturnsOnePage() throws TechnicalException {
+        when(pageRepository.search(argThat(criteria -> criteria != null && criteria.getParent() == null)))
+                .thenReturn(Collections.singletonList(page));
+        when(pageRepository.search(argThat(criteria -> criteria != null && "page".equals(criteria.getParent()))))
+                .thenReturn(Arrays.asList(frenchTranslation, germanTranslation));
+
+        List<PageEntity> pages = pageService.search(new PageQuery.Builder().api(API_ID).name("page").build(), "FR");
+
+        assertEquals(1, pages.size());
+        assertEquals("page-fr", pages.get(0).getName());
+        // the search and the lookup of the translations of the page
+        verify(pageRepository, times(2)).search(any(PageCriteria.class));
+        verify(pageRepository, never()).search(argThat(criteria -> criteria != null
+                && criteria.getType() != null && criteria.getParent() == null));
+    }
+
+    private void givenDocumentation() throws TechnicalException {
+        when(pageRepository.search(argThat(criteria -> criteria != null
+                && PageType.TRANSLATION.name().equals(criteria.getType()))))
+                .thenReturn(Arrays.asList(frenchTranslation, germanTranslation));
+        when(pageRepository.search(argThat(criteria -> criteria != null
+                && PageType.FOLDER.name().equals(criteria.getType()))))
+                .thenReturn(Collections.singletonList(folder));
+        when(pageRepository.search(argThat(criteria -> criteria != null
+                && (PageType.SYSTEM_FOLDER.name().equals(criteria.getType()) || PageType.ROOT.name().equals(criteria.getType())))))
+                .thenReturn(Collections.emptyList());
+    }
+
+    private Page page(String id, PageType type, String parentId, boolean published) {
+        Page page = new Page();
+        page.setId(id);
+        page.setName(id);
+        page.setType(type.name());
+        page.setParentId(parentId);
+        page.setPublished(published);
+        page.setReferenceType(PageReferenceType.API);
+        page.setReferenceId(API_ID);
+        return page;
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Resources;
+import io.gravitee.rest.api.model.PageEntity;
+import io.gravitee.rest.api.model.PageType;
+import io.gravitee.rest.api.service.impl.PageServiceImpl;
+import io.gravitee.rest.api.service.impl.SwaggerServiceImpl;
+import io.gravitee.rest.api.service.impl.swagger.SwaggerProperties;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PageService_TransformSwaggerTest {
+
+    private static final String PAGE_ID = "ba01aef0-e3da-4499-81ae-f0e3daa4995a";
+
+    @InjectMocks
+    private PageServiceImpl pageService = new PageServiceImpl();
+
+    @Spy
+    private SwaggerServiceImpl swaggerService = new SwaggerServiceImpl();
+
+    @Test
+    public void shouldNotParseUnchangedSwaggerAgain() throws IOException {
+        PageEntity first = getPage();
+        pageService.transformSwagger(first);
+        PageEntity second = getPage();
+        pageService.transformSwagger(second);
+
+        assertEquals(first.getContent(), second.getContent());
+        verify(swaggerService, times(1)).parse(anyString());
+    }
+
+    @Test
+    public void shouldParseSwaggerAgainWhenConfigurationChanged() throws IOException {
+        PageEntity first = getPage();
+        pageService.transformSwagger(first);
+        PageEntity second = getPage();
+        second.setConfiguration(Collections.singletonMap(SwaggerProperties.TRY_IT, "http://my-gateway/tryit"));
+        pageService.transformSwagger(second);
+
+        assertNotEquals(first.getContent(), second.getContent());
+        verify(swaggerService, times(2)).parse(anyString());
+    }
+
+    private PageEntity getPage() throws IOException {
+        PageEntity page = new PageEntity();
+        page.setId(PAGE_ID);
+        page.setType(PageType.SWAGGER.name());
+        page.setContentType("text/yaml");
+        page.setContent(Resources.toString(
+                Resources.getResource("io/gravitee/rest/api/management/service/mock/openapi-monoserver.yaml"), Charsets.UTF_8));
+        return page;
+    }
+}
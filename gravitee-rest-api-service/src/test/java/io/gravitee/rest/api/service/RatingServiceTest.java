@@ -49,6 +49,7 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.Date;
+import java.util.Map;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -307,4 +308,29 @@ public class RatingServiceTest {
         assertEquals(1, ratingSummary.getNumberOfRatingsByRate().get(new Byte("3")), 0);
         assertEquals(1, ratingSummary.getNumberOfRatingsByRate().get(new Byte("4")), 0);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldFindSummariesByApisFromAggregateUntilRatingIsDeleted() throws TechnicalException {
+        final Rating r = new Rating();
+        r.setRate(new Byte("4"));
+
+        when(ratingRepository.findByReferenceIdAndReferenceType(API_ID, RatingReferenceType.API))
+                .thenReturn(asList(rating, r))
+                .thenReturn(singletonList(r));
+        when(ratingRepository.findById(RATING_ID)).thenReturn(of(rating));
+
+        ratingService.findSummariesByApis(singletonList(API_ID));
+        assertEquals(2, ratingService.findSummariesByApis(singletonList(API_ID)).get(API_ID).getNumberOfRatings());
+        verify(ratingRepository, times(1)).findByReferenceIdAndReferenceType(API_ID, RatingReferenceType.API);
+
+        ratingService.delete(RATING_ID);
+        final Map<String, RatingSummaryEntity> ratingSummaries = ratingService.findSummariesByApis(singletonList(API_ID));
+
+        final RatingSummaryEntity ratingSummary = ratingSummaries.get(API_ID);
+        assertEquals(1, ratingSummary.getNumberOfRatings());
+        assertEquals(4, ratingSummary.getAverageRate(), 0);
+        assertNull(ratingSummary.getNumberOfRatingsByRate().get(new Byte("3")));
+        // the aggregate is loaded again instead of being updated in place
+        verify(ratingRepository, times(2)).findByReferenceIdAndReferenceType(API_ID, RatingReferenceType.API);
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.ApplicationRepository;
+import io.gravitee.repository.management.api.PlanRepository;
+import io.gravitee.repository.management.api.TenantRepository;
+import io.gravitee.repository.management.api.search.ApiCriteria;
+import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.ApiLifecycleState;
+import io.gravitee.repository.management.model.Application;
+import io.gravitee.repository.management.model.ApplicationStatus;
+import io.gravitee.rest.api.service.impl.ReferenceMetadataResolver;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReferenceMetadataResolverTest {
+
+    @InjectMocks
+    private ReferenceMetadataResolver referenceMetadataResolver = new ReferenceMetadataResolver();
+
+    @Mock
+    private ApiRepository apiRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private PlanRepository planRepository;
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    @Test
+    public void shouldResolveApplicationsWithOneQuery() throws TechnicalException {
+        Application app1 = new Application();
+        app1.setId("app-1");
+        app1.setName("App 1");
+        app1.setStatus(ApplicationStatus.ACTIVE);
+        Application app2 = new Application();
+        app2.setId("app-2");
+        app2.setName("App 2");
+        app2.setStatus(ApplicationStatus.ARCHIVED);
+        when(applicationRepository.findByIds(anyList())).thenReturn(new HashSet<>(Arrays.asList(app1, app2)));
+
+        Map<String, Map<String, String>> metadata =
+                referenceMetadataResolver.getApplicationsMetadata(Arrays.asList("app-1", "app-2", "app-3"));
+
+        assertEquals(3, metadata.size());
+        assertEquals("App 1", metadata.get("app-1").get("name"));
+        assertNull(metadata.get("app-1").get("deleted"));
+        assertEquals("App 2", metadata.get("app-2").get("name"));
+        assertEquals("true", metadata.get("app-2").get("deleted"));
+        assertEquals("Deleted application", metadata.get("app-3").get("name"));
+        assertEquals("true", metadata.get("app-3").get("deleted"));
+
+        // resolved again from the cache, including the missing one
+        referenceMetadataResolver.getApplicationsMetadata(Arrays.asList("app-1", "app-3"));
+        verify(applicationRepository, times(1)).findByIds(anyList());
+    }
+
+    @Test
+    public void shouldOnlyResolveApisNotInCache() throws TechnicalException {
+        Api api1 = new Api();
+        api1.setId("api-1");
+        api1.setName("API 1");
+        api1.setVersion("1");
+        api1.setApiLifecycleState(ApiLifecycleState.PUBLISHED);
+        Api api2 = new Api();
+        api2.setId("api-2");
+        api2.setName("API 2");
+        api2.setVersion("2");
+        when(apiRepository.search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class))).thenReturn(Collections.singletonList(api1), Collections.singletonList(api2));
+
+        referenceMetadataResolver.getApisMetadata(Collections.singleton("api-1"));
+        Map<String, Map<String, String>> metadata = referenceMetadataResolver.getApisMetadata(Arrays.asList("api-1", "api-2"));
+
+        assertEquals("API 1", metadata.get("api-1").get("name"));
+        assertEquals("1", metadata.get("api-1").get("version"));
+        assertEquals("API 2", metadata.get("api-2").get("name"));
+        verify(apiRepository, times(2)).search(any(ApiCriteria.class), any(ApiFieldExclusionFilter.class));
+
+        // callers may add their own entries, it must not change the cached ones
+        metadata.get("api-1").put("order", "0");
+        assertFalse(referenceMetadataResolver.getApisMetadata(Collections.singleton("api-1")).get("api-1").containsKey("order"));
+    }
+
+    @Test
+    public void shouldResolveUnknownServicesWithoutRepository() {
+        Map<String, Map<String, String>> metadata = referenceMetadataResolver.getPlansMetadata(Arrays.asList("1", "?"));
+
+        assertEquals(2, metadata.size());
+        assertEquals("Unknown plan (keyless)", metadata.get("1").get("name"));
+        assertEquals("true", metadata.get("1").get("unknown"));
+        assertEquals("Unknown plan (keyless)", metadata.get("?").get("name"));
+        verifyZeroInteractions(planRepository);
+    }
+}
@@ -21,6 +21,7 @@ import io.gravitee.repository.management.model.Role;
 import io.gravitee.repository.management.model.RoleReferenceType;
 import io.gravitee.repository.management.model.RoleScope;
 import io.gravitee.rest.api.service.impl.RoleServiceImpl;
+import io.gravitee.rest.api.service.impl.MemberPermissionsCache;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -75,6 +76,9 @@ public class RoleService_CreateOrUpdateSystemRolesTest {
     @Mock
     private AuditService auditService;
 
+    @Mock
+    private MemberPermissionsCache memberPermissionsCache;
+
     @Test
     public void shouldCreateSystemRole() throws TechnicalException {
         when(mockRoleRepository.findByScopeAndNameAndReferenceIdAndReferenceType(any(), any(), any(), any())).thenReturn(empty());
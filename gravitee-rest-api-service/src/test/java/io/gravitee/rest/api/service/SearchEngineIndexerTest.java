@@ -0,0 +1,163 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.rest.api.service.impl.search.lucene.SearchEngineIndexer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.RAMDirectory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class SearchEngineIndexerTest {
+
+    private final SearchEngineIndexer indexer = new SearchEngineIndexer();
+
+    private Directory directory;
+    private IndexWriter indexWriter;
+
+    @Before
+    public void init() throws IOException {
+        directory = new RAMDirectory();
+        indexWriter = new IndexWriter(directory, new IndexWriterConfig(new StandardAnalyzer()));
+
+        setField(indexer, "writer", indexWriter);
+        setField(indexer, "commitMaxDocuments", 3);
+        setField(indexer, "commitInterval", 60_000L);
+        setField(indexer, "refreshMaxWait", 5_000);
+    }
+
+    @After
+    public void close() throws Exception {
+        indexer.destroy();
+        indexWriter.close();
+    }
+
+    @Test
+    public void shouldCommitOnceMaxDocumentsIsReached() throws Exception {
+        indexer.index(document("api-1"));
+        indexer.index(document("api-2"));
+
+        assertEquals(0, committedDocuments());
+        assertTrue(indexWriter.hasUncommittedChanges());
+
+        indexer.index(document("api-3"));
+
+        assertEquals(3, committedDocuments());
+        assertFalse(indexWriter.hasUncommittedChanges());
+    }
+
+    @Test
+    public void shouldCommitRemovalsOnceMaxDocumentsIsReached() throws Exception {
+        indexer.index(document("api-1"));
+        indexer.index(document("api-2"));
+        indexer.index(document("api-3"));
+
+        indexer.remove("api", "api-1");
+        indexer.remove("api", "api-2");
+        assertEquals(3, committedDocuments());
+
+        indexer.remove("api", "api-3");
+        assertEquals(0, committedDocuments());
+    }
+
+    @Test
+    public void shouldCommitPendingChangesEveryInterval() throws Exception {
+        setField(indexer, "commitInterval", 50L);
+        indexer.afterPropertiesSet();
+
+        indexer.index(document("api-1"));
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (committedDocuments() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(1, committedDocuments());
+    }
+
+    @Test
+    public void shouldCommitPendingChangesOnDestroy() throws Exception {
+        indexer.index(document("api-1"));
+        assertEquals(0, committedDocuments());
+
+        indexer.destroy();
+
+        assertEquals(1, committedDocuments());
+    }
+
+    @Test
+    public void shouldSeeIndexedDocumentOnceGenerationIsReached() throws Exception {
+        SearcherManager searcherManager = new SearcherManager(indexWriter, null);
+        // Without waiters, the searchers are only refreshed every minute
+        ControlledRealTimeReopenThread<IndexSearcher> refreshThread =
+                new ControlledRealTimeReopenThread<>(indexWriter, searcherManager, 60, 0.01);
+        refreshThread.setDaemon(true);
+        refreshThread.start();
+        setField(indexer, "searcherRefreshThread", refreshThread);
+
+        try {
+            indexer.waitForGeneration(indexer.index(document("api-1")));
+
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                assertEquals(1, searcher.getIndexReader().numDocs());
+            } finally {
+                searcherManager.release(searcher);
+            }
+            // Visible to searches before being committed
+            assertEquals(0, committedDocuments());
+        } finally {
+            refreshThread.close();
+            searcherManager.close();
+        }
+    }
+
+    private int committedDocuments() throws IOException {
+        if (!DirectoryReader.indexExists(directory)) {
+            return 0;
+        }
+        try (DirectoryReader reader = DirectoryReader.open(directory)) {
+            return reader.numDocs();
+        }
+    }
+
+    private Document document(String id) {
+        Document document = new Document();
+        document.add(new StringField("id", id, Field.Store.YES));
+        document.add(new StringField("type", "api", Field.Store.YES));
+        return document;
+    }
+}
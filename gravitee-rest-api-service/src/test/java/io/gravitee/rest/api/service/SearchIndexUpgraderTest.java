@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.repository.management.api.search.UserCriteria;
+import io.gravitee.rest.api.model.UserEntity;
+import io.gravitee.rest.api.model.api.ApiEntity;
+import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import io.gravitee.rest.api.service.impl.search.lucene.SearchEngineIndexer;
+import io.gravitee.rest.api.service.impl.upgrade.SearchIndexUpgrader;
+import io.gravitee.rest.api.service.search.SearchEngineService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SearchIndexUpgraderTest {
+
+    private static final long HIGH_WATER_MARK = 1_600_000_000_000L;
+
+    @InjectMocks
+    private SearchIndexUpgrader upgrader = new SearchIndexUpgrader();
+
+    @Mock
+    private ApiService apiService;
+
+    @Mock
+    private PageService pageService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private SearchEngineService searchEngineService;
+
+    @Mock
+    private SearchEngineIndexer searchEngineIndexer;
+
+    @Before
+    public void init() {
+        setField(upgrader, "workers", 1);
+        setField(upgrader, "batchSize", 10);
+
+        when(pageService.findAll(any())).thenReturn(new Page<>(emptyList(), 0, 0, 0));
+        when(userService.search(any(UserCriteria.class), any())).thenReturn(new Page<UserEntity>(emptyList(), 1, 0, 0));
+    }
+
+    @Test
+    public void shouldRebuildIndexWithoutVersion() throws Exception {
+        when(searchEngineIndexer.getCommitData()).thenReturn(new HashMap<>());
+        ApiEntity api = api("api-1", HIGH_WATER_MARK);
+        when(apiService.findAllLight()).thenReturn(Collections.singleton(api));
+        when(apiService.findById("api-1")).thenReturn(api);
+
+        upgrader.upgrade();
+
+        verify(searchEngineIndexer).removeAll();
+        verify(searchEngineService).index(Collections.singletonList(api));
+        verify(apiService, never()).findAll();
+        verify(searchEngineIndexer, never()).findIds(anyString());
+        verify(searchEngineService, never()).reindex(anyCollection());
+
+        ArgumentCaptor<Map<String, String>> commitData = ArgumentCaptor.forClass(Map.class);
+        verify(searchEngineIndexer, times(2)).commit(commitData.capture());
+        assertTrue(commitData.getAllValues().get(0).isEmpty());
+        assertEquals("2", commitData.getValue().get("version"));
+        assertEquals(String.valueOf(HIGH_WATER_MARK), commitData.getValue().get("api"));
+    }
+
+    @Test
+    public void shouldOnlyReindexChangesSinceHighWaterMark() throws Exception {
+        when(searchEngineIndexer.getCommitData()).thenReturn(commitData());
+        ApiEntity unchangedApi = api("unchanged", HIGH_WATER_MARK - 3_600_000);
+        ApiEntity updatedApi = api("updated", HIGH_WATER_MARK + 1_000);
+        when(apiService.findAllLight()).thenReturn(new HashSet<>(Arrays.asList(unchangedApi, updatedApi)));
+        when(apiService.findById("updated")).thenReturn(updatedApi);
+        when(searchEngineIndexer.findIds("api")).thenReturn(new HashSet<>(Arrays.asList("unchanged", "updated", "deleted")));
+
+        upgrader.upgrade();
+
+        verify(searchEngineIndexer, never()).removeAll();
+        verify(searchEngineService).reindex(Collections.singletonList(updatedApi));
+        verify(searchEngineService, never()).index(anyCollection());
+        verify(apiService, never()).findById("unchanged");
+        verify(searchEngineIndexer).remove("api", "deleted");
+        verify(searchEngineIndexer, never()).remove("api", "unchanged");
+
+        ArgumentCaptor<Map<String, String>> commitData = ArgumentCaptor.forClass(Map.class);
+        verify(searchEngineIndexer).commit(commitData.capture());
+        assertEquals(String.valueOf(HIGH_WATER_MARK + 1_000), commitData.getValue().get("api"));
+        assertEquals(String.valueOf(HIGH_WATER_MARK), commitData.getValue().get("user"));
+    }
+
+    @Test
+    public void shouldKeepHighWaterMarksWhenBatchFails() throws Exception {
+        when(searchEngineIndexer.getCommitData()).thenReturn(commitData());
+        ApiEntity updatedApi = api("updated", HIGH_WATER_MARK + 1_000);
+        when(apiService.findAllLight()).thenReturn(Collections.singleton(updatedApi));
+        when(apiService.findById("updated")).thenReturn(updatedApi);
+        doThrow(new TechnicalManagementException("Unexpected error while indexing documents"))
+                .when(searchEngineService).reindex(anyCollection());
+
+        upgrader.upgrade();
+
+        verify(searchEngineIndexer, never()).commit(anyMap());
+    }
+
+    private Map<String, String> commitData() {
+        Map<String, String> commitData = new HashMap<>();
+        commitData.put("version", "2");
+        commitData.put("api", String.valueOf(HIGH_WATER_MARK));
+        commitData.put("page", String.valueOf(HIGH_WATER_MARK));
+        commitData.put("user", String.valueOf(HIGH_WATER_MARK));
+        return commitData;
+    }
+
+    private ApiEntity api(String id, long updatedAt) {
+        ApiEntity api = new ApiEntity();
+        api.setId(id);
+        api.setUpdatedAt(new Date(updatedAt));
+        return api;
+    }
+}
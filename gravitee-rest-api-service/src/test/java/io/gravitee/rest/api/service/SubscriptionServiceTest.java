@@ -15,8 +15,10 @@
  */
 package io.gravitee.rest.api.service;
 
+import io.gravitee.common.data.domain.Page;
 import io.gravitee.repository.exceptions.TechnicalException;
 import io.gravitee.repository.management.api.SubscriptionRepository;
+import io.gravitee.repository.management.api.search.Pageable;
 import io.gravitee.repository.management.api.search.SubscriptionCriteria;
 import io.gravitee.repository.management.model.Subscription;
 import io.gravitee.rest.api.idp.api.authentication.UserDetails;
@@ -24,7 +26,10 @@ import io.gravitee.rest.api.model.*;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.application.ApplicationSettings;
 import io.gravitee.rest.api.model.application.OAuthClientSettings;
+import io.gravitee.rest.api.model.subscription.SubscriptionQuery;
 import io.gravitee.rest.api.service.exceptions.*;
+import io.gravitee.rest.api.service.impl.ApiVisibilityIndex;
+import io.gravitee.rest.api.service.impl.ReferenceMetadataResolver;
 import io.gravitee.rest.api.service.impl.SubscriptionServiceImpl;
 import io.gravitee.rest.api.service.notification.ApiHook;
 import io.gravitee.rest.api.service.notification.ApplicationHook;
@@ -41,9 +46,13 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 import static java.util.Arrays.asList;
@@ -100,6 +109,10 @@ public class SubscriptionServiceTest {
     private GroupService groupService;
     @Mock
     private ParameterService parameterService;
+    @Mock
+    private ApiVisibilityIndex apiVisibilityIndex;
+    @Mock
+    private ReferenceMetadataResolver referenceMetadataResolver;
 
     @Test
     public void shouldFindById() throws TechnicalException {
@@ -168,6 +181,110 @@ public class SubscriptionServiceTest {
         assertEquals(2, subscriptions.size());
     }
 
+    @Test
+    public void shouldSearchByApiKey() throws TechnicalException {
+        Subscription sub1 = new Subscription();
+        sub1.setId(SUBSCRIPTION_ID);
+        sub1.setStatus(Subscription.Status.ACCEPTED);
+        sub1.setApi(API_ID);
+
+        ApiKeyEntity apiKey = new ApiKeyEntity();
+        apiKey.setKey("my-key");
+        apiKey.setSubscription(SUBSCRIPTION_ID);
+        when(apiKeyService.findByKey("my-key")).thenReturn(apiKey);
+        when(subscriptionRepository.findById(SUBSCRIPTION_ID)).thenReturn(Optional.of(sub1));
+
+        SubscriptionQuery query = new SubscriptionQuery();
+        query.setApi(API_ID);
+        query.setApiKey("my-key");
+        Collection<SubscriptionEntity> subscriptions = subscriptionService.search(query);
+
+        assertEquals(1, subscriptions.size());
+        assertEquals(SUBSCRIPTION_ID, subscriptions.iterator().next().getId());
+        verify(subscriptionRepository, never()).search(any(SubscriptionCriteria.class));
+        verify(apiKeyService, never()).findBySubscription(any());
+    }
+
+    @Test
+    public void shouldExportAsCsvPageByPage() throws TechnicalException {
+        List<Subscription> firstPage = new ArrayList<>();
+        List<Subscription> secondPage = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            Subscription sub = new Subscription();
+            sub.setId("sub-" + i);
+            sub.setStatus(Subscription.Status.ACCEPTED);
+            sub.setApi(API_ID);
+            sub.setPlan(PLAN_ID);
+            sub.setApplication(APPLICATION_ID);
+            (i < 100 ? firstPage : secondPage).add(sub);
+        }
+        when(subscriptionRepository.search(any(SubscriptionCriteria.class), any(Pageable.class))).thenReturn(
+                new Page<>(firstPage, 0, 100, 150),
+                new Page<>(secondPage, 1, 50, 150));
+
+        SubscriptionQuery query = new SubscriptionQuery();
+        query.setApi(API_ID);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        subscriptionService.exportAsCsv(query, output);
+
+        String[] lines = new String(output.toByteArray(), StandardCharsets.UTF_8).split(System.lineSeparator());
+        assertEquals(151, lines.length);
+        assertTrue(lines[0].startsWith("Plan;Application"));
+        verify(subscriptionRepository, times(2)).search(any(SubscriptionCriteria.class), any(Pageable.class));
+        // metadata are resolved for each page
+        verify(referenceMetadataResolver, times(2)).getApplicationsMetadata(any());
+    }
+
+    @Test
+    public void shouldNotSearchByApiKeyOfAnotherApi() throws TechnicalException {
+        Subscription sub1 = new Subscription();
+        sub1.setId(SUBSCRIPTION_ID);
+        sub1.setStatus(Subscription.Status.ACCEPTED);
+        sub1.setApi("another-api");
+
+        ApiKeyEntity apiKey = new ApiKeyEntity();
+        apiKey.setKey("my-key");
+        apiKey.setSubscription(SUBSCRIPTION_ID);
+        when(apiKeyService.findByKey("my-key")).thenReturn(apiKey);
+        when(subscriptionRepository.findById(SUBSCRIPTION_ID)).thenReturn(Optional.of(sub1));
+
+        SubscriptionQuery query = new SubscriptionQuery();
+        query.setApi(API_ID);
+        query.setApiKey("my-key");
+
+        assertTrue(subscriptionService.search(query).isEmpty());
+    }
+
+    @Test
+    public void shouldNotSearchByApiKeyOutOfDateRange() throws TechnicalException {
+        Subscription sub1 = new Subscription();
+        sub1.setId(SUBSCRIPTION_ID);
+        sub1.setStatus(Subscription.Status.ACCEPTED);
+        sub1.setApi(API_ID);
+        sub1.setUpdatedAt(new Date(1_000));
+
+        ApiKeyEntity apiKey = new ApiKeyEntity();
+        apiKey.setKey("my-key");
+        apiKey.setSubscription(SUBSCRIPTION_ID);
+        when(apiKeyService.findByKey("my-key")).thenReturn(apiKey);
+        when(subscriptionRepository.findById(SUBSCRIPTION_ID)).thenReturn(Optional.of(sub1));
+
+        SubscriptionQuery query = new SubscriptionQuery();
+        query.setApi(API_ID);
+        query.setApiKey("my-key");
+        query.setFrom(2_000);
+        assertTrue(subscriptionService.search(query).isEmpty());
+
+        query.setFrom(0);
+        query.setTo(500);
+        assertTrue(subscriptionService.search(query).isEmpty());
+
+        query.setFrom(500);
+        query.setTo(2_000);
+        assertEquals(1, subscriptionService.search(query).size());
+        verify(subscriptionRepository, never()).search(any(SubscriptionCriteria.class));
+    }
+
     @Test(expected = TechnicalManagementException.class)
     public void shouldNotFindByApplicationBecauseTechnicalException() throws TechnicalException {
         when(subscriptionRepository.search(any(SubscriptionCriteria.class))).thenThrow(TechnicalException.class);
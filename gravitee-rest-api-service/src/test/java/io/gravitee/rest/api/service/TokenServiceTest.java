@@ -65,7 +65,7 @@ public class TokenServiceTest {
     private static final String TOKEN_ID = "1";
 
     @InjectMocks
-    private final TokenService tokenService = new TokenServiceImpl();
+    private final TokenServiceImpl tokenService = new TokenServiceImpl();
 
     @Mock
     private TokenRepository tokenRepository;
@@ -79,6 +79,10 @@ public class TokenServiceTest {
     @Before
     public void init() throws TechnicalException {
         setField(tokenService, "passwordEncoder", passwordEncoder);
+        setField(tokenService, "cacheMaxSize", 100L);
+        setField(tokenService, "cacheTtl", 60L);
+        setField(tokenService, "legacyLookupEnabled", true);
+        tokenService.afterPropertiesSet();
         when(passwordEncoder.matches(any(), any())).thenReturn(true);
 
         when(token.getId()).thenReturn(TOKEN_ID);
@@ -170,6 +174,54 @@ public class TokenServiceTest {
         assertEquals(new Date(1486773200000L), t.getLastUseAt());
     }
 
+    @Test
+    public void shouldFindByTokenWithIdPrefix() throws TechnicalException {
+        when(tokenRepository.update(token)).thenReturn(token);
+
+        final Token t = tokenService.findByToken(TOKEN_ID + "_secret");
+
+        assertEquals(TOKEN_ID, t.getId());
+        verify(passwordEncoder).matches(TOKEN_ID + "_secret", "token");
+        verify(tokenRepository, never()).findAll();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotFindByTokenWithIdPrefixAndWrongSecret() throws TechnicalException {
+        when(passwordEncoder.matches(any(), any())).thenReturn(false);
+
+        tokenService.findByToken(TOKEN_ID + "_wrong");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotFindLegacyTokenWhenLegacyLookupDisabled() throws TechnicalException {
+        setField(tokenService, "legacyLookupEnabled", false);
+
+        tokenService.findByToken("token");
+    }
+
+    @Test
+    public void shouldFindByTokenFromCache() throws TechnicalException {
+        when(tokenRepository.update(token)).thenReturn(token);
+
+        tokenService.findByToken(TOKEN_ID + "_secret");
+        final Token t = tokenService.findByToken(TOKEN_ID + "_secret");
+
+        assertEquals(TOKEN_ID, t.getId());
+        verify(passwordEncoder, times(1)).matches(any(), any());
+        verify(tokenRepository, times(2)).findById(TOKEN_ID);
+    }
+
+    @Test
+    public void shouldEvictCachedTokenOnRevoke() throws TechnicalException {
+        when(tokenRepository.update(token)).thenReturn(token);
+
+        tokenService.findByToken(TOKEN_ID + "_secret");
+        tokenService.revoke(TOKEN_ID);
+        tokenService.findByToken(TOKEN_ID + "_secret");
+
+        verify(passwordEncoder, times(2)).matches(any(), any());
+    }
+
     @Test
     public void shouldCreate() throws TechnicalException {
         final NewTokenEntity newToken = new NewTokenEntity();
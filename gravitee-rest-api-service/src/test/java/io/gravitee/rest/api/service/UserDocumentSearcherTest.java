@@ -0,0 +1,114 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.repository.exceptions.TechnicalException;
+import io.gravitee.rest.api.model.UserEntity;
+import io.gravitee.rest.api.model.common.PageableImpl;
+import io.gravitee.rest.api.service.impl.search.SearchResult;
+import io.gravitee.rest.api.service.impl.search.lucene.searcher.UserDocumentSearcher;
+import io.gravitee.rest.api.service.impl.search.lucene.transformer.UserDocumentTransformer;
+import io.gravitee.rest.api.service.search.query.QueryBuilder;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.RAMDirectory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class UserDocumentSearcherTest {
+
+    private static final int USERS = 1200;
+
+    private final UserDocumentSearcher searcher = new UserDocumentSearcher();
+
+    private IndexWriter indexWriter;
+    private SearcherManager searcherManager;
+
+    @Before
+    public void init() throws IOException {
+        indexWriter = new IndexWriter(new RAMDirectory(), new IndexWriterConfig(new StandardAnalyzer()));
+
+        UserDocumentTransformer transformer = new UserDocumentTransformer();
+        for (int i = 0; i < USERS; i++) {
+            UserEntity user = new UserEntity();
+            user.setId("user-" + i);
+            user.setFirstname("john");
+            user.setLastname("doe" + i);
+            indexWriter.addDocument(transformer.transform(user));
+        }
+        indexWriter.commit();
+
+        searcherManager = new SearcherManager(indexWriter, null);
+        setField(searcher, "searcherManager", searcherManager);
+    }
+
+    @After
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+    }
+
+    @Test
+    public void shouldSearchPageBeyondThousandHits() throws TechnicalException {
+        SearchResult result = searcher.search(QueryBuilder.create(UserEntity.class)
+                .setQuery("john")
+                .setPage(new PageableImpl(3, 500))
+                .build());
+
+        assertEquals(USERS, result.getHits());
+        assertEquals(200, result.getDocuments().size());
+    }
+
+    @Test
+    public void shouldSearchPageAfterLastHit() throws TechnicalException {
+        SearchResult result = searcher.search(QueryBuilder.create(UserEntity.class)
+                .setQuery("john")
+                .setPage(new PageableImpl(4, 500))
+                .build());
+
+        assertEquals(USERS, result.getHits());
+        assertTrue(result.getDocuments().isEmpty());
+    }
+
+    @Test
+    public void shouldReturnEachUserOnce() throws TechnicalException {
+        Set<String> ids = new HashSet<>();
+        for (int page = 1; page <= 3; page++) {
+            ids.addAll(searcher.search(QueryBuilder.create(UserEntity.class)
+                    .setQuery("john")
+                    .setPage(new PageableImpl(page, 500))
+                    .build()).getDocuments());
+        }
+
+        assertEquals(USERS, ids.size());
+        assertTrue(ids.contains("user-0"));
+        assertTrue(ids.contains("user-" + (USERS - 1)));
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.service;
+
+import io.gravitee.common.http.HttpMethod;
+import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import io.gravitee.rest.api.service.notifiers.impl.WebNotifierServiceImpl;
+import io.vertx.core.buffer.Buffer;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class WebNotifierServiceTest {
+
+    private static final String URL = "http://webhook/notify";
+
+    @InjectMocks
+    private WebNotifierServiceImpl webNotifierService = new WebNotifierServiceImpl();
+
+    @Mock
+    private HttpClientService httpClientService;
+
+    @Test
+    public void shouldSendWebhookThroughHttpClientService() {
+        final Map<String, String> headers = Collections.singletonMap("X-Gravitee-Event", "APIKEY_EXPIRED");
+        when(httpClientService.request(HttpMethod.POST, URL, headers, "{}", true)).thenReturn(Buffer.buffer());
+
+        webNotifierService.request(HttpMethod.POST, URL, headers, "{}", true);
+
+        verify(httpClientService, times(1)).request(HttpMethod.POST, URL, headers, "{}", true);
+        verify(httpClientService, never()).requestAsync(any(), any(), any(), any(), any());
+    }
+
+    @Test(expected = TechnicalManagementException.class)
+    public void shouldFailWhenWebhookFails() {
+        when(httpClientService.request(any(), any(), any(), any(), any()))
+                .thenThrow(new TechnicalManagementException(" Error on url '" + URL + "'. Status code: 500. Message: boom", null));
+
+        webNotifierService.request(HttpMethod.POST, URL, Collections.emptyMap(), "{}", false);
+    }
+
+    @Test
+    public void shouldNotSendWebhookWithoutUrl() {
+        webNotifierService.request(HttpMethod.POST, "", Collections.emptyMap(), "{}", false);
+
+        verifyZeroInteractions(httpClientService);
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.common.service.AbstractService;
+import io.gravitee.repository.management.model.MessageRecipient;
+import io.gravitee.rest.api.model.command.CommandCacheEvictionEntity;
+import io.gravitee.rest.api.model.command.CommandEntity;
+import io.gravitee.rest.api.model.command.CommandQuery;
+import io.gravitee.rest.api.model.command.CommandTags;
+import io.gravitee.rest.api.service.CacheEvictionService;
+import io.gravitee.rest.api.service.CommandService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Evicts from the caches of this node the entries evicted by the other nodes.
+ *
+ * @author GraviteeSource Team
+ */
+public class ScheduledCacheEvictionService extends AbstractService implements Runnable {
+
+    /**
+     * Logger.
+     */
+    private final Logger logger = LoggerFactory.getLogger(ScheduledCacheEvictionService.class);
+
+    @Autowired
+    private TaskScheduler scheduler;
+
+    @Value("${services.cache_eviction.cron:*/5 * * * * *}")
+    private String cronTrigger;
+
+    @Value("${services.cache_eviction.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Interval between two purges of the expired commands.
+     */
+    private static final long PURGE_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+
+    private final AtomicLong counter = new AtomicLong(0);
+
+    private long nextPurgeAt = -1;
+
+    @Autowired
+    private CommandService commandService;
+
+    @Autowired
+    private CacheEvictionService cacheEvictionService;
+
+    private ObjectMapper mapper = new ObjectMapper();
+
+    @Override
+    protected String name() {
+        return "Cache Eviction Service";
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (enabled) {
+            super.doStart();
+            logger.info("Cache Eviction service has been initialized with cron [{}]", cronTrigger);
+            scheduler.schedule(this, new CronTrigger(cronTrigger));
+        } else {
+            logger.warn("Cache Eviction service has been disabled");
+        }
+    }
+
+    @Override
+    public void run() {
+        logger.debug("Cache Eviction #{} started at {}", counter.incrementAndGet(), Instant.now());
+        CommandQuery query = new CommandQuery();
+        query.setTo(MessageRecipient.MANAGEMENT_APIS.name());
+        query.setTags(Collections.singletonList(CommandTags.DATA_TO_EVICT));
+
+        // the same key may have been evicted several times since the last run
+        Map<String, CommandCacheEvictionEntity> contents = new LinkedHashMap<>();
+        List<CommandEntity> messageEntities = commandService.consume(query);
+        messageEntities.forEach(commandEntity -> {
+            try {
+                CommandCacheEvictionEntity content = mapper.readValue(commandEntity.getContent(), CommandCacheEvictionEntity.class);
+                contents.putIfAbsent(content.getCache() + ':' + content.getKey(), content);
+            } catch (IOException e) {
+                logger.error("Cache Eviction has received a bad message.", e);
+            }
+        });
+        contents.values().forEach(content -> {
+            try {
+                cacheEvictionService.process(content);
+            } catch (Exception e) {
+                logger.error("Cache Eviction has not been able to process {}", content, e);
+            }
+        });
+
+        long now = System.currentTimeMillis();
+        if (now >= nextPurgeAt) {
+            commandService.purgeExpired(query);
+            nextPurgeAt = now + PURGE_INTERVAL;
+        }
+
+        logger.debug("Cache Eviction #{} ended at {}, {} commands processed as {} evictions",
+                counter.get(), Instant.now(), messageEntities.size(), contents.size());
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.cache;
+
+import io.gravitee.rest.api.model.command.CommandCacheEvictionEntity;
+import io.gravitee.rest.api.model.command.CommandEntity;
+import io.gravitee.rest.api.model.command.CommandTags;
+import io.gravitee.rest.api.service.CacheEvictionService;
+import io.gravitee.rest.api.service.CommandService;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ScheduledCacheEvictionServiceTest {
+
+    @InjectMocks
+    ScheduledCacheEvictionService service = new ScheduledCacheEvictionService();
+
+    @Mock
+    CommandService commandService;
+
+    @Mock
+    CacheEvictionService cacheEvictionService;
+
+    @Test
+    public void shouldDoNothing() {
+        when(commandService.consume(any())).thenReturn(Collections.emptyList());
+
+        service.run();
+
+        verify(cacheEvictionService, never()).process(any());
+        verify(commandService, times(1)).purgeExpired(any());
+    }
+
+    @Test
+    public void shouldEvictEachKeyOnce() {
+        CommandEntity user = command("{\"cache\":\"member-permissions\",\"key\":\"user:johndoe\"}");
+        CommandEntity sameUser = command("{\"cache\":\"member-permissions\",\"key\":\"user:johndoe\"}");
+        CommandEntity all = command("{\"cache\":\"member-permissions\"}");
+        when(commandService.consume(any())).thenReturn(Arrays.asList(user, sameUser, all));
+
+        service.run();
+
+        ArgumentCaptor<CommandCacheEvictionEntity> contentCaptor = ArgumentCaptor.forClass(CommandCacheEvictionEntity.class);
+        verify(cacheEvictionService, times(2)).process(contentCaptor.capture());
+        assertEquals("user:johndoe", contentCaptor.getAllValues().get(0).getKey());
+        assertNull(contentCaptor.getAllValues().get(1).getKey());
+    }
+
+    @Test
+    public void shouldNotPurgeOnEachRun() {
+        when(commandService.consume(any())).thenReturn(Collections.emptyList());
+
+        service.run();
+        service.run();
+
+        verify(commandService, times(2)).consume(any());
+        verify(commandService, times(1)).purgeExpired(any());
+    }
+
+    private CommandEntity command(String content) {
+        CommandEntity command = new CommandEntity();
+        command.setTags(Collections.singletonList(CommandTags.DATA_TO_EVICT));
+        command.setContent(content);
+        return command;
+    }
+}
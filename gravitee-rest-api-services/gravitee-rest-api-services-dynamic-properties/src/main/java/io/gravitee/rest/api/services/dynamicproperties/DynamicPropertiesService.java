@@ -27,6 +27,7 @@ import io.gravitee.node.api.Node;
 import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.service.ApiService;
 import io.gravitee.rest.api.service.event.ApiEvent;
+import io.gravitee.rest.api.services.dynamicproperties.provider.http.HttpClientPool;
 import io.gravitee.rest.api.services.dynamicproperties.provider.http.HttpProvider;
 import io.vertx.core.Vertx;
 
@@ -61,6 +62,8 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
 
     private final Map<ApiEntity, Long> timers = new HashMap<>();
 
+    private HttpClientPool httpClientPool;
+
     @Override
     protected String name() {
         return "Dynamic Properties Service";
@@ -70,12 +73,17 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
     protected void doStart() throws Exception {
         super.doStart();
 
+        httpClientPool = new HttpClientPool(vertx);
         eventManager.subscribeForEvents(this, ApiEvent.class);
     }
 
     @Override
     protected void doStop() throws Exception {
         super.doStop();
+
+        if (httpClientPool != null) {
+            httpClientPool.close();
+        }
     }
 
     @Override
@@ -106,6 +114,7 @@ public class DynamicPropertiesService extends AbstractService implements EventLi
                     HttpProvider provider = new HttpProvider(dynamicPropertyService);
                     provider.setVertx(vertx);
                     provider.setNode(node);
+                    provider.setHttpClientPool(httpClientPool);
 
                     updater.setProvider(provider);
                     updater.setApiService(apiService);
@@ -115,7 +115,14 @@ public class DynamicPropertyUpdater implements Handler<Long> {
                                 api.getId(), provider.name(),
                                 throwable);
                     } else if (dynamicProperties != null) {
-                        update(dynamicProperties);
+                        try {
+                            update(dynamicProperties);
+                        } catch (Exception ex) {
+                            logger.error("[{}] Unexpected error while updating dynamic properties from provider: {}",
+                                    api.getId(), provider.name(), ex);
+                            // properties not applied: get them again on the next poll even if they did not change
+                            provider.reset();
+                        }
                     }
                 });
     }
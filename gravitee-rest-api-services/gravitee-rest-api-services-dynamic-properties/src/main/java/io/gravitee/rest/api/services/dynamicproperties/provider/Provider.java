@@ -29,4 +29,11 @@ public interface Provider {
     CompletableFuture<Collection<DynamicProperty>> get();
 
     String name();
+
+    /**
+     * Forget the state kept between two calls, if any, so that the next call returns the properties even if they
+     * did not change.
+     */
+    default void reset() {
+    }
 }
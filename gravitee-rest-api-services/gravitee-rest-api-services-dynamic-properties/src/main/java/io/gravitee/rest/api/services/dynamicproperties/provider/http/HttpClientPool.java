@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.dynamicproperties.provider.http;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HTTP clients shared by the providers polling the same host, keeping their connections alive between two polls.
+ *
+ * @author GraviteeSource Team
+ */
+public class HttpClientPool {
+
+    private static final String HTTPS_SCHEME = "https";
+
+    private static final int MAX_POOL_SIZE = 10;
+    private static final int CONNECT_TIMEOUT = 2000;
+    private static final int IDLE_TIMEOUT = 60;
+
+    private final Vertx vertx;
+
+    private final Map<String, HttpClient> clients = new ConcurrentHashMap<>();
+
+    public HttpClientPool(Vertx vertx) {
+        this.vertx = vertx;
+    }
+
+    public HttpClient get(URI uri) {
+        final boolean ssl = HTTPS_SCHEME.equalsIgnoreCase(uri.getScheme());
+        final int port = port(uri);
+
+        return clients.computeIfAbsent((ssl ? HTTPS_SCHEME : "http") + "://" + uri.getHost() + ':' + port,
+                key -> vertx.createHttpClient(new HttpClientOptions()
+                        .setSsl(ssl)
+                        .setTrustAll(true)
+                        .setMaxPoolSize(MAX_POOL_SIZE)
+                        .setKeepAlive(true)
+                        .setIdleTimeout(IDLE_TIMEOUT)
+                        .setConnectTimeout(CONNECT_TIMEOUT)));
+    }
+
+    public void close() {
+        clients.values().forEach(client -> {
+            try {
+                client.close();
+            } catch (IllegalStateException ise) {
+                // Do not take care about exception when closing client
+            }
+        });
+        clients.clear();
+    }
+
+    static int port(URI uri) {
+        return uri.getPort() != -1 ? uri.getPort() : (HTTPS_SCHEME.equalsIgnoreCase(uri.getScheme()) ? 443 : 80);
+    }
+}
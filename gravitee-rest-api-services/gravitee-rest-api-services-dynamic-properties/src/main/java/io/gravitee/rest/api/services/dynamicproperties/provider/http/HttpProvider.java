@@ -30,13 +30,15 @@ import io.gravitee.rest.api.services.dynamicproperties.provider.http.vertx.Vertx
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
-import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpMethod;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -49,7 +51,10 @@ public class HttpProvider implements Provider {
 
     private final Logger logger = LoggerFactory.getLogger(HttpProvider.class);
 
-    private static final String HTTPS_SCHEME = "https";
+    private static final String ETAG = "ETag";
+    private static final String LAST_MODIFIED = "Last-Modified";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final String IF_MODIFIED_SINCE = "If-Modified-Since";
 
     private final HttpDynamicPropertyProviderConfiguration dpConfiguration;
 
@@ -59,6 +64,14 @@ public class HttpProvider implements Provider {
 
     private Node node;
 
+    private HttpClientPool httpClientPool;
+
+    private volatile String etag;
+
+    private volatile String lastModified;
+
+    private volatile String hash;
+
     public HttpProvider(final DynamicPropertyService dpService) {
         Objects.requireNonNull(dpService, "Service must not be null");
 
@@ -71,25 +84,13 @@ public class HttpProvider implements Provider {
         CompletableFuture<Buffer> future = new VertxCompletableFuture<>(vertx);
 
         URI requestUri = URI.create(dpConfiguration.getUrl());
-        boolean ssl = HTTPS_SCHEME.equalsIgnoreCase(requestUri.getScheme());
-
-        final HttpClientOptions options = new HttpClientOptions()
-                .setSsl(ssl)
-                .setTrustAll(true)
-                .setMaxPoolSize(1)
-                .setKeepAlive(false)
-                .setTcpKeepAlive(false)
-                .setConnectTimeout(2000);
-
-        final HttpClient httpClient = vertx.createHttpClient(options);
-
-        final int port = requestUri.getPort() != -1 ? requestUri.getPort() :
-                (HTTPS_SCHEME.equals(requestUri.getScheme()) ? 443 : 80);
 
         try {
+            final HttpClient httpClient = httpClientPool().get(requestUri);
+
             HttpClientRequest request = httpClient.request(
                     HttpMethod.GET,
-                    port,
+                    HttpClientPool.port(requestUri),
                     requestUri.getHost(),
                     requestUri.toString()
             );
@@ -97,50 +98,67 @@ public class HttpProvider implements Provider {
             request.putHeader(HttpHeaders.USER_AGENT, NodeUtils.userAgent(node));
             request.putHeader("X-Gravitee-Request-Id", RandomString.generate());
 
+            // Let the provider answer with a 304 when the properties did not change since the last poll
+            final String etag = this.etag;
+            final String lastModified = this.lastModified;
+            if (etag != null) {
+                request.putHeader(IF_NONE_MATCH, etag);
+            }
+            if (lastModified != null) {
+                request.putHeader(IF_MODIFIED_SINCE, lastModified);
+            }
+
             request.handler(response -> {
                 if (response.statusCode() == HttpStatusCode.OK_200) {
                     response.bodyHandler(buffer -> {
+                        this.etag = response.getHeader(ETAG);
+                        this.lastModified = response.getHeader(LAST_MODIFIED);
                         future.complete(buffer);
-
-                        // Close client
-                        httpClient.close();
                     });
                 } else {
+                    if (response.statusCode() == HttpStatusCode.NOT_MODIFIED_304) {
+                        logger.debug("Dynamic properties not modified since the last poll of {}", requestUri);
+                    }
                     future.complete(null);
-
-                    // Close client
-                    httpClient.close();
                 }
             });
 
-            request.exceptionHandler(event -> {
-                try {
-                    future.completeExceptionally(event);
-
-                    // Close client
-                    httpClient.close();
-                } catch (IllegalStateException ise) {
-                    // Do not take care about exception when closing client
-                }
-            });
+            request.exceptionHandler(future::completeExceptionally);
 
             request.end();
         } catch (Exception ex) {
             logger.error("Unable to look for dynamic properties", ex);
             future.completeExceptionally(ex);
-
-            // Close client
-            httpClient.close();
         }
 
         return future.thenApply(buffer -> {
             if (buffer == null) {
                 return null;
             }
-            return mapper.map(buffer.toString());
+
+            // Same content as the last poll: no need to apply the transformation and to update the API again
+            String hash = hash(buffer);
+            if (hash.equals(this.hash)) {
+                logger.debug("Dynamic properties unchanged since the last poll of {}", requestUri);
+                return null;
+            }
+            Collection<DynamicProperty> properties = mapper.map(buffer.toString());
+            this.hash = hash;
+            return properties;
         });
     }
 
+    /**
+     * Forget what has been received by the previous polls, so that the next one gets and applies the properties
+     * even if they did not change.
+     */
+    @Override
+    public void reset() {
+        this.etag = null;
+        this.lastModified = null;
+        this.hash = null;
+    }
+
     @Override
     public String name() {
         return "custom";
@@ -150,7 +168,6 @@ public class HttpProvider implements Provider {
         this.mapper = mapper;
     }
 
-
     public void setVertx(Vertx vertx) {
         this.vertx = vertx;
     }
@@ -158,4 +175,24 @@ public class HttpProvider implements Provider {
     public void setNode(Node node) {
         this.node = node;
     }
+
+    public void setHttpClientPool(HttpClientPool httpClientPool) {
+        this.httpClientPool = httpClientPool;
+    }
+
+    private HttpClientPool httpClientPool() {
+        if (httpClientPool == null) {
+            httpClientPool = new HttpClientPool(vertx);
+        }
+        return httpClientPool;
+    }
+
+    private static String hash(Buffer buffer) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(buffer.getBytes());
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException nsae) {
+            throw new IllegalStateException(nsae);
+        }
+    }
 }
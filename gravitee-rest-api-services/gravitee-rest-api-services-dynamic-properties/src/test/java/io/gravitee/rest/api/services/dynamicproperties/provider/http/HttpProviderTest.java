@@ -105,6 +105,27 @@ public class HttpProviderTest {
         verify(mapper, never()).map(anyString());
     }
 
+    @Test
+    public void shouldNotMapPropertiesAgainWhenUnchanged() throws IOException {
+        when(dynamicPropertyService.getConfiguration()).thenReturn(providerConfiguration);
+        when(providerConfiguration.getUrl()).thenReturn("http://localhost:" + wireMockRule.port() + "/success");
+        when(providerConfiguration.getSpecification()).thenReturn(IOUtils.toString(read("/jolt/specification.json"), Charset.defaultCharset()));
+
+        HttpProvider provider = new HttpProvider(dynamicPropertyService);
+        provider.setMapper(mapper);
+        provider.setVertx(Vertx.vertx());
+
+        assertNotNull(provider.get().join());
+        assertNull(provider.get().join());
+
+        verify(mapper, times(1)).map(anyString());
+
+        provider.reset();
+        assertNotNull(provider.get().join());
+
+        verify(mapper, times(2)).map(anyString());
+    }
+
     @Test(expected = CompletionException.class)
     public void shouldCallUnknownUri() throws IOException {
         when(dynamicPropertyService.getConfiguration()).thenReturn(providerConfiguration);
@@ -35,7 +35,10 @@ import org.springframework.scheduling.support.CronTrigger;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -58,8 +61,15 @@ public class ScheduledSearchIndexerService extends AbstractService implements Ru
     @Value("${services.search_indexer.enabled:true}")
     private boolean enabled;
 
+    /**
+     * Interval between two purges of the expired commands.
+     */
+    private static final long PURGE_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+
     private final AtomicLong counter = new AtomicLong(0);
 
+    private long nextPurgeAt = -1;
+
     @Autowired
     private CommandService commandService;
 
@@ -90,23 +100,35 @@ public class ScheduledSearchIndexerService extends AbstractService implements Ru
         CommandQuery query = new CommandQuery();
         query.setTo(MessageRecipient.MANAGEMENT_APIS.name());
         query.setTags(Collections.singletonList(CommandTags.DATA_TO_INDEX));
-        List<CommandEntity> messageEntities = commandService.search(query);
+
+        // Only the latest command of each document matters, the document is read again when it is indexed
+        Map<String, CommandSearchIndexerEntity> contents = new LinkedHashMap<>();
+        List<CommandEntity> messageEntities = commandService.consume(query);
         messageEntities.forEach(commandEntity -> {
-            if (commandEntity.isExpired()) {
-                commandService.delete(commandEntity.getId());
-            } else {
-                if (!commandEntity.isProcessedInCurrentNode()) {
-                    commandService.ack(commandEntity.getId());
-                    try {
-                        searchEngineService.process(
-                                mapper.readValue(commandEntity.getContent(), CommandSearchIndexerEntity.class));
-                    } catch (IOException e) {
-                        logger.error("Search Indexer has received a bad message.", e);
-                    }
-                }
+            try {
+                CommandSearchIndexerEntity content = mapper.readValue(commandEntity.getContent(), CommandSearchIndexerEntity.class);
+                String key = content.getClazz() + ':' + content.getId();
+                contents.remove(key);
+                contents.put(key, content);
+            } catch (IOException e) {
+                logger.error("Search Indexer has received a bad message.", e);
             }
         });
+        contents.values().forEach(content -> {
+            try {
+                searchEngineService.process(content);
+            } catch (Exception e) {
+                logger.error("Search Indexer has not been able to process {}", content, e);
+            }
+        });
+
+        long now = System.currentTimeMillis();
+        if (now >= nextPurgeAt) {
+            commandService.purgeExpired(query);
+            nextPurgeAt = now + PURGE_INTERVAL;
+        }
 
-        logger.debug("Search Indexer #{} ended at {}", counter.get(), Instant.now());
+        logger.debug("Search Indexer #{} ended at {}, {} commands processed as {} documents",
+                counter.get(), Instant.now(), messageEntities.size(), contents.size());
     }
 }
@@ -16,6 +16,7 @@
 package io.gravitee.rest.api.services.search;
 
 import io.gravitee.rest.api.model.command.CommandEntity;
+import io.gravitee.rest.api.model.command.CommandSearchIndexerEntity;
 import io.gravitee.rest.api.model.command.CommandTags;
 import io.gravitee.rest.api.service.CommandService;
 import io.gravitee.rest.api.service.search.SearchEngineService;
@@ -23,6 +24,7 @@ import io.gravitee.rest.api.services.search.ScheduledSearchIndexerService;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
@@ -30,6 +32,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 import java.util.Arrays;
 import java.util.Collections;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.*;
 
 /**
@@ -50,12 +53,12 @@ public class ScheduledSearchIndexerServiceTest {
 
     @Test
     public void shouldDoNothing() {
-        when(commandService.search(any())).thenReturn(Collections.emptyList());
+        when(commandService.consume(any())).thenReturn(Collections.emptyList());
 
         service.run();
 
-        verify(commandService, never()).ack(anyString());
         verify(searchEngineService, never()).process(any());
+        verify(commandService, times(1)).purgeExpired(any());
     }
 
 
@@ -69,11 +72,46 @@ public class ScheduledSearchIndexerServiceTest {
         delete.setId("deleteid");
         delete.setTags(Collections.singletonList(CommandTags.DATA_TO_INDEX));
         delete.setContent("{\"id\":\"2\"}");
-        when(commandService.search(any())).thenReturn(Arrays.asList(delete, insert));
+        when(commandService.consume(any())).thenReturn(Arrays.asList(delete, insert));
 
         service.run();
 
-        verify(commandService, times(2)).ack(anyString());
+        verify(commandService, never()).search(any());
+        verify(commandService, never()).ack(anyString());
         verify(searchEngineService, times(2)).process(any());
     }
+
+    @Test
+    public void shouldProcessLatestCommandOfEachDocument() {
+        CommandEntity insert = new CommandEntity();
+        insert.setId("insertid");
+        insert.setTags(Collections.singletonList(CommandTags.DATA_TO_INDEX));
+        insert.setContent("{\"id\":\"1\",\"clazz\":\"api\",\"action\":\"I\"}");
+        CommandEntity update = new CommandEntity();
+        update.setId("updateid");
+        update.setTags(Collections.singletonList(CommandTags.DATA_TO_INDEX));
+        update.setContent("{\"id\":\"1\",\"clazz\":\"api\",\"action\":\"I\"}");
+        CommandEntity delete = new CommandEntity();
+        delete.setId("deleteid");
+        delete.setTags(Collections.singletonList(CommandTags.DATA_TO_INDEX));
+        delete.setContent("{\"id\":\"1\",\"clazz\":\"api\",\"action\":\"D\"}");
+        when(commandService.consume(any())).thenReturn(Arrays.asList(insert, update, delete));
+
+        service.run();
+
+        ArgumentCaptor<CommandSearchIndexerEntity> contentCaptor = ArgumentCaptor.forClass(CommandSearchIndexerEntity.class);
+        verify(searchEngineService, times(1)).process(contentCaptor.capture());
+        assertEquals("D", contentCaptor.getValue().getAction());
+    }
+
+    @Test
+    public void shouldNotPurgeOnEachRun() {
+        when(commandService.consume(any())).thenReturn(Collections.emptyList());
+
+        service.run();
+        service.run();
+
+        verify(commandService, times(2)).consume(any());
+        verify(commandService, times(1)).purgeExpired(any());
+    }
 }
@@ -18,10 +18,10 @@ package io.gravitee.rest.api.services.subscriptions;
 import io.gravitee.common.service.AbstractService;
 import io.gravitee.rest.api.model.SubscriptionEntity;
 import io.gravitee.rest.api.model.SubscriptionStatus;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.subscription.SubscriptionQuery;
-import io.gravitee.rest.api.service.ApiService;
 import io.gravitee.rest.api.service.SubscriptionService;
+import io.gravitee.rest.api.service.exceptions.SubscriptionNotClosableException;
+import io.gravitee.rest.api.service.exceptions.SubscriptionNotFoundException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,15 +31,24 @@ import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.support.CronTrigger;
 
 import java.time.Instant;
-import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Date;
-import java.util.Set;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
-import static java.util.stream.Collectors.toSet;
-
 /**
+ * Closes the accepted subscriptions once their end date is reached.
+ *
+ * The subscriptions having an end date are kept in a queue ordered by end date: all of them are loaded at startup and
+ * on each resynchronization, then only the subscriptions updated since the previous run are read. Every run closes
+ * the subscriptions which are due, so the work depends on the number of expiring subscriptions and not on the total.
+ *
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author GraviteeSource Team
  */
@@ -50,6 +59,18 @@ public class ScheduledSubscriptionsService extends AbstractService implements Ru
      */
     private final Logger logger = LoggerFactory.getLogger(ScheduledSubscriptionsService.class);
 
+    /**
+     * Overlap between two reads of the updated subscriptions, to not miss an update made by another node with a
+     * slightly different clock.
+     */
+    private static final long UPDATES_OVERLAP = TimeUnit.MINUTES.toMillis(1);
+
+    /**
+     * Upper bound of the delay added by each node before closing a due subscription, so that the nodes do not all try
+     * to close it at the same time: the first one closes it and the others see it closed.
+     */
+    private static final long MAX_CLOSE_DELAY = TimeUnit.SECONDS.toMillis(30);
+
     @Autowired
     private TaskScheduler scheduler;
 
@@ -59,14 +80,28 @@ public class ScheduledSubscriptionsService extends AbstractService implements Ru
     @Value("${services.subscriptions.enabled:true}")
     private boolean enabled;
 
-    private final AtomicLong counter = new AtomicLong(0);
+    @Value("${services.subscriptions.resync:3600}")
+    private long resyncInterval;
 
-    @Autowired
-    private ApiService apiService;
+    private final AtomicLong counter = new AtomicLong(0);
 
     @Autowired
     private SubscriptionService subscriptionService;
 
+    private final long closeDelay = ThreadLocalRandom.current().nextLong(MAX_CLOSE_DELAY);
+
+    private final PriorityQueue<ExpiringSubscription> expiringSubscriptions =
+            new PriorityQueue<>(Comparator.comparingLong(ExpiringSubscription::getEndingAt));
+
+    /**
+     * Current end date of each queued subscription, the queue entries with another end date are outdated.
+     */
+    private final Map<String, Long> endingDates = new HashMap<>();
+
+    private long lastRefreshAt = -1;
+
+    private long nextResyncAt = -1;
+
     @Override
     protected String name() {
         return "Subscriptions Refresher Service";
@@ -84,24 +119,90 @@ public class ScheduledSubscriptionsService extends AbstractService implements Ru
     }
 
     @Override
-    public void run() {
+    public synchronized void run() {
         logger.debug("Refresh subscriptions #{} started at {}", counter.incrementAndGet(), Instant.now().toString());
-        final Set<String> apiIds = apiService.findAllLight().stream()
-                .map(ApiEntity::getId)
-                .collect(toSet());
+        final long now = System.currentTimeMillis();
 
         final SubscriptionQuery query = new SubscriptionQuery();
-        query.setApis(apiIds);
         query.setStatuses(Collections.singleton(SubscriptionStatus.ACCEPTED));
-        final Collection<SubscriptionEntity> subscriptions = subscriptionService.search(query);
-        final Date now = new Date();
-        subscriptions
-                .forEach(subscription -> {
-                    if (subscription.getEndingAt() != null && subscription.getEndingAt().before(now)) {
-                        subscriptionService.close(subscription.getId());
-                    }
-                });
-
-        logger.debug("Refresh subscriptions #{} ended at {}", counter.get(), Instant.now().toString());
+        if (now >= nextResyncAt) {
+            expiringSubscriptions.clear();
+            endingDates.clear();
+            nextResyncAt = now + TimeUnit.SECONDS.toMillis(resyncInterval);
+        } else {
+            query.setFrom(lastRefreshAt - UPDATES_OVERLAP);
+        }
+        subscriptionService.search(query).forEach(this::schedule);
+        lastRefreshAt = now;
+
+        closeDueSubscriptions(now);
+
+        logger.debug("Refresh subscriptions #{} ended at {}, {} subscriptions waiting for their end date",
+                counter.get(), Instant.now().toString(), endingDates.size());
+    }
+
+    private void schedule(SubscriptionEntity subscription) {
+        if (subscription.getEndingAt() == null) {
+            endingDates.remove(subscription.getId());
+            return;
+        }
+        long endingAt = subscription.getEndingAt().getTime();
+        Long previousEndingAt = endingDates.put(subscription.getId(), endingAt);
+        if (previousEndingAt == null || previousEndingAt != endingAt) {
+            expiringSubscriptions.add(new ExpiringSubscription(subscription.getId(), endingAt));
+        }
+    }
+
+    private void closeDueSubscriptions(long now) {
+        List<ExpiringSubscription> retries = new ArrayList<>();
+        while (!expiringSubscriptions.isEmpty() && expiringSubscriptions.peek().getEndingAt() + closeDelay <= now) {
+            ExpiringSubscription expiringSubscription = expiringSubscriptions.poll();
+            String subscriptionId = expiringSubscription.getId();
+            Long endingAt = endingDates.get(subscriptionId);
+            if (endingAt == null || endingAt != expiringSubscription.getEndingAt()) {
+                continue;
+            }
+            endingDates.remove(subscriptionId);
+
+            try {
+                // Read the subscription again, it may have been renewed or closed since it has been queued
+                SubscriptionEntity subscription = subscriptionService.findById(subscriptionId);
+                if (subscription.getStatus() != SubscriptionStatus.ACCEPTED || subscription.getEndingAt() == null) {
+                    continue;
+                }
+                if (subscription.getEndingAt().getTime() > now) {
+                    schedule(subscription);
+                    continue;
+                }
+                subscriptionService.close(subscriptionId);
+            } catch (SubscriptionNotFoundException | SubscriptionNotClosableException ex) {
+                logger.debug("The subscription {} has already been closed or removed", subscriptionId);
+            } catch (Exception ex) {
+                logger.error("An error occurs while trying to close the subscription {}", subscriptionId, ex);
+                // retry on the next run
+                endingDates.put(subscriptionId, expiringSubscription.getEndingAt());
+                retries.add(expiringSubscription);
+            }
+        }
+        expiringSubscriptions.addAll(retries);
+    }
+
+    private static final class ExpiringSubscription {
+
+        private final String id;
+        private final long endingAt;
+
+        private ExpiringSubscription(String id, long endingAt) {
+            this.id = id;
+            this.endingAt = endingAt;
+        }
+
+        private String getId() {
+            return id;
+        }
+
+        private long getEndingAt() {
+            return endingAt;
+        }
     }
 }
@@ -17,23 +17,27 @@ package io.gravitee.rest.api.services.subscriptions;
 
 import io.gravitee.rest.api.model.SubscriptionEntity;
 import io.gravitee.rest.api.model.SubscriptionStatus;
-import io.gravitee.rest.api.model.api.ApiEntity;
 import io.gravitee.rest.api.model.subscription.SubscriptionQuery;
-import io.gravitee.rest.api.service.ApiService;
 import io.gravitee.rest.api.service.SubscriptionService;
 import io.gravitee.rest.api.services.subscriptions.ScheduledSubscriptionsService;
 
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 
 /**
@@ -46,16 +50,18 @@ public class ScheduledSubscriptionsServiceTest {
     @InjectMocks
     ScheduledSubscriptionsService service = new ScheduledSubscriptionsService();
 
-    @Mock
-    ApiService apiService;
-
     @Mock
     SubscriptionService subscriptionService;
 
+    @Before
+    public void init() throws Exception {
+        Field resyncInterval = ScheduledSubscriptionsService.class.getDeclaredField("resyncInterval");
+        resyncInterval.setAccessible(true);
+        resyncInterval.set(service, 3600L);
+    }
+
     @Test
     public void shouldCloseOutdatedSubscriptions() {
-        ApiEntity apiEntity = mock(ApiEntity.class);
-        when(apiEntity.getId()).thenReturn("API_ID");
         SubscriptionEntity endDateInThePast = createSubscription(
                 "end_date_in_the_past",
                 SubscriptionStatus.ACCEPTED,
@@ -67,11 +73,9 @@ public class ScheduledSubscriptionsServiceTest {
         SubscriptionEntity endDateInTheFuture = createSubscription(
                 "end_date_in_the_future",
                 SubscriptionStatus.ACCEPTED,
-                new Date(Long.MAX_VALUE));
-        when(apiService.findAllLight()).thenReturn(Collections.singleton(apiEntity));
+                new Date(Long.MAX_VALUE / 2));
 
         SubscriptionQuery query = new SubscriptionQuery();
-        query.setApi(apiEntity.getId());
         query.setStatuses(Collections.singleton(SubscriptionStatus.ACCEPTED));
 
         when(subscriptionService.search(query)).
@@ -79,20 +83,73 @@ public class ScheduledSubscriptionsServiceTest {
                         endDateInThePast,
                         noEndDate,
                         endDateInTheFuture)));
+        when(subscriptionService.findById("end_date_in_the_past")).thenReturn(endDateInThePast);
 
         service.run();
 
-        verify(apiService, times(1)).findAllLight();
         verify(subscriptionService, times(1)).search(query);
         verify(subscriptionService, times(1)).close("end_date_in_the_past");
         verify(subscriptionService, never()).close("no_end_date");
         verify(subscriptionService, never()).close("end_date_in_the_future");
     }
 
+    @Test
+    public void shouldOnlyReadUpdatedSubscriptionsAfterFirstRun() {
+        when(subscriptionService.search(any())).thenReturn(Collections.emptySet());
+
+        service.run();
+        service.run();
+
+        ArgumentCaptor<SubscriptionQuery> queryCaptor = ArgumentCaptor.forClass(SubscriptionQuery.class);
+        verify(subscriptionService, times(2)).search(queryCaptor.capture());
+        List<SubscriptionQuery> queries = queryCaptor.getAllValues();
+        assertEquals(0, queries.get(0).getFrom());
+        assertTrue(queries.get(1).getFrom() > 0);
+    }
+
+    @Test
+    public void shouldNotCloseRenewedSubscription() {
+        SubscriptionEntity queued = createSubscription(
+                "renewed",
+                SubscriptionStatus.ACCEPTED,
+                new Date(0));
+        SubscriptionEntity renewed = createSubscription(
+                "renewed",
+                SubscriptionStatus.ACCEPTED,
+                new Date(Long.MAX_VALUE / 2));
+
+        when(subscriptionService.search(any())).thenReturn(Collections.singleton(queued));
+        when(subscriptionService.findById("renewed")).thenReturn(renewed);
+
+        service.run();
+
+        verify(subscriptionService, never()).close(anyString());
+    }
+
+    @Test
+    public void shouldNotCloseAlreadyClosedSubscription() {
+        SubscriptionEntity queued = createSubscription(
+                "closed",
+                SubscriptionStatus.ACCEPTED,
+                new Date(0));
+        SubscriptionEntity closed = createSubscription(
+                "closed",
+                SubscriptionStatus.CLOSED,
+                new Date(0));
+
+        when(subscriptionService.search(any())).thenReturn(Collections.singleton(queued));
+        when(subscriptionService.findById("closed")).thenReturn(closed);
+
+        service.run();
+
+        verify(subscriptionService, never()).close(anyString());
+    }
+
     private SubscriptionEntity createSubscription(String id, SubscriptionStatus status, Date endingDate) {
         SubscriptionEntity subscriptionEntity = mock(SubscriptionEntity.class);
-        when(subscriptionEntity.getId()).thenReturn(id);
-        when(subscriptionEntity.getEndingAt()).thenReturn(endingDate);
+        lenient().when(subscriptionEntity.getId()).thenReturn(id);
+        lenient().when(subscriptionEntity.getStatus()).thenReturn(status);
+        lenient().when(subscriptionEntity.getEndingAt()).thenReturn(endingDate);
         return subscriptionEntity;
     }
 }
@@ -35,22 +35,29 @@ import io.gravitee.rest.api.service.MembershipService;
 import io.gravitee.rest.api.service.UserService;
 import io.gravitee.rest.api.service.configuration.dictionary.DictionaryService;
 import io.gravitee.rest.api.service.event.DictionaryEvent;
+import io.gravitee.rest.api.service.exceptions.UserNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BinaryOperator;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -62,6 +69,7 @@ public class SyncManager {
 
     private static final int TIMEFRAME_BEFORE_DELAY = 10 * 60 * 1000;
     private static final int TIMEFRAME_AFTER_DELAY = 1 * 60 * 1000;
+    private static final int INITIAL_EVENTS_PAGE_SIZE = 500;
 
     @Autowired
     private ApiRepository apiRepository;
@@ -113,23 +121,22 @@ public class SyncManager {
 
         // Initial synchronization
         if (lastRefreshAt == -1) {
+            long startTime = System.currentTimeMillis();
+
             // Extract all registered APIs
-            List<io.gravitee.repository.management.model.Api> apis =
+            Set<String> apiIds =
                     apiRepository.search(null, new ApiFieldExclusionFilter.Builder()
                             .excludeDefinition()
-                            .excludePicture().build());
+                            .excludePicture().build())
+                            .stream()
+                            .map(Api::getId)
+                            .collect(toSet());
 
             // Get last event by API
-            apiEvents = apis
-                    .stream()
-                    .map(api -> getLastApiEvent(api.getId()))
-                    .filter(Objects::nonNull)
-                    .collect(
-                            toMap(
-                                    event -> event.getProperties().get(Event.EventProperties.API_ID.getValue()),
-                                    event -> event
-                            )
-                    );
+            apiEvents = getLastApiEvents(apiIds);
+
+            logger.info("Initial synchronization: {} APIs and {} deployment events loaded in {} ms",
+                    apiIds.size(), apiEvents.size(), System.currentTimeMillis() - startTime);
         } else {
             // Get latest API events
             List<Event> events = getLatestApiEvents(nextLastRefreshAt);
@@ -210,33 +217,54 @@ public class SyncManager {
     }
 
     private void computeApiEvents(Map<String, Event> apiEvents) {
+        long startTime = System.currentTimeMillis();
+
+        // Read the definitions of the APIs to deploy from the events, then resolve their primary owners at once
+        Map<String, Api> payloadApis = new HashMap<>();
         apiEvents.forEach((apiId, apiEvent) -> {
-            switch (apiEvent.getType()) {
+            if (apiEvent.getType() == EventType.START_API || apiEvent.getType() == EventType.PUBLISH_API) {
+                try {
+                    payloadApis.put(apiId, objectMapper.readValue(apiEvent.getPayload(), Api.class));
+                } catch (Exception e) {
+                    logger.error("Error while determining deployed APIs store into events payload", e);
+                }
+            }
+        });
+        Map<String, PrimaryOwnerEntity> primaryOwners = getPrimaryOwners(payloadApis.keySet());
+
+        int deployed = 0, updated = 0, undeployed = 0;
+        for (Map.Entry<String, Event> apiEventEntry : apiEvents.entrySet()) {
+            String apiId = apiEventEntry.getKey();
+            switch (apiEventEntry.getValue().getType()) {
                 case UNPUBLISH_API:
                 case STOP_API:
                     apiManager.undeploy(apiId);
+                    undeployed++;
                     break;
                 case START_API:
                 case PUBLISH_API:
+                    Api payloadApi = payloadApis.get(apiId);
+                    if (payloadApi == null) {
+                        break;
+                    }
                     try {
-                        // Read API definition from event
-                        io.gravitee.repository.management.model.Api payloadApi =
-                                objectMapper.readValue(apiEvent.getPayload(), io.gravitee.repository.management.model.Api.class);
-
                         // API to deploy
-                        ApiEntity apiToDeploy = convert(payloadApi);
-
-                        if (apiToDeploy != null) {
-                            // Get deployed API
-                            ApiEntity deployedApi = apiManager.get(apiToDeploy.getId());
-
-                            // API is not yet deployed, so let's do it !
-                            if (deployedApi == null) {
-                                apiManager.deploy(apiToDeploy);
-                            } else {
-                                if (deployedApi.getDeployedAt().before(apiToDeploy.getDeployedAt())) {
-                                    apiManager.update(apiToDeploy);
-                                }
+                        ApiEntity apiToDeploy = convert(payloadApi, primaryOwners.get(payloadApi.getId()));
+                        if (apiToDeploy == null) {
+                            break;
+                        }
+
+                        // Get deployed API
+                        ApiEntity deployedApi = apiManager.get(apiToDeploy.getId());
+
+                        // API is not yet deployed, so let's do it !
+                        if (deployedApi == null) {
+                            apiManager.deploy(apiToDeploy);
+                            deployed++;
+                        } else {
+                            if (deployedApi.getDeployedAt().before(apiToDeploy.getDeployedAt())) {
+                                apiManager.update(apiToDeploy);
+                                updated++;
                             }
                         }
                     } catch (Exception e) {
@@ -246,7 +274,69 @@ public class SyncManager {
                 default:
                     break;
             }
+        }
+
+        if (!apiEvents.isEmpty()) {
+            logger.debug("{} API events computed in {} ms: {} deployed, {} updated, {} undeployed",
+                    apiEvents.size(), System.currentTimeMillis() - startTime, deployed, updated, undeployed);
+        }
+    }
+
+    /**
+     * Resolve the primary owners of the given APIs at once. If they can not be resolved together, each API is resolved
+     * on its own so that a single failing API does not prevent the others from being deployed.
+     */
+    private Map<String, PrimaryOwnerEntity> getPrimaryOwners(Set<String> apiIds) {
+        if (apiIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            return findPrimaryOwners(apiIds);
+        } catch (Exception e) {
+            logger.warn("Unable to resolve the primary owners of {} APIs together, resolving them one by one", apiIds.size(), e);
+        }
+
+        Map<String, PrimaryOwnerEntity> primaryOwners = new HashMap<>(apiIds.size());
+        for (String apiId : apiIds) {
+            try {
+                MembershipEntity poMembership = membershipService.getPrimaryOwner(MembershipReferenceType.API, apiId);
+                primaryOwners.put(apiId, new PrimaryOwnerEntity(userService.findById(poMembership.getMemberId())));
+            } catch (Exception e) {
+                logger.error("Unable to resolve the primary owner of API {}", apiId, e);
+            }
+        }
+        return primaryOwners;
+    }
+
+    private Map<String, PrimaryOwnerEntity> findPrimaryOwners(Set<String> apiIds) {
+        Map<String, MembershipEntity> poMemberships = membershipService.getPrimaryOwners(MembershipReferenceType.API, apiIds);
+        List<String> userIds = poMemberships.values()
+                .stream()
+                .map(MembershipEntity::getMemberId)
+                .distinct()
+                .collect(toList());
+        if (userIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, UserEntity> users;
+        try {
+            users = userService.findByIds(userIds, false)
+                    .stream()
+                    .collect(toMap(UserEntity::getId, Function.identity()));
+        } catch (UserNotFoundException unfe) {
+            users = Collections.emptyMap();
+        }
+
+        Map<String, PrimaryOwnerEntity> primaryOwners = new HashMap<>(poMemberships.size());
+        poMemberships.forEach((apiId, poMembership) -> {
+            UserEntity user = users.get(poMembership.getMemberId());
+            if (user != null) {
+                primaryOwners.put(apiId, new PrimaryOwnerEntity(user));
+            }
         });
+        return primaryOwners;
     }
 
     private Event getLastDictionaryEvent(final String dictionary) {
@@ -279,19 +369,46 @@ public class SyncManager {
         return eventRepository.search(builder.build());
     }
 
-    private Event getLastApiEvent(final String api) {
-        final EventCriteria.Builder eventCriteriaBuilder =
-                new EventCriteria.Builder()
-                        .property(Event.EventProperties.API_ID.getValue(), api);
+    /**
+     * Get the last deployment event of each of the given APIs by reading the deployment events from the most recent one,
+     * page by page, until every API has been seen or there are no more events.
+     */
+    private Map<String, Event> getLastApiEvents(final Set<String> apiIds) {
+        if (apiIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
 
-        List<Event> events = eventRepository.search(eventCriteriaBuilder
-                        .types(EventType.PUBLISH_API, EventType.UNPUBLISH_API, EventType.START_API, EventType.STOP_API).build(),
-                new PageableBuilder().pageNumber(0).pageSize(1).build()).getContent();
+        final EventCriteria criteria = new EventCriteria.Builder()
+                .types(EventType.PUBLISH_API, EventType.UNPUBLISH_API, EventType.START_API, EventType.STOP_API)
+                .build();
+
+        Map<String, Event> lastEvents = new HashMap<>(apiIds.size());
+        int pageNumber = 0;
+        List<Event> events;
+        do {
+            events = eventRepository.search(criteria,
+                    new PageableBuilder().pageNumber(pageNumber++).pageSize(INITIAL_EVENTS_PAGE_SIZE).build()).getContent();
+
+            for (Event event : events) {
+                String apiId = event.getProperties().get(Event.EventProperties.API_ID.getValue());
+                if (apiIds.contains(apiId)) {
+                    lastEvents.putIfAbsent(apiId, event);
+                }
+            }
 
-        return (!events.isEmpty()) ? events.get(0) : null;
+            logger.debug("Initial synchronization: {} events read, last event found for {} of {} APIs",
+                    (pageNumber - 1) * INITIAL_EVENTS_PAGE_SIZE + events.size(), lastEvents.size(), apiIds.size());
+        } while (lastEvents.size() < apiIds.size() && events.size() == INITIAL_EVENTS_PAGE_SIZE);
+
+        return lastEvents;
     }
 
-    private ApiEntity convert(Api api) {
+    private ApiEntity convert(Api api, PrimaryOwnerEntity primaryOwner) {
+        if (primaryOwner == null) {
+            logger.error("No primary owner found for API {}, it is not deployed", api.getId());
+            return null;
+        }
+
         ApiEntity apiEntity = new ApiEntity();
 
         apiEntity.setId(api.getId());
@@ -336,10 +453,8 @@ public class SyncManager {
             apiEntity.setVisibility(io.gravitee.rest.api.model.Visibility.valueOf(api.getVisibility().toString()));
         }
 
-        MembershipEntity optPrimaryOwner = membershipService.getPrimaryOwner(MembershipReferenceType.API, api.getId());
-        final UserEntity user = userService.findById(optPrimaryOwner.getMemberId());
-        apiEntity.setPrimaryOwner(new PrimaryOwnerEntity(user));
-            
+        apiEntity.setPrimaryOwner(primaryOwner);
+
         return apiEntity;
     }
 }
@@ -0,0 +1,185 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.rest.api.services.sync;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.common.data.domain.Page;
+import io.gravitee.repository.management.api.ApiRepository;
+import io.gravitee.repository.management.api.DictionaryRepository;
+import io.gravitee.repository.management.api.EventRepository;
+import io.gravitee.repository.management.api.search.ApiFieldExclusionFilter;
+import io.gravitee.repository.management.api.search.EventCriteria;
+import io.gravitee.repository.management.model.Api;
+import io.gravitee.repository.management.model.Event;
+import io.gravitee.repository.management.model.EventType;
+import io.gravitee.rest.api.model.MembershipEntity;
+import io.gravitee.rest.api.model.MembershipReferenceType;
+import io.gravitee.rest.api.model.UserEntity;
+import io.gravitee.rest.api.service.MembershipService;
+import io.gravitee.rest.api.service.UserService;
+import io.gravitee.rest.api.service.exceptions.TechnicalManagementException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SyncManagerTest {
+
+    private static final int PAGE_SIZE = 500;
+
+    @InjectMocks
+    private SyncManager syncManager = new SyncManager();
+
+    @Mock
+    private ApiRepository apiRepository;
+
+    @Mock
+    private DictionaryRepository dictionaryRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private ApiManager apiManager;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @Mock
+    private MembershipService membershipService;
+
+    @Mock
+    private UserService userService;
+
+    @Test
+    public void shouldPageEventsOnInitialSynchronizationUntilHistoryIsExhausted() throws Exception {
+        when(apiRepository.search(isNull(), any(ApiFieldExclusionFilter.class)))
+                .thenReturn(Arrays.asList(api("deployed"), api("never-deployed")));
+
+        // the deployed API is only found in the first page, the never deployed one is never found
+        final List<Event> firstPage = new ArrayList<>(Collections.nCopies(PAGE_SIZE - 1, event("other", EventType.PUBLISH_API)));
+        firstPage.add(0, event("deployed", EventType.STOP_API));
+        final List<Event> fullPage = Collections.nCopies(PAGE_SIZE, event("other", EventType.PUBLISH_API));
+        final List<Event> lastPage = Collections.nCopies(10, event("other", EventType.PUBLISH_API));
+        when(eventRepository.search(any(EventCriteria.class), any()))
+                .thenReturn(new Page<>(firstPage, 0, PAGE_SIZE, Long.MAX_VALUE))
+                .thenReturn(new Page<>(fullPage, 1, PAGE_SIZE, Long.MAX_VALUE))
+                .thenReturn(new Page<>(lastPage, 2, 10, Long.MAX_VALUE));
+
+        syncManager.refresh();
+
+        // the history is read until its end, without any search by API
+        verify(eventRepository, times(3)).search(any(EventCriteria.class), argThat(pageable -> pageable != null && pageable.pageSize() == PAGE_SIZE));
+        verify(eventRepository, never()).search(any(EventCriteria.class), argThat(pageable -> pageable != null && pageable.pageSize() == 1));
+        verify(apiManager).undeploy("deployed");
+        verify(apiManager, never()).undeploy("never-deployed");
+    }
+
+    @Test
+    public void shouldResolvePrimaryOwnersOneByOneWhenBatchFails() throws Exception {
+        when(apiRepository.search(isNull(), any(ApiFieldExclusionFilter.class)))
+                .thenReturn(Arrays.asList(api("api-1"), api("api-2"), api("stopped")));
+        when(eventRepository.search(any(EventCriteria.class), any()))
+                .thenReturn(new Page<>(Arrays.asList(event("api-1", EventType.PUBLISH_API), event("api-2", EventType.PUBLISH_API),
+                        event("stopped", EventType.STOP_API)), 0, 3, 3));
+        when(objectMapper.readValue("api-1", Api.class)).thenReturn(api("api-1"));
+        when(objectMapper.readValue("api-2", Api.class)).thenReturn(api("api-2"));
+        when(membershipService.getPrimaryOwners(eq(MembershipReferenceType.API), any()))
+                .thenThrow(new TechnicalManagementException("boom", null));
+        final MembershipEntity membership = new MembershipEntity();
+        membership.setMemberId("user-1");
+        when(membershipService.getPrimaryOwner(MembershipReferenceType.API, "api-1")).thenReturn(membership);
+        when(membershipService.getPrimaryOwner(MembershipReferenceType.API, "api-2"))
+                .thenThrow(new TechnicalManagementException("boom", null));
+        final UserEntity user = new UserEntity();
+        user.setId("user-1");
+        when(userService.findById("user-1")).thenReturn(user);
+
+        syncManager.refresh();
+
+        verify(apiManager).undeploy("stopped");
+        verify(apiManager).deploy(argThat(api -> api != null && "api-1".equals(api.getId())));
+        verify(apiManager, never()).deploy(argThat(api -> api != null && "api-2".equals(api.getId())));
+    }
+
+    @Test
+    public void shouldNotDeployApiWithoutPrimaryOwner() throws Exception {
+        when(apiRepository.search(isNull(), any(ApiFieldExclusionFilter.class)))
+                .thenReturn(Arrays.asList(api("api-1"), api("api-2")));
+        when(eventRepository.search(any(EventCriteria.class), any()))
+                .thenReturn(new Page<>(Arrays.asList(event("api-1", EventType.PUBLISH_API), event("api-2", EventType.PUBLISH_API)), 0, 2, 2));
+        when(objectMapper.readValue("api-1", Api.class)).thenReturn(api("api-1"));
+        when(objectMapper.readValue("api-2", Api.class)).thenReturn(api("api-2"));
+        final MembershipEntity membership = new MembershipEntity();
+        membership.setMemberId("user-1");
+        when(membershipService.getPrimaryOwners(eq(MembershipReferenceType.API), any()))
+                .thenReturn(Collections.singletonMap("api-1", membership));
+        final UserEntity user = new UserEntity();
+        user.setId("user-1");
+        when(userService.findByIds(Collections.singletonList("user-1"), false)).thenReturn(Collections.singleton(user));
+
+        syncManager.refresh();
+
+        verify(apiManager).deploy(argThat(api -> api != null && "api-1".equals(api.getId())));
+        verify(apiManager, times(1)).deploy(any());
+        verify(userService, never()).findByIds(any());
+    }
+
+    @Test
+    public void shouldNotSearchApisOneByOneWhenHistoryIsExhausted() throws Exception {
+        when(apiRepository.search(isNull(), any(ApiFieldExclusionFilter.class)))
+                .thenReturn(Arrays.asList(api("deployed"), api("never-deployed")));
+        when(eventRepository.search(any(EventCriteria.class), any()))
+                .thenReturn(new Page<>(Collections.singletonList(event("deployed", EventType.STOP_API)), 0, 1, 1));
+
+        syncManager.refresh();
+
+        verify(eventRepository, times(1)).search(any(EventCriteria.class), any());
+        verify(apiManager).undeploy("deployed");
+    }
+
+    private Api api(String id) {
+        Api api = new Api();
+        api.setId(id);
+        return api;
+    }
+
+    private Event event(String apiId, EventType type) {
+        Event event = new Event();
+        event.setType(type);
+        event.setPayload(apiId);
+        event.setCreatedAt(new Date());
+        event.setProperties(Collections.singletonMap(Event.EventProperties.API_ID.getValue(), apiId));
+        return event;
+    }
+}